@@ -0,0 +1,87 @@
+package com.movie.rating.system.benchmark;
+
+import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the domain entities, which validates every field on each call.
+ * Timestamps are fixed so the benchmarks measure validation rather than {@link Instant#now()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainBuilderBenchmark {
+
+    private UUID movieId;
+    private UUID userId;
+    private Instant now;
+    private String plot;
+    private String review;
+
+    @Setup
+    public void setUp() {
+        movieId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        now = Instant.now();
+        plot = "A hacker learns that the world he lives in is a simulation. ".repeat(10);
+        review = "Great pacing, memorable characters and a satisfying ending. ".repeat(5);
+    }
+
+    @Benchmark
+    public Movie buildMovie() {
+        return Movie.builder()
+                .id(movieId)
+                .title("The Matrix")
+                .plot(plot)
+                .yearOfRelease(1999)
+                .createdBy(userId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public MovieRating buildMovieRating() {
+        return MovieRating.builder()
+                .id(UUID.randomUUID())
+                .movieId(movieId)
+                .userId(userId)
+                .rating(8)
+                .review(review)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public User buildUser() {
+        return User.builder()
+                .id(userId)
+                .username("benchmark_user")
+                .email("benchmark.user@example.com")
+                .passwordHash("$2a$12$abcdefghijklmnopqrstuuAbCdEfGhIjKlMnOpQrStUvWxYz01234")
+                .firstName("Bench")
+                .lastName("Mark")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.movie.rating.system.benchmark;
+
+import com.movie.rating.system.domain.port.outbound.JwtTokenService.TokenClaims;
+import com.movie.rating.system.infrastructure.outbound.security.JjwtTokenService;
+import com.movie.rating.system.infrastructure.outbound.security.TokenClaimsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the token operations on the request path: issuing a stateless access token,
+ * validating it without the claims cache, and hashing it for the blacklist lookup.
+ * See {@link JwtValidationBenchmark} for the effect of the claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890123456789012345678901234567890";
+    private static final String ISSUER = "movie-rating-system";
+    private static final Duration TOKEN_DURATION = Duration.ofHours(1);
+
+    private JjwtTokenService tokenService;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // Stateless access tokens are never stored, so none of these paths touch the repository
+        tokenService = new JjwtTokenService(null, new TokenClaimsCache(new SimpleMeterRegistry(), 0), SECRET, ISSUER, true, Duration.ofDays(7));
+        userId = UUID.randomUUID();
+        token = tokenService.generateToken(userId, "benchmark", "benchmark@example.com", TOKEN_DURATION).block();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(userId, "benchmark", "benchmark@example.com", TOKEN_DURATION).block();
+    }
+
+    @Benchmark
+    public TokenClaims validateToken() {
+        return tokenService.validateToken(token).block();
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return tokenService.hashToken(token);
+    }
+}
@@ -0,0 +1,109 @@
+package com.movie.rating.system.benchmark;
+
+import com.movie.rating.system.domain.port.outbound.JwtTokenService.TokenClaims;
+import com.movie.rating.system.infrastructure.outbound.security.JjwtTokenService;
+import com.movie.rating.system.infrastructure.outbound.security.TokenClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JWT validation paths for a token that is presented repeatedly:
+ * the previous per-call parser, the prebuilt parser, and the prebuilt parser with the claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "mySecretKey123456789012345678901234567890123456789012345678901234567890";
+    private static final String ISSUER = "movie-rating-system";
+
+    private SecretKey secretKey;
+    private String token;
+    private JjwtTokenService uncachedTokenService;
+    private JjwtTokenService cachedTokenService;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        token = Jwts.builder()
+                .subject(userId.toString())
+                .issuer(ISSUER)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .claim("user_id", userId.toString())
+                .claim("username", "benchmark")
+                .claim("email", "benchmark@example.com")
+                .claim("token_type", "access")
+                .signWith(secretKey)
+                .compact();
+
+        // Validation never touches the repository, so none is needed here
+        uncachedTokenService = new JjwtTokenService(null, new TokenClaimsCache(new SimpleMeterRegistry(), 0), SECRET, ISSUER, true, Duration.ofDays(7));
+        cachedTokenService = new JjwtTokenService(null, new TokenClaimsCache(new SimpleMeterRegistry(), 10_000), SECRET, ISSUER, true, Duration.ofDays(7));
+    }
+
+    @Benchmark
+    public TokenClaims perCallParser() {
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+
+        Map<String, Object> customClaims = new HashMap<>(claims);
+        customClaims.remove("sub");
+        customClaims.remove("iss");
+        customClaims.remove("iat");
+        customClaims.remove("exp");
+        customClaims.remove("user_id");
+        customClaims.remove("username");
+        customClaims.remove("email");
+
+        return new TokenClaims(
+                UUID.fromString(claims.get("user_id", String.class)),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant(),
+                customClaims
+        );
+    }
+
+    @Benchmark
+    public TokenClaims prebuiltParser() {
+        return uncachedTokenService.validateToken(token).block();
+    }
+
+    @Benchmark
+    public TokenClaims prebuiltParserWithClaimsCache() {
+        return cachedTokenService.validateToken(token).block();
+    }
+}
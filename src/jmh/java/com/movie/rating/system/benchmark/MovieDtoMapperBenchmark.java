@@ -0,0 +1,73 @@
+package com.movie.rating.system.benchmark;
+
+import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.infrastructure.inbound.web.dto.mapper.MovieDtoMapper;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping domain entities to the web response DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieDtoMapperBenchmark {
+
+    private final MovieDtoMapper mapper = new MovieDtoMapper();
+
+    private Movie movie;
+    private MovieRating movieRating;
+
+    @Setup
+    public void setUp() {
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        movie = Movie.builder()
+                .id(UUID.randomUUID())
+                .title("The Matrix")
+                .plot("A hacker learns that the world he lives in is a simulation. ".repeat(10))
+                .yearOfRelease(1999)
+                .createdBy(userId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        movieRating = MovieRating.builder()
+                .id(UUID.randomUUID())
+                .movieId(movie.getId())
+                .userId(userId)
+                .rating(8)
+                .review("Great pacing, memorable characters and a satisfying ending. ".repeat(5))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public MovieResponse movieToResponse() {
+        return mapper.toResponse(movie);
+    }
+
+    @Benchmark
+    public MovieRatingResponse movieRatingToResponse() {
+        return mapper.toResponse(movieRating);
+    }
+}
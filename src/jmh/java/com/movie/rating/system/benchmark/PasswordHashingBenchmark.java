@@ -0,0 +1,54 @@
+package com.movie.rating.system.benchmark;
+
+import com.movie.rating.system.infrastructure.outbound.security.BCryptPasswordHashingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures BCrypt hashing and verification at several cost factors.
+ * Each step of the cost factor doubles the work, and the service runs at 12 in production,
+ * so this shows what raising or lowering it would cost per login and registration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "benchmarkPassword123!";
+
+    @Param({"4", "10", "12", "13"})
+    private int strength;
+
+    private BCryptPasswordHashingService passwordHashingService;
+    private String hashedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordHashingService = new BCryptPasswordHashingService(strength);
+        hashedPassword = passwordHashingService.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordHashingService.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return passwordHashingService.verifyPassword(PASSWORD, hashedPassword);
+    }
+}
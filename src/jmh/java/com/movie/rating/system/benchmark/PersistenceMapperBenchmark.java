@@ -0,0 +1,119 @@
+package com.movie.rating.system.benchmark;
+
+import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.User;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.UserEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.mapper.MoviePersistenceMapper;
+import com.movie.rating.system.infrastructure.outbound.persistence.mapper.MovieRatingPersistenceMapper;
+import com.movie.rating.system.infrastructure.outbound.persistence.mapper.UserEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the persistence mappers in both directions.
+ * Mapping to the domain goes through the validating builders, so it is expected to cost more
+ * than mapping to the entity records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceMapperBenchmark {
+
+    private final MoviePersistenceMapper movieMapper = new MoviePersistenceMapper();
+    private final MovieRatingPersistenceMapper movieRatingMapper = new MovieRatingPersistenceMapper();
+    private final UserEntityMapper userMapper = new UserEntityMapper();
+
+    private Movie movie;
+    private MovieEntity movieEntity;
+    private MovieRating movieRating;
+    private MovieRatingEntity movieRatingEntity;
+    private User user;
+    private UserEntity userEntity;
+
+    @Setup
+    public void setUp() {
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        movie = Movie.builder()
+                .id(UUID.randomUUID())
+                .title("The Matrix")
+                .plot("A hacker learns that the world he lives in is a simulation. ".repeat(10))
+                .yearOfRelease(1999)
+                .createdBy(userId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        movieRating = MovieRating.builder()
+                .id(UUID.randomUUID())
+                .movieId(movie.getId())
+                .userId(userId)
+                .rating(8)
+                .review("Great pacing, memorable characters and a satisfying ending. ".repeat(5))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        user = User.builder()
+                .id(userId)
+                .username("benchmark_user")
+                .email("benchmark.user@example.com")
+                .passwordHash("$2a$12$abcdefghijklmnopqrstuuAbCdEfGhIjKlMnOpQrStUvWxYz01234")
+                .firstName("Bench")
+                .lastName("Mark")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        movieEntity = movieMapper.toEntity(movie);
+        movieRatingEntity = movieRatingMapper.toEntity(movieRating);
+        userEntity = userMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public MovieEntity movieToEntity() {
+        return movieMapper.toEntity(movie);
+    }
+
+    @Benchmark
+    public Movie movieToDomain() {
+        return movieMapper.toDomain(movieEntity);
+    }
+
+    @Benchmark
+    public MovieRatingEntity movieRatingToEntity() {
+        return movieRatingMapper.toEntity(movieRating);
+    }
+
+    @Benchmark
+    public MovieRating movieRatingToDomain() {
+        return movieRatingMapper.toDomain(movieRatingEntity);
+    }
+
+    @Benchmark
+    public UserEntity userToEntity() {
+        return userMapper.toEntity(user);
+    }
+
+    @Benchmark
+    public User userToDomain() {
+        return userMapper.toDomain(userEntity);
+    }
+}
@@ -0,0 +1,134 @@
+package com.movie.rating.system.application.service;
+
+import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.exception.ValidationException;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository.BatchInsertOutcome;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of ImportMovieRatingsUseCase.
+ * Each row is validated with the MovieRating rules, and valid rows are written in batches
+ * with one multi-row insert per batch. Batches are written one at a time and the next batch
+ * is only read once the previous one is written, so a slow database slows down reading the
+ * upload instead of buffering it. A failed batch fails only its own rows.
+ * Rows for other users are only accepted from trusted importers.
+ */
+@Slf4j
+@Service
+public class ImportMovieRatingsService implements ImportMovieRatingsUseCase {
+
+    private final MovieRatingRepository movieRatingRepository;
+    private final int batchSize;
+    private final Set<UUID> trustedImporters;
+
+    public ImportMovieRatingsService(MovieRatingRepository movieRatingRepository,
+                                     @Value("${app.ratings.import.batch-size:500}") int batchSize,
+                                     @Value("${app.ratings.import.trusted-importers:}") Set<UUID> trustedImporters) {
+        this.movieRatingRepository = movieRatingRepository;
+        this.batchSize = batchSize;
+        this.trustedImporters = Set.copyOf(trustedImporters);
+    }
+
+    @Override
+    public Flux<ImportRowResult> importRatings(UUID importedBy, Flux<ImportRatingRow> rows) {
+        log.info("Starting rating import by user {}", importedBy);
+        AtomicLong imported = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        return rows
+                .map(row -> prepare(importedBy, row))
+                .buffer(batchSize)
+                .concatMap(this::write, 1)
+                .doOnNext(result -> (result.isImported() ? imported : rejected).incrementAndGet())
+                .doOnComplete(() -> log.info("Rating import by user {} completed: {} imported, {} rejected",
+                        importedBy, imported.get(), rejected.get()))
+                .doOnError(error -> log.error("Rating import by user {} failed after {} imported, {} rejected",
+                        importedBy, imported.get(), rejected.get(), error));
+    }
+
+    /**
+     * Build the rating of a row, or the result that rejects it.
+     */
+    private PreparedRow prepare(UUID importedBy, ImportRatingRow row) {
+        if (row.error() != null) {
+            return PreparedRow.rejected(row.line(), ImportStatus.INVALID, row.error());
+        }
+
+        UUID userId = row.userId() != null ? row.userId() : importedBy;
+        if (!userId.equals(importedBy) && !trustedImporters.contains(importedBy)) {
+            return PreparedRow.rejected(row.line(), ImportStatus.FORBIDDEN, "Not allowed to import ratings of other users");
+        }
+
+        try {
+            MovieRating rating = MovieRating.builder()
+                    .movieId(row.movieId())
+                    .userId(userId)
+                    .rating(row.rating())
+                    .review(row.review())
+                    .createdAt(row.createdAt())
+                    .build();
+            return new PreparedRow(row.line(), rating, null);
+        } catch (ValidationException e) {
+            return PreparedRow.rejected(row.line(), ImportStatus.INVALID, e.getMessage());
+        }
+    }
+
+    /**
+     * Insert the valid ratings of a batch and report every row of it in input order.
+     */
+    private Flux<ImportRowResult> write(List<PreparedRow> batch) {
+        List<MovieRating> ratings = batch.stream()
+                .filter(row -> row.rating() != null)
+                .map(PreparedRow::rating)
+                .toList();
+
+        return movieRatingRepository.insertAllIfNoActiveRating(ratings)
+                .map(outcomes -> {
+                    List<ImportRowResult> results = new ArrayList<>(batch.size());
+                    int next = 0;
+                    for (PreparedRow row : batch) {
+                        results.add(row.rating() == null ? row.rejection() : toResult(row.line(), outcomes.get(next++)));
+                    }
+                    return results;
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to write a batch of {} imported ratings", ratings.size(), error);
+                    return Mono.just(batch.stream()
+                            .map(row -> row.rating() == null ? row.rejection()
+                                    : new ImportRowResult(row.line(), ImportStatus.FAILED, "Batch could not be written"))
+                            .toList());
+                })
+                .flatMapIterable(results -> results);
+    }
+
+    private static ImportRowResult toResult(long line, BatchInsertOutcome outcome) {
+        return switch (outcome) {
+            case INSERTED -> new ImportRowResult(line, ImportStatus.IMPORTED, null);
+            case DUPLICATE -> new ImportRowResult(line, ImportStatus.DUPLICATE, "User has already rated this movie");
+            case MOVIE_NOT_FOUND -> new ImportRowResult(line, ImportStatus.MOVIE_NOT_FOUND, "Movie not found");
+            case USER_NOT_FOUND -> new ImportRowResult(line, ImportStatus.USER_NOT_FOUND, "User not found");
+        };
+    }
+
+    /**
+     * A row ready to be written, or rejected before reaching the database.
+     */
+    private record PreparedRow(long line, MovieRating rating, ImportRowResult rejection) {
+
+        static PreparedRow rejected(long line, ImportStatus status, String message) {
+            return new PreparedRow(line, null, new ImportRowResult(line, status, message));
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.movie.rating.system.application.service;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
 import com.movie.rating.system.domain.exception.*;
 import com.movie.rating.system.domain.port.inbound.ManageMovieRatingUseCase;
 import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
-import com.movie.rating.system.domain.port.outbound.MovieRepository;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository.RatingSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,37 +25,20 @@ import java.util.UUID;
 public class ManageMovieRatingService implements ManageMovieRatingUseCase {
 
     private final MovieRatingRepository movieRatingRepository;
-    private final MovieRepository movieRepository;
 
     @Override
-    @Transactional
     public Mono<MovieRating> createRating(CreateRatingCommand command) {
         log.info("Creating rating for movie {} by user {}", command.movieId(), command.userId());
         
-        // Check if movie exists
-        return movieRepository.existsById(command.movieId())
-                .flatMap(movieExists -> {
-                    if (!movieExists) {
-                        return Mono.error(new MovieNotFoundException(command.movieId()));
-                    }
-                    
-                    // Check if user already rated this movie
-                    return movieRatingRepository.existsActiveByMovieIdAndUserId(command.movieId(), command.userId());
-                })
-                .flatMap(ratingExists -> {
-                    if (ratingExists) {
-                        return Mono.error(new DuplicateRatingException(command.movieId(), command.userId()));
-                    }
-                    
-                    MovieRating rating = MovieRating.builder()
-                            .movieId(command.movieId())
-                            .userId(command.userId())
-                            .rating(command.rating())
-                            .review(command.review())
-                            .build();
-                    
-                    return movieRatingRepository.save(rating);
-                })
+        // Movie existence and uniqueness are enforced by the database in the same statement
+        return Mono.fromCallable(() -> MovieRating.builder()
+                        .movieId(command.movieId())
+                        .userId(command.userId())
+                        .rating(command.rating())
+                        .review(command.review())
+                        .build())
+                .flatMap(movieRatingRepository::insertIfNoActiveRating)
+                .switchIfEmpty(Mono.error(() -> new DuplicateRatingException(command.movieId(), command.userId())))
                 .doOnSuccess(savedRating -> log.info("Successfully created rating with ID: {}", savedRating.getId()))
                 .doOnError(error -> log.error("Failed to create rating for movie {} by user {}", 
                     command.movieId(), command.userId(), error));
@@ -102,20 +86,14 @@ public class ManageMovieRatingService implements ManageMovieRatingUseCase {
     }
 
     @Override
-    @Transactional
     public Mono<Void> deleteRating(UUID ratingId, UUID userId) {
         log.info("Deleting rating {} by user {}", ratingId, userId);
         
-        return movieRatingRepository.findById(ratingId)
-                .switchIfEmpty(Mono.error(new MovieRatingNotFoundException(ratingId)))
-                .flatMap(rating -> {
-                    // Check authorization - only the rating creator can delete
-                    if (!rating.getUserId().equals(userId)) {
-                        return Mono.error(new UnauthorizedMovieOperationException(
-                            rating.getMovieId(), userId, "delete rating"));
-                    }
-                    return movieRatingRepository.deleteById(ratingId);
-                })
+        // Authorization - only the rating creator can delete - is part of the update statement
+        return movieRatingRepository.deactivateByIdAndUserId(ratingId, userId)
+                .flatMap(deactivated -> deactivated
+                        ? Mono.<Void>empty()
+                        : explainFailedDeletion(ratingId, userId))
                 .doOnSuccess(result -> log.info("Successfully deleted rating {}", ratingId))
                 .doOnError(error -> log.error("Failed to delete rating {} by user {}", ratingId, userId, error));
     }
@@ -187,53 +165,11 @@ public class ManageMovieRatingService implements ManageMovieRatingUseCase {
     public Mono<MovieRatingStatistics> getMovieRatingStatistics(UUID movieId) {
         log.debug("Getting rating statistics for movie: {}", movieId);
         
-        return Mono.zip(
-                movieRatingRepository.countActiveByMovieId(movieId),
-                movieRatingRepository.calculateAverageRatingByMovieId(movieId).defaultIfEmpty(0.0),
-                movieRatingRepository.findActiveByMovieId(movieId)
-                        .collectList()
-                        .map(ratings -> {
-                            if (ratings.isEmpty()) {
-                                return new MovieRatingStatistics(
-                                    movieId, 0, 0.0, 0, 0, 0,
-                                    new RatingDistribution(0, 0, 0, 0, 0, 0, 0, 0, 0, 0)
-                                );
-                            }
-                            
-                            int min = ratings.stream().mapToInt(MovieRating::getRating).min().orElse(0);
-                            int max = ratings.stream().mapToInt(MovieRating::getRating).max().orElse(0);
-                            long withReviews = ratings.stream()
-                                    .filter(r -> r.getReview() != null && !r.getReview().trim().isEmpty())
-                                    .count();
-                            
-                            // Create distribution
-                            long[] distribution = new long[10];
-                            ratings.forEach(r -> {
-                                if (r.getRating() >= 1 && r.getRating() <= 10) {
-                                    distribution[r.getRating() - 1]++;
-                                }
-                            });
-                            
-                            RatingDistribution dist = new RatingDistribution(
-                                distribution[0], distribution[1], distribution[2], distribution[3], distribution[4],
-                                distribution[5], distribution[6], distribution[7], distribution[8], distribution[9]
-                            );
-                            
-                            return new MovieRatingStatistics(movieId, ratings.size(), 0.0, min, max, withReviews, dist);
-                        })
-        ).map(tuple -> {
-            long totalRatings = tuple.getT1();
-            double averageRating = tuple.getT2();
-            MovieRatingStatistics baseStats = tuple.getT3();
-            
-            return new MovieRatingStatistics(
-                movieId, totalRatings, averageRating,
-                baseStats.minRating(), baseStats.maxRating(),
-                baseStats.ratingsWithReviews(), baseStats.distribution()
-            );
-        })
-        .doOnSuccess(stats -> log.debug("Successfully retrieved rating statistics for movie: {}", movieId))
-        .doOnError(error -> log.error("Failed to get rating statistics for movie: {}", movieId, error));
+        return movieRatingRepository.findAggregateByMovieId(movieId)
+                .defaultIfEmpty(MovieRatingAggregate.empty(movieId))
+                .map(this::toMovieRatingStatistics)
+                .doOnSuccess(stats -> log.debug("Successfully retrieved rating statistics for movie: {}", movieId))
+                .doOnError(error -> log.error("Failed to get rating statistics for movie: {}", movieId, error));
     }
 
     @Override
@@ -289,13 +225,9 @@ public class ManageMovieRatingService implements ManageMovieRatingUseCase {
         log.debug("Retrieving top {} rated movies with minimum {} ratings", limit, minRatingCount);
         
         return movieRatingRepository.findTopRatedMovies(limit, minRatingCount)
-                .flatMap(movieId -> 
-                    Mono.zip(
-                        Mono.just(movieId),
-                        movieRatingRepository.calculateAverageRatingByMovieId(movieId).defaultIfEmpty(0.0),
-                        movieRatingRepository.countActiveByMovieId(movieId)
-                    ).map(tuple -> new TopRatedMovie(tuple.getT1(), tuple.getT2(), tuple.getT3()))
-                )
+                .map(ranked -> new TopRatedMovie(
+                        ranked.movieId(), ranked.title(), ranked.averageRating(),
+                        ranked.ratingCount(), ranked.weightedRating()))
                 .doOnComplete(() -> log.debug("Successfully retrieved top rated movies"))
                 .doOnError(error -> log.error("Failed to retrieve top rated movies", error));
     }
@@ -330,6 +262,18 @@ public class ManageMovieRatingService implements ManageMovieRatingUseCase {
         return movieRatingRepository.findActiveByMovieIdWithPagination(movieId, offset, limit);
     }
     
+    /**
+     * Get ratings for a movie with keyset pagination, starting after the given position.
+     * Without a position the newest ratings are returned.
+     */
+    public Flux<MovieRating> getRatingsByMovieAfter(UUID movieId, Instant createdAt, UUID id, int limit) {
+        log.debug("Getting ratings for movie {} after createdAt: {}, id: {}, limit: {}", movieId, createdAt, id, limit);
+        if (createdAt == null || id == null) {
+            return movieRatingRepository.findActiveByMovieIdWithPagination(movieId, 0, limit);
+        }
+        return movieRatingRepository.findActiveByMovieIdAfter(movieId, createdAt, id, limit);
+    }
+    
     /**
      * Get ratings by user with pagination.
      */
@@ -338,11 +282,109 @@ public class ManageMovieRatingService implements ManageMovieRatingUseCase {
         return movieRatingRepository.findActiveByUserIdWithPagination(userId, offset, limit);
     }
     
+    /**
+     * Get ratings by user with keyset pagination, starting after the given position.
+     * Without a position the newest ratings are returned.
+     */
+    public Flux<MovieRating> getRatingsByUserAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        log.debug("Getting ratings for user {} after createdAt: {}, id: {}, limit: {}", userId, createdAt, id, limit);
+        if (createdAt == null || id == null) {
+            return movieRatingRepository.findActiveByUserIdWithPagination(userId, 0, limit);
+        }
+        return movieRatingRepository.findActiveByUserIdAfter(userId, createdAt, id, limit);
+    }
+    
+    /**
+     * Get summaries of ratings by movie with pagination, without the review.
+     */
+    public Flux<RatingSummary> getRatingSummariesByMovie(UUID movieId, int offset, int limit) {
+        log.debug("Getting rating summaries for movie {} with offset: {}, limit: {}", movieId, offset, limit);
+        return movieRatingRepository.findActiveSummariesByMovieIdWithPagination(movieId, offset, limit);
+    }
+    
+    /**
+     * Get summaries of ratings for a movie with keyset pagination, starting after the given position.
+     * Without a position the newest ratings are returned.
+     */
+    public Flux<RatingSummary> getRatingSummariesByMovieAfter(UUID movieId, Instant createdAt, UUID id, int limit) {
+        log.debug("Getting rating summaries for movie {} after createdAt: {}, id: {}, limit: {}", movieId, createdAt, id, limit);
+        if (createdAt == null || id == null) {
+            return movieRatingRepository.findActiveSummariesByMovieIdWithPagination(movieId, 0, limit);
+        }
+        return movieRatingRepository.findActiveSummariesByMovieIdAfter(movieId, createdAt, id, limit);
+    }
+    
+    /**
+     * Get summaries of ratings by user with pagination, without the review.
+     */
+    public Flux<RatingSummary> getRatingSummariesByUser(UUID userId, int offset, int limit) {
+        log.debug("Getting rating summaries for user {} with offset: {}, limit: {}", userId, offset, limit);
+        return movieRatingRepository.findActiveSummariesByUserIdWithPagination(userId, offset, limit);
+    }
+    
+    /**
+     * Get summaries of ratings by user with keyset pagination, starting after the given position.
+     * Without a position the newest ratings are returned.
+     */
+    public Flux<RatingSummary> getRatingSummariesByUserAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        log.debug("Getting rating summaries for user {} after createdAt: {}, id: {}, limit: {}", userId, createdAt, id, limit);
+        if (createdAt == null || id == null) {
+            return movieRatingRepository.findActiveSummariesByUserIdWithPagination(userId, 0, limit);
+        }
+        return movieRatingRepository.findActiveSummariesByUserIdAfter(userId, createdAt, id, limit);
+    }
+    
+    /**
+     * Get summaries of recent ratings across all users, without the review.
+     */
+    public Flux<RatingSummary> getRecentRatingSummaries(int limit) {
+        log.debug("Getting {} recent rating summaries", limit);
+        return movieRatingRepository.findRecentSummaries(limit);
+    }
+    
     /**
      * Get average rating for a movie.
      */
     public Mono<Double> getAverageRating(UUID movieId) {
         log.debug("Getting average rating for movie {}", movieId);
-        return movieRatingRepository.calculateAverageRatingByMovieId(movieId);
+        return movieRatingRepository.findAggregateByMovieId(movieId)
+                .filter(MovieRatingAggregate::hasRatings)
+                .map(MovieRatingAggregate::getAverageRating);
+    }
+
+    private MovieRatingStatistics toMovieRatingStatistics(MovieRatingAggregate aggregate) {
+        RatingDistribution distribution = new RatingDistribution(
+                aggregate.getCountForRating(1), aggregate.getCountForRating(2),
+                aggregate.getCountForRating(3), aggregate.getCountForRating(4),
+                aggregate.getCountForRating(5), aggregate.getCountForRating(6),
+                aggregate.getCountForRating(7), aggregate.getCountForRating(8),
+                aggregate.getCountForRating(9), aggregate.getCountForRating(10)
+        );
+
+        return new MovieRatingStatistics(
+                aggregate.getMovieId(),
+                aggregate.getRatingCount(),
+                aggregate.getAverageRating(),
+                aggregate.getMinRating() != null ? aggregate.getMinRating() : 0,
+                aggregate.getMaxRating() != null ? aggregate.getMaxRating() : 0,
+                aggregate.getRatingsWithReviews(),
+                distribution
+        );
+    }
+
+    /**
+     * Look up why a rating could not be deleted. Only reached when the update matched no row.
+     */
+    private Mono<Void> explainFailedDeletion(UUID ratingId, UUID userId) {
+        return movieRatingRepository.findById(ratingId)
+                .switchIfEmpty(Mono.error(new MovieRatingNotFoundException(ratingId)))
+                .flatMap(rating -> {
+                    if (!rating.getUserId().equals(userId)) {
+                        return Mono.error(new UnauthorizedMovieOperationException(
+                            rating.getMovieId(), userId, "delete rating"));
+                    }
+                    // Already deleted
+                    return Mono.empty();
+                });
     }
 }
@@ -4,6 +4,7 @@ import com.movie.rating.system.domain.entity.Movie;
 import com.movie.rating.system.domain.exception.*;
 import com.movie.rating.system.domain.port.inbound.ManageMovieUseCase;
 import com.movie.rating.system.domain.port.outbound.MovieRepository;
+import com.movie.rating.system.domain.port.outbound.MovieRepository.MovieSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -99,20 +100,11 @@ public class ManageMovieService implements ManageMovieUseCase {
     }
 
     @Override
-    @Transactional
     public Mono<Void> deactivateMovie(DeactivateMovieCommand command) {
         log.info("Deactivating movie {} by user {}", command.movieId(), command.deactivatedBy());
         
-        return movieRepository.findById(command.movieId())
-                .switchIfEmpty(Mono.error(new MovieNotFoundException(command.movieId())))
-                .flatMap(movie -> {
-                    // Check authorization - only creator can deactivate
-                    if (!movie.getCreatedBy().equals(command.deactivatedBy())) {
-                        return Mono.error(new UnauthorizedMovieOperationException(
-                            command.movieId(), command.deactivatedBy(), "deactivate"));
-                    }
-                    return movieRepository.deleteById(command.movieId());
-                })
+        // Authorization - only creator can deactivate - is part of the update statement
+        return deactivateOwnedMovie(command.movieId(), command.deactivatedBy(), "deactivate")
                 .doOnSuccess(result -> log.info("Successfully deactivated movie {}", command.movieId()))
                 .doOnError(error -> log.error("Failed to deactivate movie {} by user {}", 
                     command.movieId(), command.deactivatedBy(), error));
@@ -197,6 +189,21 @@ public class ManageMovieService implements ManageMovieUseCase {
                 .doOnError(error -> log.error("Failed to search movies by plot keyword: {}", keyword, error));
     }
 
+    /**
+     * Ranked text search over title and plot with keyset pagination.
+     * Without a position the best matches are returned.
+     */
+    public Flux<MovieRepository.MovieSearchHit> searchMoviesByText(String query, Double afterRelevance, UUID afterId, int limit) {
+        log.debug("Searching movies by text: {} after relevance: {}, id: {}, limit: {}", query, afterRelevance, afterId, limit);
+        
+        Flux<MovieRepository.MovieSearchHit> hits = afterRelevance == null || afterId == null
+                ? movieRepository.searchByText(query, limit)
+                : movieRepository.searchByTextAfter(query, afterRelevance, afterId, limit);
+        return hits
+                .doOnComplete(() -> log.debug("Successfully searched movies by text: {}", query))
+                .doOnError(error -> log.error("Failed to search movies by text: {}", query, error));
+    }
+
     @Override
     public Flux<Movie> searchMovies(SearchMoviesCommand command) {
         log.debug("Searching movies with criteria: {}", command);
@@ -254,6 +261,38 @@ public class ManageMovieService implements ManageMovieUseCase {
         return movieRepository.findAllActiveWithPagination(offset, limit);
     }
     
+    /**
+     * Get active movies with keyset pagination, starting after the given position.
+     * Without a position the newest movies are returned.
+     */
+    public Flux<Movie> getActiveMoviesAfter(Instant createdAt, UUID id, int limit) {
+        log.debug("Getting active movies after createdAt: {}, id: {}, limit: {}", createdAt, id, limit);
+        if (createdAt == null || id == null) {
+            return movieRepository.findAllActiveWithPagination(0, limit);
+        }
+        return movieRepository.findAllActiveAfter(createdAt, id, limit);
+    }
+    
+    /**
+     * Get summaries of active movies with pagination, without the plot.
+     */
+    public Flux<MovieSummary> getActiveMovieSummaries(int offset, int limit) {
+        log.debug("Getting active movie summaries with offset: {}, limit: {}", offset, limit);
+        return movieRepository.findActiveSummariesWithPagination(offset, limit);
+    }
+    
+    /**
+     * Get summaries of active movies with keyset pagination, starting after the given position.
+     * Without a position the newest movies are returned.
+     */
+    public Flux<MovieSummary> getActiveMovieSummariesAfter(Instant createdAt, UUID id, int limit) {
+        log.debug("Getting active movie summaries after createdAt: {}, id: {}, limit: {}", createdAt, id, limit);
+        if (createdAt == null || id == null) {
+            return movieRepository.findActiveSummariesWithPagination(0, limit);
+        }
+        return movieRepository.findActiveSummariesAfter(createdAt, id, limit);
+    }
+    
     /**
      * Get active movie count.
      */
@@ -268,16 +307,31 @@ public class ManageMovieService implements ManageMovieUseCase {
     public Mono<Void> deleteMovie(UUID movieId, UUID userId) {
         log.info("Deleting movie {} by user {}", movieId, userId);
         
+        return deactivateOwnedMovie(movieId, userId, "delete")
+                .doOnSuccess(v -> log.info("Successfully deleted movie {}", movieId))
+                .doOnError(error -> log.error("Failed to delete movie {} by user {}", movieId, userId, error));
+    }
+
+    private Mono<Void> deactivateOwnedMovie(UUID movieId, UUID userId, String operation) {
+        return movieRepository.deactivateByIdAndCreatedBy(movieId, userId)
+                .flatMap(deactivated -> deactivated
+                        ? Mono.<Void>empty()
+                        : explainFailedDeactivation(movieId, userId, operation));
+    }
+
+    /**
+     * Look up why a movie could not be deactivated. Only reached when the update matched no row.
+     */
+    private Mono<Void> explainFailedDeactivation(UUID movieId, UUID userId, String operation) {
         return movieRepository.findById(movieId)
                 .switchIfEmpty(Mono.error(new MovieNotFoundException(movieId)))
                 .flatMap(movie -> {
                     if (!movie.getCreatedBy().equals(userId)) {
-                        return Mono.error(new UnauthorizedMovieOperationException(movieId, userId, "delete"));
+                        return Mono.error(new UnauthorizedMovieOperationException(movieId, userId, operation));
                     }
-                    return movieRepository.deleteById(movieId);
-                })
-                .doOnSuccess(v -> log.info("Successfully deleted movie {}", movieId))
-                .doOnError(error -> log.error("Failed to delete movie {} by user {}", movieId, userId, error));
+                    // Already inactive
+                    return Mono.empty();
+                });
     }
 
     private Mono<Movie> updateMovieFields(Movie existingMovie, UpdateMovieCommand command) {
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -27,6 +28,7 @@ public class ManageUserProfileService implements ManageUserProfileUseCase {
 
     private final UserRepository userRepository;
     private final PasswordHashingService passwordHashingService;
+    private final Scheduler passwordHashingScheduler;
 
     /**
      * Retrieves a user profile by ID.
@@ -245,6 +247,7 @@ public class ManageUserProfileService implements ManageUserProfileUseCase {
         log.debug("Verifying current password for user: {}", user.getUsername());
         
         return Mono.fromCallable(() -> passwordHashingService.verifyPassword(currentPassword, user.getPasswordHash()))
+                .subscribeOn(passwordHashingScheduler)
                 .flatMap(isValid -> isValid 
                         ? Mono.<Void>empty()
                         : Mono.error(new InvalidPasswordException()))
@@ -259,6 +262,7 @@ public class ManageUserProfileService implements ManageUserProfileUseCase {
         log.debug("Hashing new password for user: {}", user.getUsername());
         
         return Mono.fromCallable(() -> passwordHashingService.hashPassword(newPassword))
+                .subscribeOn(passwordHashingScheduler)
                 .map(hashedPassword -> user.toBuilder()
                         .passwordHash(hashedPassword)
                         .updatedAt(Instant.now())
@@ -5,12 +5,13 @@ import com.movie.rating.system.domain.exception.EmailAlreadyExistsException;
 import com.movie.rating.system.domain.exception.UsernameAlreadyExistsException;
 import com.movie.rating.system.domain.port.inbound.RegisterUserUseCase;
 import com.movie.rating.system.domain.port.outbound.PasswordHashingService;
+import com.movie.rating.system.domain.port.outbound.UserAvailabilityIndex;
 import com.movie.rating.system.domain.port.outbound.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Instant;
 
@@ -26,10 +27,14 @@ public class RegisterUserService implements RegisterUserUseCase {
 
     private final UserRepository userRepository;
     private final PasswordHashingService passwordHashingService;
+    private final Scheduler passwordHashingScheduler;
+    private final UserAvailabilityIndex availabilityIndex;
 
     /**
-     * Registers a new user after validating uniqueness constraints.
-     * This operation is transactional to ensure data consistency.
+     * Registers a new user with a single insert.
+     * Uniqueness is enforced by the UNIQUE constraints on username and email rather than
+     * by checking first, which saves two round-trips and also catches racing registrations.
+     * It is not wrapped in a transaction, so no connection is held while the password is hashed.
      *
      * @param command the registration command containing user details
      * @return Mono containing the registered user
@@ -37,13 +42,11 @@ public class RegisterUserService implements RegisterUserUseCase {
      * @throws EmailAlreadyExistsException if email is already taken
      */
     @Override
-    @Transactional
     public Mono<User> registerUser(RegisterUserCommand command) {
         log.info("Attempting to register user with username: {} and email: {}", 
                 command.username(), command.email());
 
-        return validateUserUniqueness(command)
-                .then(createAndSaveUser(command))
+        return createAndSaveUser(command)
                 .doOnSuccess(user -> log.info("Successfully registered user with ID: {} and username: {}", 
                         user.getId(), user.getUsername()))
                 .doOnError(error -> log.error("Failed to register user with username: {} and email: {}", 
@@ -52,6 +55,8 @@ public class RegisterUserService implements RegisterUserUseCase {
 
     /**
      * Validates if a username is available for registration.
+     * Names the availability index does not know are reported as available without a query;
+     * a registration that races with one on another node still fails on the unique constraint.
      *
      * @param username the username to validate
      * @return Mono<Boolean> indicating if username is available (true) or taken (false)
@@ -64,7 +69,12 @@ public class RegisterUserService implements RegisterUserUseCase {
             return Mono.just(false);
         }
 
-        return userRepository.existsByUsername(username.trim())
+        String trimmed = username.trim();
+        if (!availabilityIndex.mightContainUsername(trimmed)) {
+            return Mono.just(true);
+        }
+
+        return userRepository.existsByUsername(trimmed)
                 .map(exists -> !exists)
                 .doOnSuccess(available -> log.debug("Username '{}' availability: {}", username, available))
                 .doOnError(error -> log.error("Error checking username availability for: {}", username, error));
@@ -72,6 +82,7 @@ public class RegisterUserService implements RegisterUserUseCase {
 
     /**
      * Validates if an email is available for registration.
+     * Emails the availability index does not know are reported as available without a query.
      *
      * @param email the email to validate
      * @return Mono<Boolean> indicating if email is available (true) or taken (false)
@@ -84,54 +95,30 @@ public class RegisterUserService implements RegisterUserUseCase {
             return Mono.just(false);
         }
 
-        return userRepository.existsByEmail(email.trim().toLowerCase())
+        String normalized = email.trim().toLowerCase();
+        if (!availabilityIndex.mightContainEmail(normalized)) {
+            return Mono.just(true);
+        }
+
+        return userRepository.existsByEmail(normalized)
                 .map(exists -> !exists)
                 .doOnSuccess(available -> log.debug("Email '{}' availability: {}", email, available))
                 .doOnError(error -> log.error("Error checking email availability for: {}", email, error));
     }
 
-    /**
-     * Validates that both username and email are unique before registration.
-     * This method performs both checks concurrently for better performance.
-     *
-     * @param command the registration command to validate
-     * @return Mono<Void> that completes successfully if validation passes
-     * @throws UsernameAlreadyExistsException if username is taken
-     * @throws EmailAlreadyExistsException if email is taken
-     */
-    private Mono<Void> validateUserUniqueness(RegisterUserCommand command) {
-        log.debug("Validating uniqueness for username: {} and email: {}", 
-                command.username(), command.email());
-
-        String trimmedUsername = command.username().trim();
-        String normalizedEmail = command.email().trim().toLowerCase();
-
-        Mono<Boolean> usernameCheck = userRepository.existsByUsername(trimmedUsername)
-                .flatMap(exists -> exists 
-                        ? Mono.error(new UsernameAlreadyExistsException(command.username()))
-                        : Mono.just(false));
-
-        Mono<Boolean> emailCheck = userRepository.existsByEmail(normalizedEmail)
-                .flatMap(exists -> exists 
-                        ? Mono.error(new EmailAlreadyExistsException(command.email()))
-                        : Mono.just(false));
-
-        return Mono.zip(usernameCheck, emailCheck)
-                .then()
-                .doOnSuccess(result -> log.debug("Uniqueness validation passed for username: {} and email: {}", 
-                        command.username(), command.email()));
-    }
-
     /**
      * Creates a new user entity with hashed password and saves it to the repository.
      *
      * @param command the registration command containing user details
      * @return Mono containing the saved user
+     * @throws UsernameAlreadyExistsException if username is taken
+     * @throws EmailAlreadyExistsException if email is taken
      */
     private Mono<User> createAndSaveUser(RegisterUserCommand command) {
         log.debug("Creating and saving user with username: {}", command.username());
 
         return Mono.fromCallable(() -> passwordHashingService.hashPassword(command.password()))
+                .subscribeOn(passwordHashingScheduler)
                 .doOnSuccess(hashedPassword -> log.debug("Password hashed successfully for user: {}", command.username()))
                 .doOnError(error -> log.error("Failed to hash password for user: {}", command.username(), error))
                 .flatMap(hashedPassword -> {
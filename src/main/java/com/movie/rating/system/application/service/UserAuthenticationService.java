@@ -11,9 +11,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Service implementation for user authentication operations
@@ -25,6 +27,7 @@ public class UserAuthenticationService implements UserAuthenticationUseCase {
 
     private final UserRepository userRepository;
     private final PasswordHashingService passwordHashingService;
+    private final Scheduler passwordHashingScheduler;
 
     @Override
     public Mono<User> authenticate(AuthenticationCommand command) {
@@ -46,10 +49,10 @@ public class UserAuthenticationService implements UserAuthenticationUseCase {
                     if (!user.isActive()) {
                         return Mono.just(false);
                     }
-                    boolean isValid = passwordHashingService.verifyPassword(command.password(), user.getPasswordHash());
-                    return Mono.just(isValid);
+                    return verifyPassword(command.password(), user.getPasswordHash());
                 })
-                .onErrorReturn(false)
+                // A full password hashing pool means overload, not bad credentials: let it surface as 503
+                .onErrorResume(error -> !(error instanceof RejectedExecutionException), error -> Mono.just(false))
                 .doOnSuccess(valid -> log.debug("Credential validation result for {}: {}", 
                         command.usernameOrEmail(), valid));
     }
@@ -98,11 +101,17 @@ public class UserAuthenticationService implements UserAuthenticationUseCase {
         }
 
         // Verify password
-        boolean passwordValid = passwordHashingService.verifyPassword(password, user.getPasswordHash());
-        if (!passwordValid) {
-            return Mono.error(new AuthenticationFailedException("Invalid username/email or password"));
-        }
-        
-        return Mono.just(user);
+        return verifyPassword(password, user.getPasswordHash())
+                .flatMap(passwordValid -> passwordValid
+                        ? Mono.just(user)
+                        : Mono.<User>error(new AuthenticationFailedException("Invalid username/email or password")));
+    }
+
+    /**
+     * Verify a password against its hash on the password hashing scheduler
+     */
+    private Mono<Boolean> verifyPassword(String password, String passwordHash) {
+        return Mono.fromCallable(() -> passwordHashingService.verifyPassword(password, passwordHash))
+                .subscribeOn(passwordHashingScheduler);
     }
 }
@@ -0,0 +1,84 @@
+package com.movie.rating.system.domain.entity;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Precomputed rating aggregate for a movie, covering its active ratings only.
+ * The distribution holds the number of ratings per value, index 0 being a rating of 1.
+ */
+@Getter
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class MovieRatingAggregate {
+    public static final int RATING_VALUES = 10;
+
+    private final UUID movieId;
+    private final long ratingCount;
+    private final long ratingSum;
+    private final Integer minRating;
+    private final Integer maxRating;
+    private final long ratingsWithReviews;
+    private final List<Long> distribution;
+    private final Instant updatedAt;
+
+    /**
+     * Custom builder to handle validation and defaults
+     */
+    public static MovieRatingAggregateBuilder builder() {
+        return new MovieRatingAggregateBuilder() {
+            public MovieRatingAggregate build() {
+                Objects.requireNonNull(super.movieId, "Movie ID cannot be null");
+
+                if (super.distribution == null) {
+                    super.distribution = List.of(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+                }
+                if (super.distribution.size() != RATING_VALUES) {
+                    throw new IllegalArgumentException("Distribution must have " + RATING_VALUES + " entries");
+                }
+                super.distribution = List.copyOf(super.distribution);
+
+                return super.build();
+            }
+        };
+    }
+
+    /**
+     * Aggregate for a movie without any active ratings
+     */
+    public static MovieRatingAggregate empty(UUID movieId) {
+        return builder().movieId(movieId).build();
+    }
+
+    /**
+     * Average of all active ratings, 0.0 if there are none
+     */
+    public double getAverageRating() {
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
+
+    /**
+     * Number of active ratings with the given value
+     */
+    public long getCountForRating(int rating) {
+        if (rating < 1 || rating > RATING_VALUES) {
+            return 0;
+        }
+        return distribution.get(rating - 1);
+    }
+
+    /**
+     * Check if the movie has any active ratings
+     */
+    public boolean hasRatings() {
+        return ratingCount > 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.movie.rating.system.domain.port.inbound;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Use case interface for bulk import of movie ratings, e.g. when migrating from legacy systems.
+ */
+public interface ImportMovieRatingsUseCase {
+
+    /**
+     * Import a stream of ratings.
+     * Rows are consumed only as fast as they are written, so the import holds a bounded
+     * number of rows in memory however large the input is.
+     *
+     * @param importedBy the user running the import
+     * @param rows       the rows to import, in input order
+     * @return Flux of the result of every row, in input order
+     */
+    Flux<ImportRowResult> importRatings(UUID importedBy, Flux<ImportRatingRow> rows);
+
+    /**
+     * One row of an import.
+     * A row without a user ID rates as the importing user. A row that could not be read
+     * carries the reason in {@code error} and is reported as invalid.
+     */
+    record ImportRatingRow(
+            long line,
+            UUID movieId,
+            UUID userId,
+            Integer rating,
+            String review,
+            Instant createdAt,
+            String error
+    ) {
+        public static ImportRatingRow unreadable(long line, String error) {
+            return new ImportRatingRow(line, null, null, null, null, null, error);
+        }
+    }
+
+    /**
+     * Result of importing one row.
+     */
+    record ImportRowResult(long line, ImportStatus status, String message) {
+
+        public boolean isImported() {
+            return status == ImportStatus.IMPORTED;
+        }
+    }
+
+    /**
+     * Outcome of importing one row.
+     */
+    enum ImportStatus {
+        IMPORTED,
+        INVALID,
+        FORBIDDEN,
+        DUPLICATE,
+        MOVIE_NOT_FOUND,
+        USER_NOT_FOUND,
+        FAILED
+    }
+}
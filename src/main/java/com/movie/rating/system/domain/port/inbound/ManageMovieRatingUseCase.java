@@ -161,7 +161,7 @@ public interface ManageMovieRatingUseCase {
      *
      * @param limit the maximum number of movies to return
      * @param minRatingCount the minimum number of ratings required
-     * @return Flux of top-rated movie IDs with their average ratings
+     * @return Flux of top-rated movies with their average and weighted ratings, best first
      */
     Flux<TopRatedMovie> getTopRatedMovies(int limit, int minRatingCount);
 
@@ -231,7 +231,9 @@ public interface ManageMovieRatingUseCase {
      */
     record TopRatedMovie(
             UUID movieId,
+            String title,
             double averageRating,
-            long totalRatings
+            long totalRatings,
+            double weightedRating
     ) {}
 }
@@ -5,6 +5,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -21,10 +22,10 @@ public interface JwtTokenRepository {
     Mono<JwtToken> save(JwtToken jwtToken);
 
     /**
-     * Find token by token hash
+     * Find an unexpired token by token hash
      *
      * @param tokenHash the hashed token value
-     * @return token if found
+     * @return token if found and not expired
      */
     Mono<JwtToken> findByTokenHash(String tokenHash);
 
@@ -55,7 +56,7 @@ public interface JwtTokenRepository {
     Mono<JwtToken> revokeByTokenHash(String tokenHash, String reason);
 
     /**
-     * Revoke all tokens for a user
+     * Revoke all tokens for a user, including stateless access tokens through the user's watermark
      *
      * @param userId the user ID
      * @param reason the revocation reason
@@ -64,7 +65,8 @@ public interface JwtTokenRepository {
     Mono<Long> revokeAllTokensForUser(UUID userId, String reason);
 
     /**
-     * Revoke all tokens of specific type for a user
+     * Revoke all tokens of specific type for a user. Revoking access tokens includes stateless
+     * access tokens through the user's watermark.
      *
      * @param userId the user ID
      * @param tokenType the token type to revoke
@@ -82,12 +84,65 @@ public interface JwtTokenRepository {
     Mono<Boolean> isTokenRevoked(String tokenHash);
 
     /**
-     * Delete expired tokens (cleanup)
+     * Find revoked tokens that have not expired yet
      *
-     * @param cutoffTime tokens expired before this time
-     * @return number of deleted tokens
+     * @param revokedSince only include tokens revoked at or after this time
+     * @return flux of revoked, unexpired tokens
+     */
+    Flux<JwtToken> findRevokedUnexpiredTokens(Instant revokedSince);
+
+    /**
+     * Revoke all access tokens of a user issued before the given time by advancing the user's watermark
+     *
+     * @param userId        the user ID
+     * @param revokedBefore access tokens issued before this time become invalid
+     * @return completion signal
+     */
+    Mono<Void> revokeAccessTokensIssuedBefore(UUID userId, Instant revokedBefore);
+
+    /**
+     * Check if an access token is revoked by the user's watermark
+     *
+     * @param userId   the user ID
+     * @param issuedAt the token issue time
+     * @return true if the token was issued before the user's watermark
+     */
+    Mono<Boolean> isAccessTokenRevoked(UUID userId, Instant issuedAt);
+
+    /**
+     * Find access token watermarks changed since the given time
+     *
+     * @param updatedSince only include watermarks changed at or after this time
+     * @param revokedAfter only include watermarks later than this time
+     * @return flux of watermarks
+     */
+    Flux<AccessTokenWatermark> findAccessTokenWatermarks(Instant updatedSince, Instant revokedAfter);
+
+    /**
+     * Delete access token watermarks that no unexpired access token can be issued before (cleanup)
+     *
+     * @param revokedBefore watermarks at or before this time are deleted
+     * @return number of deleted watermarks
+     */
+    Mono<Integer> deleteAccessTokenWatermarksBefore(Instant revokedBefore);
+
+    /**
+     * Create the missing daily partitions for tokens expiring in a range of UTC days,
+     * so tokens can be stored before they are issued (storage maintenance)
+     *
+     * @param from first expiry day
+     * @param to   last expiry day, inclusive
+     * @return number of partitions created
      */
-    Mono<Long> deleteExpiredTokens(Instant cutoffTime);
+    Mono<Integer> createPartitions(LocalDate from, LocalDate to);
+
+    /**
+     * Drop the daily partitions of tokens expiring before a UTC day (retention cleanup)
+     *
+     * @param day tokens expiring before this day are dropped
+     * @return number of partitions dropped
+     */
+    Mono<Integer> dropPartitionsBefore(LocalDate day);
 
     /**
      * Delete all tokens for a user (for user deletion)
@@ -98,10 +153,10 @@ public interface JwtTokenRepository {
     Mono<Long> deleteAllTokensForUser(UUID userId);
 
     /**
-     * Find token by ID
+     * Find an unexpired token by ID
      *
      * @param id the token ID
-     * @return token if found
+     * @return token if found and not expired
      */
     Mono<JwtToken> findById(UUID id);
 
@@ -112,4 +167,9 @@ public interface JwtTokenRepository {
      * @return count of active tokens
      */
     Mono<Long> countActiveTokensForUser(UUID userId);
+
+    /**
+     * Per-user access token revocation watermark
+     */
+    record AccessTokenWatermark(UUID userId, Instant revokedBefore) {}
 }
@@ -17,7 +17,7 @@ public interface JwtTokenService {
      * @param userId the user ID
      * @param username the username
      * @param email the user email
-     * @param duration token validity duration
+     * @param duration token validity duration, at most the refresh token lifetime
      * @return generated token
      */
     Mono<String> generateToken(UUID userId, String username, String email, Duration duration);
@@ -28,7 +28,7 @@ public interface JwtTokenService {
      * @param userId the user ID
      * @param username the username
      * @param email the user email
-     * @param duration token validity duration
+     * @param duration token validity duration, at most the refresh token lifetime
      * @param customClaims additional claims to include
      * @return generated token
      */
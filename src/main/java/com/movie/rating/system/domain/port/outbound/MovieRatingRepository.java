@@ -1,10 +1,12 @@
 package com.movie.rating.system.domain.port.outbound;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,6 +23,28 @@ public interface MovieRatingRepository {
      */
     Mono<MovieRating> save(MovieRating movieRating);
 
+    /**
+     * Insert a new movie rating in a single statement, unless the user already has an
+     * active rating for the movie. A previously deleted rating of the same user for the
+     * same movie is reactivated with the new values.
+     *
+     * @param movieRating the movie rating to insert
+     * @return Mono containing the inserted rating, or empty if an active rating already exists;
+     *         errors with MovieNotFoundException if the movie does not exist
+     */
+    Mono<MovieRating> insertIfNoActiveRating(MovieRating movieRating);
+
+    /**
+     * Insert a batch of movie ratings in a single statement, applying the rules of
+     * {@link #insertIfNoActiveRating(MovieRating)} to each of them. A rating for a movie or
+     * user that does not exist is skipped instead of failing the batch, and a rating for the
+     * same movie and user as an earlier one in the batch counts as a duplicate.
+     *
+     * @param movieRatings the movie ratings to insert
+     * @return Mono containing the outcome for each rating, in the order given
+     */
+    Mono<List<BatchInsertOutcome>> insertAllIfNoActiveRating(List<MovieRating> movieRatings);
+
     /**
      * Find a movie rating by its ID.
      *
@@ -114,6 +138,16 @@ public interface MovieRatingRepository {
      */
     Mono<Void> deleteById(UUID id);
 
+    /**
+     * Deactivate an active rating in a single statement, only if it belongs to the given user.
+     *
+     * @param id the rating ID
+     * @param userId the ID of the user deleting the rating
+     * @return Mono containing true if the rating was deactivated, false if no active rating
+     *         with that ID belongs to the user
+     */
+    Mono<Boolean> deactivateByIdAndUserId(UUID id, UUID userId);
+
     /**
      * Calculate average rating for a specific movie.
      *
@@ -122,6 +156,15 @@ public interface MovieRatingRepository {
      */
     Mono<Double> calculateAverageRatingByMovieId(UUID movieId);
 
+    /**
+     * Find the precomputed rating aggregate for a specific movie.
+     * Aggregates are kept up to date on every rating write, so reading them costs a single row lookup.
+     *
+     * @param movieId the movie ID
+     * @return Mono containing the aggregate, empty if the movie has never been rated
+     */
+    Mono<MovieRatingAggregate> findAggregateByMovieId(UUID movieId);
+
     /**
      * Count total number of active ratings for a specific movie.
      *
@@ -139,13 +182,16 @@ public interface MovieRatingRepository {
     Mono<Long> countActiveByUserId(UUID userId);
 
     /**
-     * Find top-rated movies based on average rating.
+     * Find top-rated movies ranked by weighted rating.
+     * The weighted rating pulls each movie's average towards the mean of all ratings, using
+     * the minimum rating count as the weight of that prior, so a movie with only a few high
+     * ratings does not outrank one with many consistently good ratings.
      *
      * @param limit the maximum number of movies to return
      * @param minRatingCount the minimum number of ratings required for a movie to be included
-     * @return Flux of movie IDs ordered by average rating (highest first)
+     * @return Flux of ranked movies ordered by weighted rating (highest first)
      */
-    Flux<UUID> findTopRatedMovies(int limit, int minRatingCount);
+    Flux<RankedMovie> findTopRatedMovies(int limit, int minRatingCount);
 
     /**
      * Find ratings for a movie with pagination support.
@@ -157,6 +203,17 @@ public interface MovieRatingRepository {
      */
     Flux<MovieRating> findActiveByMovieIdWithPagination(UUID movieId, int offset, int limit);
 
+    /**
+     * Find ratings for a movie created before the given position, newest first (keyset pagination).
+     *
+     * @param movieId the movie ID
+     * @param createdAt the creation time of the last rating of the previous page
+     * @param id the ID of the last rating of the previous page
+     * @param limit the maximum number of records to return
+     * @return Flux of ratings following the given position
+     */
+    Flux<MovieRating> findActiveByMovieIdAfter(UUID movieId, Instant createdAt, UUID id, int limit);
+
     /**
      * Find ratings by a user with pagination support.
      *
@@ -167,6 +224,17 @@ public interface MovieRatingRepository {
      */
     Flux<MovieRating> findActiveByUserIdWithPagination(UUID userId, int offset, int limit);
 
+    /**
+     * Find ratings by a user created before the given position, newest first (keyset pagination).
+     *
+     * @param userId the user ID
+     * @param createdAt the creation time of the last rating of the previous page
+     * @param id the ID of the last rating of the previous page
+     * @param limit the maximum number of records to return
+     * @return Flux of ratings following the given position
+     */
+    Flux<MovieRating> findActiveByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit);
+
     /**
      * Find recent ratings across all users.
      *
@@ -175,6 +243,57 @@ public interface MovieRatingRepository {
      */
     Flux<MovieRating> findRecentRatings(int limit);
 
+    /**
+     * Find summaries of ratings for a movie with pagination support, newest first.
+     * Summaries leave out the review, so listings do not read or transfer it.
+     *
+     * @param movieId the movie ID
+     * @param offset the number of records to skip
+     * @param limit the maximum number of records to return
+     * @return Flux of rating summaries with pagination
+     */
+    Flux<RatingSummary> findActiveSummariesByMovieIdWithPagination(UUID movieId, int offset, int limit);
+
+    /**
+     * Find summaries of ratings for a movie created before the given position, newest first (keyset pagination).
+     *
+     * @param movieId the movie ID
+     * @param createdAt the creation time of the last rating of the previous page
+     * @param id the ID of the last rating of the previous page
+     * @param limit the maximum number of records to return
+     * @return Flux of rating summaries following the given position
+     */
+    Flux<RatingSummary> findActiveSummariesByMovieIdAfter(UUID movieId, Instant createdAt, UUID id, int limit);
+
+    /**
+     * Find summaries of ratings by a user with pagination support, newest first.
+     *
+     * @param userId the user ID
+     * @param offset the number of records to skip
+     * @param limit the maximum number of records to return
+     * @return Flux of rating summaries with pagination
+     */
+    Flux<RatingSummary> findActiveSummariesByUserIdWithPagination(UUID userId, int offset, int limit);
+
+    /**
+     * Find summaries of ratings by a user created before the given position, newest first (keyset pagination).
+     *
+     * @param userId the user ID
+     * @param createdAt the creation time of the last rating of the previous page
+     * @param id the ID of the last rating of the previous page
+     * @param limit the maximum number of records to return
+     * @return Flux of rating summaries following the given position
+     */
+    Flux<RatingSummary> findActiveSummariesByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit);
+
+    /**
+     * Find summaries of recent ratings across all users.
+     *
+     * @param limit the maximum number of ratings to return
+     * @return Flux of recent rating summaries ordered by creation date (newest first)
+     */
+    Flux<RatingSummary> findRecentSummaries(int limit);
+
     /**
      * Find ratings by rating value.
      *
@@ -182,4 +301,24 @@ public interface MovieRatingRepository {
      * @return Flux of ratings with the specified rating value
      */
     Flux<MovieRating> findActiveByRating(Integer rating);
+
+    /**
+     * Movie ranking entry with the rating figures it was ranked by
+     */
+    record RankedMovie(UUID movieId, String title, double averageRating, long ratingCount, double weightedRating) {}
+
+    /**
+     * Rating listing entry without the review
+     */
+    record RatingSummary(UUID id, UUID movieId, UUID userId, Integer rating, Instant createdAt) {}
+
+    /**
+     * Outcome of inserting one rating of a batch
+     */
+    enum BatchInsertOutcome {
+        INSERTED,
+        DUPLICATE,
+        MOVIE_NOT_FOUND,
+        USER_NOT_FOUND
+    }
 }
@@ -4,6 +4,7 @@ import com.movie.rating.system.domain.entity.Movie;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -69,10 +70,10 @@ public interface MovieRepository {
     Flux<Movie> findByYearOfReleaseBetween(Integer startYear, Integer endYear);
 
     /**
-     * Find movies by plot content (case-insensitive search).
+     * Find movies by plot keywords (full-text search).
      *
-     * @param plotKeyword the keyword to search in plot
-     * @return Flux of movies with plot containing the keyword
+     * @param plotKeyword the keywords to search in plot
+     * @return Flux of movies whose plot contains all keywords
      */
     Flux<Movie> findByPlotContainingIgnoreCase(String plotKeyword);
 
@@ -101,6 +102,16 @@ public interface MovieRepository {
      */
     Mono<Void> deleteById(UUID id);
 
+    /**
+     * Deactivate an active movie in a single statement, only if it was created by the given user.
+     *
+     * @param id the movie ID
+     * @param userId the ID of the user deactivating the movie
+     * @return Mono containing true if the movie was deactivated, false if no active movie
+     *         with that ID is owned by the user
+     */
+    Mono<Boolean> deactivateByIdAndCreatedBy(UUID id, UUID userId);
+
     /**
      * Count total number of active movies.
      *
@@ -133,6 +144,36 @@ public interface MovieRepository {
      */
     Flux<Movie> findAllActiveWithPagination(int offset, int limit);
 
+    /**
+     * Find active movies created before the given position, newest first (keyset pagination).
+     *
+     * @param createdAt the creation time of the last movie of the previous page
+     * @param id the ID of the last movie of the previous page
+     * @param limit the maximum number of records to return
+     * @return Flux of movies following the given position
+     */
+    Flux<Movie> findAllActiveAfter(Instant createdAt, UUID id, int limit);
+
+    /**
+     * Find summaries of active movies with pagination support, newest first.
+     * Summaries leave out the plot, so listings do not read or transfer it.
+     *
+     * @param offset the number of records to skip
+     * @param limit the maximum number of records to return
+     * @return Flux of movie summaries with pagination
+     */
+    Flux<MovieSummary> findActiveSummariesWithPagination(int offset, int limit);
+
+    /**
+     * Find summaries of active movies created before the given position, newest first (keyset pagination).
+     *
+     * @param createdAt the creation time of the last movie of the previous page
+     * @param id the ID of the last movie of the previous page
+     * @param limit the maximum number of records to return
+     * @return Flux of movie summaries following the given position
+     */
+    Flux<MovieSummary> findActiveSummariesAfter(Instant createdAt, UUID id, int limit);
+
     /**
      * Search movies by multiple criteria.
      *
@@ -142,4 +183,36 @@ public interface MovieRepository {
      * @return Flux of movies matching the criteria
      */
     Flux<Movie> searchMovies(String titlePattern, Integer yearOfRelease, UUID createdBy);
+
+    /**
+     * Search active movies by free text over title and plot, best matches first.
+     * Titles also match approximately, so small typos still find the movie.
+     *
+     * @param query the search text
+     * @param limit the maximum number of results to return
+     * @return Flux of matching movies with their relevance scores
+     */
+    Flux<MovieSearchHit> searchByText(String query, int limit);
+
+    /**
+     * Continue a text search after the given result (keyset pagination).
+     *
+     * @param query the search text
+     * @param relevance the relevance of the last result of the previous page
+     * @param id the ID of the last result of the previous page
+     * @param limit the maximum number of results to return
+     * @return Flux of matching movies ranked below the given result
+     */
+    Flux<MovieSearchHit> searchByTextAfter(String query, double relevance, UUID id, int limit);
+
+    /**
+     * Movie matched by a text search together with its relevance score
+     */
+    record MovieSearchHit(Movie movie, double relevance) {}
+
+    /**
+     * Movie listing entry without the plot, with the movie's rating figures
+     */
+    record MovieSummary(UUID id, String title, Integer yearOfRelease, Instant createdAt,
+                        double averageRating, long ratingCount) {}
 }
@@ -0,0 +1,23 @@
+package com.movie.rating.system.domain.port.outbound;
+
+/**
+ * Port for a fast pre-check of taken usernames and emails.
+ * The index may lag behind users registered on other nodes, so it only backs the advisory
+ * availability check; uniqueness itself is enforced by the database.
+ */
+public interface UserAvailabilityIndex {
+
+    /**
+     * Check whether a username may be taken
+     * @param username the username, compared exactly
+     * @return false if the username is not known to be taken and no query is needed
+     */
+    boolean mightContainUsername(String username);
+
+    /**
+     * Check whether an email may be taken
+     * @param email the email, compared ignoring case
+     * @return false if the email is not known to be taken and no query is needed
+     */
+    boolean mightContainEmail(String email);
+}
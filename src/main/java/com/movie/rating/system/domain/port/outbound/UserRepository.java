@@ -14,7 +14,9 @@ public interface UserRepository {
     /**
      * Save a user entity
      * @param user the user to save
-     * @return Mono containing the saved user
+     * @return Mono containing the saved user, or an error if the username or email is taken
+     * @throws com.movie.rating.system.domain.exception.UsernameAlreadyExistsException if the username is taken
+     * @throws com.movie.rating.system.domain.exception.EmailAlreadyExistsException if the email is taken
      */
     Mono<User> save(User user);
 
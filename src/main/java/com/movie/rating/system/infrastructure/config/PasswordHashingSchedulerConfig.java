@@ -0,0 +1,63 @@
+package com.movie.rating.system.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration for the scheduler used for password hashing and verification.
+ * BCrypt is CPU bound and must never run on the Netty event loop, so all hashing work is
+ * moved to a fixed pool sized to the available processors. The queue is bounded: when it
+ * is full new work is rejected with a {@link java.util.concurrent.RejectedExecutionException},
+ * which the web layer maps to 503 Service Unavailable.
+ */
+@Slf4j
+@Configuration
+public class PasswordHashingSchedulerConfig {
+
+    @Value("${app.security.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.security.password-hashing.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("Creating password hashing scheduler with {} threads and queue capacity {}", poolSize, queueCapacity);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+        return Schedulers.fromExecutorService(monitored, "password-hashing");
+    }
+
+    private ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
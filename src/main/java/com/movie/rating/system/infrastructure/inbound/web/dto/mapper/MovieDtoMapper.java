@@ -6,12 +6,16 @@ import com.movie.rating.system.domain.port.inbound.ManageMovieUseCase.CreateMovi
 import com.movie.rating.system.domain.port.inbound.ManageMovieUseCase.UpdateMovieCommand;
 import com.movie.rating.system.domain.port.inbound.ManageMovieRatingUseCase.CreateRatingCommand;
 import com.movie.rating.system.domain.port.inbound.ManageMovieRatingUseCase.UpdateRatingCommand;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository.RatingSummary;
+import com.movie.rating.system.domain.port.outbound.MovieRepository.MovieSummary;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRatingRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.UpdateMovieRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.UpdateMovieRatingRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieResponse;
 import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingSummaryResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieSummaryResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -55,6 +59,17 @@ public class MovieDtoMapper {
         );
     }
 
+    public MovieSummaryResponse toSummaryResponse(MovieSummary movie) {
+        return new MovieSummaryResponse(
+                movie.id(),
+                movie.title(),
+                movie.yearOfRelease(),
+                movie.createdAt(),
+                movie.averageRating(),
+                movie.ratingCount()
+        );
+    }
+
     // Movie Rating mappings
     public CreateRatingCommand toCreateCommand(CreateMovieRatingRequest request, UUID userId) {
         return new CreateRatingCommand(
@@ -86,4 +101,14 @@ public class MovieDtoMapper {
                 movieRating.getUpdatedAt()
         );
     }
+
+    public MovieRatingSummaryResponse toSummaryResponse(RatingSummary rating) {
+        return new MovieRatingSummaryResponse(
+                rating.id(),
+                rating.movieId(),
+                rating.userId(),
+                rating.rating(),
+                rating.createdAt()
+        );
+    }
 }
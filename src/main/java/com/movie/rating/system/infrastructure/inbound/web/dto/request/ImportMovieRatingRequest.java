@@ -0,0 +1,28 @@
+package com.movie.rating.system.infrastructure.inbound.web.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One line of an NDJSON rating import. CSV imports use the same fields as column names.
+ */
+@Schema(description = "One rating of a bulk import")
+public record ImportMovieRatingRequest(
+        @Schema(description = "ID of the rated movie", example = "123e4567-e89b-12d3-a456-426614174000", requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID movieId,
+
+        @Schema(description = "ID of the rating user, defaults to the importing user", example = "123e4567-e89b-12d3-a456-426614174001")
+        UUID userId,
+
+        @Schema(description = "Rating score from 1 to 10", example = "8", requiredMode = Schema.RequiredMode.REQUIRED, minimum = "1", maximum = "10")
+        Integer rating,
+
+        @Schema(description = "Optional review text", example = "Holds up well")
+        String review,
+
+        @Schema(description = "Original rating time, defaults to the time of import", example = "2015-06-01T18:30:00Z")
+        Instant createdAt
+) {
+}
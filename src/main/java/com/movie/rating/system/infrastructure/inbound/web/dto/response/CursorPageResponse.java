@@ -0,0 +1,19 @@
+package com.movie.rating.system.infrastructure.inbound.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of a keyset-paginated listing.
+ */
+@Schema(description = "Page of results with a cursor to the next page")
+public record CursorPageResponse<T>(
+        @Schema(description = "Items of this page")
+        List<T> items,
+
+        @Schema(description = "Cursor to pass as 'after' to fetch the next page, absent on the last page",
+                example = "MjAyMy0xMi0wMVQxMDozMDowMFosMTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAw")
+        String nextCursor
+) {
+}
@@ -0,0 +1,16 @@
+package com.movie.rating.system.infrastructure.inbound.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for a movie matched by a text search.
+ */
+@Schema(description = "Movie search result with relevance score")
+public record MovieSearchResultResponse(
+        @Schema(description = "Matched movie")
+        MovieResponse movie,
+
+        @Schema(description = "Relevance of the match, higher is better", example = "0.85")
+        double relevance
+) {
+}
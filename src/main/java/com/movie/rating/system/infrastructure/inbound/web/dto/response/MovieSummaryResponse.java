@@ -0,0 +1,31 @@
+package com.movie.rating.system.infrastructure.inbound.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for a movie in a summary listing.
+ */
+@Schema(description = "Movie summary without the plot, with rating figures")
+public record MovieSummaryResponse(
+        @Schema(description = "Unique identifier of the movie", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+        
+        @Schema(description = "Title of the movie", example = "The Shawshank Redemption")
+        String title,
+        
+        @Schema(description = "Year the movie was released", example = "1994")
+        Integer yearOfRelease,
+        
+        @Schema(description = "Timestamp when the movie was created", example = "2023-12-01T10:30:00.000Z")
+        Instant createdAt,
+        
+        @Schema(description = "Average of the movie's active ratings, 0 if not rated yet", example = "8.7")
+        double averageRating,
+        
+        @Schema(description = "Number of active ratings of the movie", example = "42")
+        long ratingCount
+) {
+}
@@ -0,0 +1,36 @@
+package com.movie.rating.system.infrastructure.inbound.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportRowResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One line of the streamed report of a rating import: a rejected row, or the final summary.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Rejected row of a rating import, or the summary that ends the report")
+public record RatingImportReportLine(
+        @Schema(description = "Input line of the rejected row", example = "42")
+        Long line,
+
+        @Schema(description = "Why the row was rejected, or COMPLETED for the summary", example = "MOVIE_NOT_FOUND")
+        String status,
+
+        @Schema(description = "Details of the rejection", example = "Movie not found")
+        String message,
+
+        @Schema(description = "Rows imported, in the summary only", example = "99958")
+        Long imported,
+
+        @Schema(description = "Rows rejected, in the summary only", example = "42")
+        Long rejected
+) {
+
+    public static RatingImportReportLine rejected(ImportRowResult result) {
+        return new RatingImportReportLine(result.line(), result.status().name(), result.message(), null, null);
+    }
+
+    public static RatingImportReportLine summary(long imported, long rejected) {
+        return new RatingImportReportLine(null, "COMPLETED", null, imported, rejected);
+    }
+}
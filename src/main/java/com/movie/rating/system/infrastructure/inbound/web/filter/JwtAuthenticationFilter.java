@@ -1,7 +1,8 @@
 package com.movie.rating.system.infrastructure.inbound.web.filter;
 
 import com.movie.rating.system.domain.port.outbound.JwtTokenService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -16,10 +17,10 @@ import java.util.UUID;
 /**
  * JWT Authentication Filter for validating JWT tokens in requests.
  * This filter extracts JWT tokens from the Authorization header and validates them.
+ * Validation, including the revocation check, is timed as {@code jwt.validation}.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter implements WebFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
@@ -28,6 +29,16 @@ public class JwtAuthenticationFilter implements WebFilter {
     private static final String EMAIL_ATTRIBUTE = "email";
 
     private final JwtTokenService jwtTokenService;
+    private final MeterRegistry meterRegistry;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
+
+    public JwtAuthenticationFilter(JwtTokenService jwtTokenService, MeterRegistry meterRegistry) {
+        this.jwtTokenService = jwtTokenService;
+        this.meterRegistry = meterRegistry;
+        this.validTokens = validationTimer("valid");
+        this.invalidTokens = validationTimer("invalid");
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
@@ -77,11 +88,23 @@ public class JwtAuthenticationFilter implements WebFilter {
      * Validate JWT token using the token service
      */
     private Mono<JwtTokenService.TokenClaims> validateToken(String token) {
-        return jwtTokenService.validateTokenWithBlacklist(token)
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return jwtTokenService.validateTokenWithBlacklist(token)
+                    .doOnSuccess(claims -> sample.stop(validTokens))
+                    .doOnError(error -> sample.stop(invalidTokens));
+        })
                 .doOnSuccess(claims -> log.debug("Token validated successfully for user: {}", claims.username()))
                 .doOnError(error -> log.debug("Token validation failed: {}", error.getMessage()));
     }
 
+    private Timer validationTimer(String outcome) {
+        return Timer.builder("jwt.validation")
+                .description("Time to validate a JWT token, including the revocation check")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     /**
      * Handle authentication failure by returning 401 Unauthorized
      */
@@ -110,7 +133,7 @@ public class JwtAuthenticationFilter implements WebFilter {
     /**
      * Check if the endpoint is public and doesn't require authentication
      */
-    private boolean isPublicEndpoint(String path) {
+    static boolean isPublicEndpoint(String path) {
         return path.startsWith("/api/v1/auth/") ||
                path.startsWith("/api/v1/users/register") ||
                path.startsWith("/api/v1/users/check/") ||
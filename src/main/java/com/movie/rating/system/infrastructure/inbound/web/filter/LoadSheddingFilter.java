@@ -0,0 +1,150 @@
+package com.movie.rating.system.infrastructure.inbound.web.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sheds API requests with 503 once the server is saturated, before any work is done for them.
+ * Runs first in the filter chain and rejects a request when the number of API requests in flight
+ * reaches {@code max-in-flight}, or when more than {@code max-pending-acquisitions} requests are
+ * already waiting for a database connection. Failing fast keeps latency bounded for the requests
+ * that are admitted instead of letting every request queue and time out.
+ * Shed requests are counted as {@code http.server.requests.shed} tagged with the reason.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LoadSheddingFilter implements WebFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final int maxPendingAcquisitions;
+    private final Supplier<Optional<PoolMetrics>> poolMetrics;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter shedInFlight;
+    private final Counter shedPoolPending;
+
+    public LoadSheddingFilter(ObjectProvider<ConnectionFactory> connectionFactory,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.load-shedding.enabled:true}") boolean enabled,
+                              @Value("${app.load-shedding.max-in-flight:1000}") int maxInFlight,
+                              @Value("${app.load-shedding.max-pending-acquisitions:100}") int maxPendingAcquisitions) {
+        this(SingletonSupplier.of(() -> connectionPool(connectionFactory.getIfAvailable())
+                        .flatMap(ConnectionPool::getMetrics)),
+                meterRegistry, enabled, maxInFlight, maxPendingAcquisitions);
+    }
+
+    LoadSheddingFilter(Supplier<Optional<PoolMetrics>> poolMetrics, MeterRegistry meterRegistry,
+                       boolean enabled, int maxInFlight, int maxPendingAcquisitions) {
+        this.poolMetrics = poolMetrics;
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.maxPendingAcquisitions = maxPendingAcquisitions;
+        this.shedInFlight = shedCounter(meterRegistry, "in_flight");
+        this.shedPoolPending = shedCounter(meterRegistry, "pool_pending");
+        Gauge.builder("http.server.requests.in.flight", inFlight, AtomicInteger::get)
+                .description("API requests currently being processed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled || !exchange.getRequest().getURI().getPath().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                shedInFlight.increment();
+                return shed(exchange, "Too many requests in progress");
+            }
+            if (pendingAcquisitions() > maxPendingAcquisitions) {
+                inFlight.decrementAndGet();
+                shedPoolPending.increment();
+                return shed(exchange, "Database connections exhausted");
+            }
+
+            return chain.filter(exchange)
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    private int pendingAcquisitions() {
+        return poolMetrics.get()
+                .map(PoolMetrics::pendingAcquireSize)
+                .orElse(0);
+    }
+
+    /**
+     * Finds the pool behind the connection factory, which may be wrapped for instrumentation.
+     */
+    private static Optional<ConnectionPool> connectionPool(Object connectionFactory) {
+        Object candidate = connectionFactory;
+        while (candidate != null) {
+            if (candidate instanceof ConnectionPool pool) {
+                return Optional.of(pool);
+            }
+            candidate = candidate instanceof Wrapped<?> wrapped ? wrapped.unwrap() : null;
+        }
+        log.info("No R2DBC connection pool found, load shedding on pending acquisitions is disabled");
+        return Optional.empty();
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("http.server.requests.shed")
+                .description("Requests rejected because the server is saturated")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Mono<Void> shed(ServerWebExchange exchange, String message) {
+        log.debug("Shedding request to {}: {}", exchange.getRequest().getURI().getPath(), message);
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        exchange.getResponse().getHeaders().add(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        exchange.getResponse().getHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+
+        String errorBody = """
+                {
+                    "error": "SERVICE_UNAVAILABLE",
+                    "message": "%s, please retry later",
+                    "timestamp": "%s",
+                    "path": "%s",
+                    "status": 503
+                }
+                """.formatted(
+                message,
+                Instant.now(),
+                exchange.getRequest().getURI().getPath()
+        );
+
+        return exchange.getResponse().writeWith(
+                Mono.just(exchange.getResponse().bufferFactory().wrap(errorBody.getBytes()))
+        );
+    }
+}
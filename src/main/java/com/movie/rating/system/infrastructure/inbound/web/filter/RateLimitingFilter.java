@@ -0,0 +1,182 @@
+package com.movie.rating.system.infrastructure.inbound.web.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.rating.system.domain.port.outbound.JwtTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiting per route and client, ahead of {@link JwtAuthenticationFilter}.
+ * Public endpoints are limited per client IP. Other endpoints are limited per user, taken from
+ * the bearer token; the claims of a valid token are cached, so the authentication filter that
+ * follows does not verify it again. Requests without a valid token fall back to the IP.
+ *
+ * <p>Three policies apply: {@code auth} for login, registration and refresh, which burn CPU in
+ * BCrypt; {@code search} for the search endpoints, which are the most expensive queries; and
+ * {@code default} for everything else. Rejected requests get 429 with a Retry-After header and
+ * are counted as {@code http.server.requests.rate.limited} tagged with the policy.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RateLimitingFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+    private final boolean enabled;
+    private final Map<String, Policy> policies;
+    private final Map<String, Counter> rejections = new HashMap<>();
+    private final Cache<String, TokenBucket> buckets;
+    private final LongSupplier nanoTime;
+
+    public RateLimitingFilter(JwtTokenService jwtTokenService,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                              @Value("${app.rate-limit.max-clients:100000}") long maxClients,
+                              @Value("${app.rate-limit.idle-timeout:PT10M}") Duration idleTimeout,
+                              @Value("${app.rate-limit.auth.capacity:10}") long authCapacity,
+                              @Value("${app.rate-limit.auth.refill-per-second:0.5}") double authRefillPerSecond,
+                              @Value("${app.rate-limit.search.capacity:20}") long searchCapacity,
+                              @Value("${app.rate-limit.search.refill-per-second:5}") double searchRefillPerSecond,
+                              @Value("${app.rate-limit.default.capacity:100}") long defaultCapacity,
+                              @Value("${app.rate-limit.default.refill-per-second:50}") double defaultRefillPerSecond) {
+        this(jwtTokenService, meterRegistry, enabled, maxClients, idleTimeout, Map.of(
+                "auth", new Policy(authCapacity, authRefillPerSecond),
+                "search", new Policy(searchCapacity, searchRefillPerSecond),
+                "default", new Policy(defaultCapacity, defaultRefillPerSecond)
+        ), System::nanoTime);
+    }
+
+    RateLimitingFilter(JwtTokenService jwtTokenService, MeterRegistry meterRegistry, boolean enabled,
+                       long maxClients, Duration idleTimeout, Map<String, Policy> policies, LongSupplier nanoTime) {
+        this.jwtTokenService = jwtTokenService;
+        this.enabled = enabled;
+        this.nanoTime = nanoTime;
+        this.policies = Map.copyOf(policies);
+        policies.keySet().forEach(policy -> rejections.put(policy, Counter.builder("http.server.requests.rate.limited")
+                .description("Requests rejected by the rate limiter")
+                .tag("policy", policy)
+                .register(meterRegistry)));
+        // An idle bucket refills completely, so dropping it loses nothing
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleTimeout)
+                .build();
+
+        if (enabled) {
+            log.info("Rate limiting enabled with policies {}", policies);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getURI().getPath();
+        if (!enabled || !path.startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        String policyName = policyFor(path);
+        Policy policy = policies.get(policyName);
+
+        return clientKey(exchange, path)
+                .flatMap(client -> {
+                    TokenBucket bucket = buckets.get(policyName + ":" + client,
+                            key -> new TokenBucket(policy.capacity(), policy.refillPerSecond(), nanoTime));
+                    Duration retryAfter = bucket.tryConsume();
+                    if (retryAfter.isZero()) {
+                        return chain.filter(exchange);
+                    }
+
+                    log.debug("Rate limited {} on policy {} for path {}", client, policyName, path);
+                    rejections.get(policyName).increment();
+                    return reject(exchange, retryAfter);
+                });
+    }
+
+    private static String policyFor(String path) {
+        if (path.startsWith("/api/v1/auth/") || path.startsWith("/api/v1/users/register")) {
+            return "auth";
+        }
+        if (path.startsWith("/api/v1/movies/search") || path.startsWith("/api/v1/users/search")) {
+            return "search";
+        }
+        return "default";
+    }
+
+    /**
+     * Identifies the client: the user for authenticated endpoints with a valid token, otherwise the IP.
+     * The IP is the connection's remote address, or the forwarded client address when the server is
+     * configured to trust forwarded headers.
+     */
+    private Mono<String> clientKey(ServerWebExchange exchange, String path) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        String ipKey = "ip:" + (remoteAddress == null || remoteAddress.getAddress() == null
+                ? "unknown" : remoteAddress.getAddress().getHostAddress());
+
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (JwtAuthenticationFilter.isPublicEndpoint(path)
+                || authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return Mono.just(ipKey);
+        }
+
+        return jwtTokenService.validateToken(authHeader.substring(BEARER_PREFIX.length()))
+                .map(claims -> "user:" + claims.userId())
+                .onErrorResume(error -> Mono.just(ipKey));
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, Duration retryAfter) {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().add(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        exchange.getResponse().getHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+
+        String errorBody = """
+                {
+                    "error": "TOO_MANY_REQUESTS",
+                    "message": "Rate limit exceeded, retry in %d seconds",
+                    "timestamp": "%s",
+                    "path": "%s",
+                    "status": 429
+                }
+                """.formatted(
+                retryAfterSeconds,
+                Instant.now(),
+                exchange.getRequest().getURI().getPath()
+        );
+
+        return exchange.getResponse().writeWith(
+                Mono.just(exchange.getResponse().bufferFactory().wrap(errorBody.getBytes()))
+        );
+    }
+
+    /**
+     * Bucket size and refill rate of a rate-limit policy.
+     */
+    record Policy(long capacity, double refillPerSecond) {
+
+        @Override
+        public String toString() {
+            return capacity + " burst, " + refillPerSecond + "/s";
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.movie.rating.system.infrastructure.inbound.web.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket.
+ * The bucket holds up to {@code capacity} tokens and refills continuously at
+ * {@code refillPerSecond}. Each request takes one token. The state is a single immutable
+ * snapshot swapped with compare-and-set, so concurrent requests never block each other.
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoTime;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoTime) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.nanoTime = nanoTime;
+        this.state = new AtomicReference<>(new State(capacity, nanoTime.getAsLong()));
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return zero if a token was taken, otherwise how long until one becomes available
+     */
+    public Duration tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = nanoTime.getAsLong();
+            double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.refilledAt()) * refillPerNano);
+
+            if (tokens < 1) {
+                return Duration.ofNanos((long) Math.ceil((1 - tokens) / refillPerNano));
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -17,6 +17,7 @@ import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -28,6 +29,7 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +40,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AuthenticationHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final UserAuthenticationUseCase userAuthenticationUseCase;
     private final JwtTokenService jwtTokenService;
     private final UserRepository userRepository;
@@ -266,6 +270,15 @@ public class AuthenticationHandler {
                     ));
         }
 
+        if (error instanceof RejectedExecutionException) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromValue(
+                            ErrorResponseDto.of("Service unavailable", "Server is busy, please retry later", "", 503)
+                    ));
+        }
+
         // Generic error response
         return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .contentType(MediaType.APPLICATION_JSON)
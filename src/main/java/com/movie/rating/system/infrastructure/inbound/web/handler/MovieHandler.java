@@ -4,7 +4,15 @@ import com.movie.rating.system.application.service.ManageMovieService;
 import com.movie.rating.system.infrastructure.inbound.web.dto.mapper.MovieDtoMapper;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.UpdateMovieRequest;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.CursorPageResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieSearchResultResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieSummaryResponse;
 import com.movie.rating.system.infrastructure.inbound.web.util.AuthenticationUtils;
+import com.movie.rating.system.infrastructure.inbound.web.util.ListView;
+import com.movie.rating.system.infrastructure.inbound.web.util.PageCursor;
+import com.movie.rating.system.infrastructure.inbound.web.util.SearchCursor;
+import com.movie.rating.system.infrastructure.inbound.web.util.StreamingResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,9 +20,13 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Handler for movie-related HTTP requests.
@@ -114,6 +126,7 @@ public class MovieHandler {
 
     /**
      * Get all active movies with optional pagination.
+     * With view=summary the plot is left out and rating figures are included instead.
      * Public endpoint - no authentication required.
      */
     public Mono<ServerResponse> getAllMovies(ServerRequest request) {
@@ -130,15 +143,70 @@ public class MovieHandler {
                     .bodyValue("Invalid pagination parameters");
         }
 
+        Optional<ListView> view = ListView.of(request);
+        if (view.isEmpty()) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid view parameter (must be full or summary)");
+        }
+
+        Optional<String> after = request.queryParam("after");
+        if (after.isPresent()) {
+            return getAllMoviesAfter(after.get(), size, view.get());
+        }
+
         int offset = page * size;
 
-        return movieService.getAllActiveMovies(offset, size)
-                .map(dtoMapper::toResponse)
-                .collectList()
+        Mono<ServerResponse> listing;
+        if (view.get() == ListView.SUMMARY) {
+            Flux<MovieSummaryResponse> movies = movieService.getActiveMovieSummaries(offset, size)
+                    .map(dtoMapper::toSummaryResponse);
+            listing = StreamingResponses.okList(request, movies, MovieSummaryResponse.class);
+        } else {
+            Flux<MovieResponse> movies = movieService.getAllActiveMovies(offset, size)
+                    .map(dtoMapper::toResponse);
+            listing = StreamingResponses.okList(request, movies, MovieResponse.class);
+        }
+
+        return listing
+                .doOnSuccess(response -> log.debug("Successfully retrieved movies page: {}, size: {}", page, size))
+                .onErrorResume(this::handleError);
+    }
+
+    /**
+     * Get a page of active movies using keyset pagination.
+     * An empty cursor starts at the newest movie.
+     */
+    private Mono<ServerResponse> getAllMoviesAfter(String after, int size, ListView view) {
+        PageCursor cursor;
+        try {
+            cursor = after.isBlank() ? null : PageCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid cursor");
+        }
+
+        Instant createdAt = cursor != null ? cursor.createdAt() : null;
+        UUID id = cursor != null ? cursor.id() : null;
+        if (view == ListView.SUMMARY) {
+            return cursorPage(movieService.getActiveMovieSummariesAfter(createdAt, id, size), size,
+                    dtoMapper::toSummaryResponse, movie -> new PageCursor(movie.createdAt(), movie.id()));
+        }
+        return cursorPage(movieService.getActiveMoviesAfter(createdAt, id, size), size,
+                dtoMapper::toResponse, movie -> new PageCursor(movie.getCreatedAt(), movie.getId()));
+    }
+
+    /**
+     * Respond with a page of movies and the cursor to the next page.
+     */
+    private <T, R> Mono<ServerResponse> cursorPage(Flux<T> page, int size, Function<T, R> toResponse,
+                                                   Function<T, PageCursor> keyOf) {
+        return page.collectList()
                 .flatMap(movies -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(movies))
-                .doOnSuccess(response -> log.debug("Successfully retrieved movies page: {}, size: {}", page, size))
+                        .bodyValue(new CursorPageResponse<>(
+                                movies.stream().map(toResponse).toList(),
+                                PageCursor.nextCursor(movies, size, keyOf))))
+                .doOnSuccess(response -> log.debug("Successfully retrieved movies after cursor, size: {}", size))
                 .onErrorResume(this::handleError);
     }
 
@@ -153,12 +221,10 @@ public class MovieHandler {
             return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        return movieService.getMoviesByCreator(userId)
-                .map(dtoMapper::toResponse)
-                .collectList()
-                .flatMap(movies -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(movies))
+        Flux<MovieResponse> movies = movieService.getMoviesByCreator(userId)
+                .map(dtoMapper::toResponse);
+
+        return StreamingResponses.okList(request, movies, MovieResponse.class)
                 .doOnSuccess(response -> log.debug("Successfully retrieved user's movies"))
                 .onErrorResume(this::handleError);
     }
@@ -176,16 +242,68 @@ public class MovieHandler {
                     .bodyValue("Title parameter is required");
         }
 
-        return movieService.searchMoviesByTitle(title)
-                .map(dtoMapper::toResponse)
-                .collectList()
-                .flatMap(movies -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(movies))
+        Flux<MovieResponse> movies = movieService.searchMoviesByTitle(title)
+                .map(dtoMapper::toResponse);
+
+        return StreamingResponses.okList(request, movies, MovieResponse.class)
                 .doOnSuccess(response -> log.debug("Successfully searched movies by title: {}", title))
                 .onErrorResume(this::handleError);
     }
 
+    /**
+     * Ranked text search over title and plot with cursor pagination.
+     * Public endpoint - no authentication required.
+     */
+    public Mono<ServerResponse> searchMovies(ServerRequest request) {
+        String query = request.queryParam("q")
+                .orElse("");
+        int size = request.queryParam("size")
+                .map(Integer::parseInt)
+                .orElse(20);
+
+        if (query.trim().isEmpty()) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Query parameter is required");
+        }
+
+        if (size <= 0 || size > 100) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid pagination parameters");
+        }
+
+        SearchCursor cursor;
+        try {
+            cursor = request.queryParam("after")
+                    .filter(after -> !after.isBlank())
+                    .map(SearchCursor::decode)
+                    .orElse(null);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid cursor");
+        }
+
+        return movieService.searchMoviesByText(
+                        query.trim(),
+                        cursor != null ? cursor.relevance() : null,
+                        cursor != null ? cursor.id() : null,
+                        size)
+                .collectList()
+                .flatMap(hits -> {
+                    String nextCursor = hits.size() < size ? null : new SearchCursor(
+                            hits.get(hits.size() - 1).relevance(),
+                            hits.get(hits.size() - 1).movie().getId()).encode();
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(new CursorPageResponse<>(
+                                    hits.stream()
+                                            .map(hit -> new MovieSearchResultResponse(dtoMapper.toResponse(hit.movie()), hit.relevance()))
+                                            .toList(),
+                                    nextCursor));
+                })
+                .doOnSuccess(response -> log.debug("Successfully searched movies by text: {}", query))
+                .onErrorResume(this::handleError);
+    }
+
     /**
      * Search movies by year of release.
      * Public endpoint - no authentication required.
@@ -196,12 +314,10 @@ public class MovieHandler {
         try {
             Integer year = Integer.parseInt(yearStr);
             
-            return movieService.getMoviesByYear(year)
-                    .map(dtoMapper::toResponse)
-                    .collectList()
-                    .flatMap(movies -> ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(movies))
+            Flux<MovieResponse> movies = movieService.getMoviesByYear(year)
+                    .map(dtoMapper::toResponse);
+
+            return StreamingResponses.okList(request, movies, MovieResponse.class)
                     .doOnSuccess(response -> log.debug("Successfully searched movies by year: {}", year))
                     .onErrorResume(this::handleError);
         } catch (NumberFormatException e) {
@@ -232,12 +348,10 @@ public class MovieHandler {
                         .bodyValue("startYear cannot be greater than endYear");
             }
 
-            return movieService.getMoviesByYearRange(startYear, endYear)
-                    .map(dtoMapper::toResponse)
-                    .collectList()
-                    .flatMap(movies -> ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(movies))
+            Flux<MovieResponse> movies = movieService.getMoviesByYearRange(startYear, endYear)
+                    .map(dtoMapper::toResponse);
+
+            return StreamingResponses.okList(request, movies, MovieResponse.class)
                     .doOnSuccess(response -> log.debug("Successfully searched movies by year range: {}-{}", startYear, endYear))
                     .onErrorResume(this::handleError);
         } catch (NumberFormatException e) {
@@ -259,12 +373,10 @@ public class MovieHandler {
                     .bodyValue("Plot parameter is required");
         }
 
-        return movieService.searchMoviesByPlot(plot)
-                .map(dtoMapper::toResponse)
-                .collectList()
-                .flatMap(movies -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(movies))
+        Flux<MovieResponse> movies = movieService.searchMoviesByPlot(plot)
+                .map(dtoMapper::toResponse);
+
+        return StreamingResponses.okList(request, movies, MovieResponse.class)
                 .doOnSuccess(response -> log.debug("Successfully searched movies by plot: {}", plot))
                 .onErrorResume(this::handleError);
     }
@@ -4,7 +4,13 @@ import com.movie.rating.system.application.service.ManageMovieRatingService;
 import com.movie.rating.system.infrastructure.inbound.web.dto.mapper.MovieDtoMapper;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRatingRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.UpdateMovieRatingRequest;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.CursorPageResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingSummaryResponse;
 import com.movie.rating.system.infrastructure.inbound.web.util.AuthenticationUtils;
+import com.movie.rating.system.infrastructure.inbound.web.util.ListView;
+import com.movie.rating.system.infrastructure.inbound.web.util.PageCursor;
+import com.movie.rating.system.infrastructure.inbound.web.util.StreamingResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -12,9 +18,12 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Handler for movie rating-related HTTP requests.
@@ -114,6 +123,7 @@ public class MovieRatingHandler {
 
     /**
      * Get all ratings for a specific movie.
+     * With view=summary the review is left out.
      * Public endpoint - no authentication required.
      */
     public Mono<ServerResponse> getRatingsByMovie(ServerRequest request) {
@@ -133,20 +143,45 @@ public class MovieRatingHandler {
                     .bodyValue("Invalid pagination parameters");
         }
 
+        Optional<ListView> view = ListView.of(request);
+        if (view.isEmpty()) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid view parameter (must be full or summary)");
+        }
+
+        Optional<String> after = request.queryParam("after");
+        if (after.isPresent()) {
+            if (view.get() == ListView.SUMMARY) {
+                return cursorPage(after.get(), size, cursor -> ratingService.getRatingSummariesByMovieAfter(
+                                movieId, cursor != null ? cursor.createdAt() : null, cursor != null ? cursor.id() : null, size),
+                        dtoMapper::toSummaryResponse, rating -> new PageCursor(rating.createdAt(), rating.id()));
+            }
+            return cursorPage(after.get(), size, cursor -> ratingService.getRatingsByMovieAfter(
+                            movieId, cursor != null ? cursor.createdAt() : null, cursor != null ? cursor.id() : null, size),
+                    dtoMapper::toResponse, rating -> new PageCursor(rating.getCreatedAt(), rating.getId()));
+        }
+
         int offset = page * size;
 
-        return ratingService.getRatingsByMovie(movieId, offset, size)
-                .map(dtoMapper::toResponse)
-                .collectList()
-                .flatMap(ratings -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(ratings))
+        Mono<ServerResponse> listing;
+        if (view.get() == ListView.SUMMARY) {
+            Flux<MovieRatingSummaryResponse> ratings = ratingService.getRatingSummariesByMovie(movieId, offset, size)
+                    .map(dtoMapper::toSummaryResponse);
+            listing = StreamingResponses.okList(request, ratings, MovieRatingSummaryResponse.class);
+        } else {
+            Flux<MovieRatingResponse> ratings = ratingService.getRatingsByMovie(movieId, offset, size)
+                    .map(dtoMapper::toResponse);
+            listing = StreamingResponses.okList(request, ratings, MovieRatingResponse.class);
+        }
+
+        return listing
                 .doOnSuccess(response -> log.debug("Successfully retrieved ratings for movie: {}", movieId))
                 .onErrorResume(this::handleError);
     }
 
     /**
      * Get all ratings by the current user.
+     * With view=summary the review is left out.
      * Requires authentication.
      */
     public Mono<ServerResponse> getMyRatings(ServerRequest request) {
@@ -169,15 +204,64 @@ public class MovieRatingHandler {
                     .bodyValue("Invalid pagination parameters");
         }
 
+        Optional<ListView> view = ListView.of(request);
+        if (view.isEmpty()) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid view parameter (must be full or summary)");
+        }
+
+        Optional<String> after = request.queryParam("after");
+        if (after.isPresent()) {
+            if (view.get() == ListView.SUMMARY) {
+                return cursorPage(after.get(), size, cursor -> ratingService.getRatingSummariesByUserAfter(
+                                userId, cursor != null ? cursor.createdAt() : null, cursor != null ? cursor.id() : null, size),
+                        dtoMapper::toSummaryResponse, rating -> new PageCursor(rating.createdAt(), rating.id()));
+            }
+            return cursorPage(after.get(), size, cursor -> ratingService.getRatingsByUserAfter(
+                            userId, cursor != null ? cursor.createdAt() : null, cursor != null ? cursor.id() : null, size),
+                    dtoMapper::toResponse, rating -> new PageCursor(rating.getCreatedAt(), rating.getId()));
+        }
+
         int offset = page * size;
 
-        return ratingService.getRatingsByUser(userId, offset, size)
-                .map(dtoMapper::toResponse)
+        Mono<ServerResponse> listing;
+        if (view.get() == ListView.SUMMARY) {
+            Flux<MovieRatingSummaryResponse> ratings = ratingService.getRatingSummariesByUser(userId, offset, size)
+                    .map(dtoMapper::toSummaryResponse);
+            listing = StreamingResponses.okList(request, ratings, MovieRatingSummaryResponse.class);
+        } else {
+            Flux<MovieRatingResponse> ratings = ratingService.getRatingsByUser(userId, offset, size)
+                    .map(dtoMapper::toResponse);
+            listing = StreamingResponses.okList(request, ratings, MovieRatingResponse.class);
+        }
+
+        return listing
+                .doOnSuccess(response -> log.debug("Successfully retrieved user's ratings"))
+                .onErrorResume(this::handleError);
+    }
+
+    /**
+     * Respond with a page of ratings using keyset pagination.
+     * An empty cursor starts at the newest rating.
+     */
+    private <T, R> Mono<ServerResponse> cursorPage(String after, int size, Function<PageCursor, Flux<T>> pageAfter,
+                                                   Function<T, R> toResponse, Function<T, PageCursor> keyOf) {
+        PageCursor cursor;
+        try {
+            cursor = after.isBlank() ? null : PageCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid cursor");
+        }
+
+        return pageAfter.apply(cursor)
                 .collectList()
                 .flatMap(ratings -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(ratings))
-                .doOnSuccess(response -> log.debug("Successfully retrieved user's ratings"))
+                        .bodyValue(new CursorPageResponse<>(
+                                ratings.stream().map(toResponse).toList(),
+                                PageCursor.nextCursor(ratings, size, keyOf))))
+                .doOnSuccess(response -> log.debug("Successfully retrieved ratings after cursor, size: {}", size))
                 .onErrorResume(this::handleError);
     }
 
@@ -241,6 +325,7 @@ public class MovieRatingHandler {
 
     /**
      * Get recent ratings across all movies.
+     * With view=summary the review is left out.
      * Public endpoint - no authentication required.
      */
     public Mono<ServerResponse> getRecentRatings(ServerRequest request) {
@@ -254,12 +339,24 @@ public class MovieRatingHandler {
                     .bodyValue("Invalid limit parameter (must be 1-100)");
         }
 
-        return ratingService.getRecentRatings(limit)
-                .map(dtoMapper::toResponse)
-                .collectList()
-                .flatMap(ratings -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(ratings))
+        Optional<ListView> view = ListView.of(request);
+        if (view.isEmpty()) {
+            return ServerResponse.badRequest()
+                    .bodyValue("Invalid view parameter (must be full or summary)");
+        }
+
+        Mono<ServerResponse> listing;
+        if (view.get() == ListView.SUMMARY) {
+            Flux<MovieRatingSummaryResponse> ratings = ratingService.getRecentRatingSummaries(limit)
+                    .map(dtoMapper::toSummaryResponse);
+            listing = StreamingResponses.okList(request, ratings, MovieRatingSummaryResponse.class);
+        } else {
+            Flux<MovieRatingResponse> ratings = ratingService.getRecentRatings(limit)
+                    .map(dtoMapper::toResponse);
+            listing = StreamingResponses.okList(request, ratings, MovieRatingResponse.class);
+        }
+
+        return listing
                 .doOnSuccess(response -> log.debug("Successfully retrieved {} recent ratings", limit))
                 .onErrorResume(this::handleError);
     }
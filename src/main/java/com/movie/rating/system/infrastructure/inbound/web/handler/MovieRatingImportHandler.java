@@ -0,0 +1,72 @@
+package com.movie.rating.system.infrastructure.inbound.web.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportRatingRow;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.RatingImportReportLine;
+import com.movie.rating.system.infrastructure.inbound.web.util.AuthenticationUtils;
+import com.movie.rating.system.infrastructure.inbound.web.util.RatingImportReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Handler for bulk rating imports.
+ * The upload is read while the report is written: rejected rows are streamed back as NDJSON
+ * as soon as their batch is written, followed by a summary line once the upload is done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieRatingImportHandler {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ImportMovieRatingsUseCase importUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Import ratings from an NDJSON or CSV body.
+     * Requires authentication.
+     */
+    public Mono<ServerResponse> importRatings(ServerRequest request) {
+        UUID userId = AuthenticationUtils.getAuthenticatedUserId(request);
+        if (userId == null) {
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        MediaType contentType = request.headers().contentType().orElse(MediaType.APPLICATION_OCTET_STREAM);
+        Flux<String> lines = RatingImportReader.lines(request.bodyToFlux(DataBuffer.class));
+        Flux<ImportRatingRow> rows;
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            rows = RatingImportReader.fromNdjson(lines, objectMapper);
+        } else if (contentType.isCompatibleWith(TEXT_CSV)) {
+            rows = RatingImportReader.fromCsv(lines);
+        } else {
+            return ServerResponse.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                    .bodyValue("Content type must be application/x-ndjson or text/csv");
+        }
+
+        AtomicLong imported = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        Flux<RatingImportReportLine> report = importUseCase.importRatings(userId, rows)
+                .doOnNext(result -> (result.isImported() ? imported : rejected).incrementAndGet())
+                .filter(result -> !result.isImported())
+                .map(RatingImportReportLine::rejected)
+                .concatWith(Mono.fromSupplier(() -> RatingImportReportLine.summary(imported.get(), rejected.get())));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(report, RatingImportReportLine.class);
+    }
+}
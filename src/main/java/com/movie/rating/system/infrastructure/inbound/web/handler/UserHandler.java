@@ -10,6 +10,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +33,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final RegisterUserUseCase registerUserUseCase;
     private final UserWebMapper userWebMapper;
     private final Validator validator;
@@ -197,6 +201,18 @@ public class UserHandler {
                     ));
         }
 
+        if (error instanceof RejectedExecutionException) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromValue(
+                            Map.of(
+                                    "error", "Service unavailable",
+                                    "message", "Server is busy, please retry later"
+                            )
+                    ));
+        }
+
         // Generic error response
         return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -12,20 +12,24 @@ import com.movie.rating.system.infrastructure.inbound.web.dto.response.ErrorResp
 import com.movie.rating.system.infrastructure.inbound.web.dto.response.OperationSuccessResponseDto;
 import com.movie.rating.system.infrastructure.inbound.web.mapper.UserProfileWebMapper;
 import com.movie.rating.system.infrastructure.inbound.web.util.AuthenticationUtils;
+import com.movie.rating.system.infrastructure.inbound.web.util.StreamingResponses;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -38,6 +42,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserProfileHandler {
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final ManageUserProfileUseCase manageUserProfileUseCase;
     private final UserProfileWebMapper userProfileWebMapper;
     private final Validator validator;
@@ -217,7 +223,7 @@ public class UserProfileHandler {
         
         UUID authenticatedUserId = AuthenticationUtils.getAuthenticatedUserId(request);
         
-        return manageUserProfileUseCase.getAllActiveUsers()
+        Flux<Object> profiles = manageUserProfileUseCase.getAllActiveUsers()
                 .map(user -> {
                     // Return full profile for authenticated user, limited profile for others
                     boolean isOwnProfile = authenticatedUserId != null && authenticatedUserId.equals(user.getId());
@@ -226,13 +232,9 @@ public class UserProfileHandler {
                     } else {
                         return userProfileWebMapper.toLimitedProfileResponseDto(user);
                     }
-                })
-                .collectList()
-                .flatMap(profiles ->
-                        ServerResponse.ok()
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .body(BodyInserters.fromValue(profiles))
-                )
+                });
+
+        return StreamingResponses.okList(request, profiles, Object.class)
                 .onErrorResume(this::handleProfileError)
                 .doFinally(signalType -> log.info("Get all active users request completed"));
     }
@@ -254,7 +256,7 @@ public class UserProfileHandler {
         
         UUID authenticatedUserId = AuthenticationUtils.getAuthenticatedUserId(request);
         
-        return manageUserProfileUseCase.searchUsersByUsername(pattern)
+        Flux<Object> profiles = manageUserProfileUseCase.searchUsersByUsername(pattern)
                 .map(user -> {
                     // Return full profile for authenticated user, limited profile for others
                     boolean isOwnProfile = authenticatedUserId != null && authenticatedUserId.equals(user.getId());
@@ -263,13 +265,9 @@ public class UserProfileHandler {
                     } else {
                         return userProfileWebMapper.toLimitedProfileResponseDto(user);
                     }
-                })
-                .collectList()
-                .flatMap(profiles ->
-                        ServerResponse.ok()
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .body(BodyInserters.fromValue(profiles))
-                )
+                });
+
+        return StreamingResponses.okList(request, profiles, Object.class)
                 .onErrorResume(this::handleProfileError)
                 .doFinally(signalType -> log.info("Search users request completed"));
     }
@@ -393,6 +391,15 @@ public class UserProfileHandler {
                     ));
         }
 
+        if (error instanceof RejectedExecutionException) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(BodyInserters.fromValue(
+                            ErrorResponseDto.of("Service unavailable", "Server is busy, please retry later", "", 503)
+                    ));
+        }
+
         // Generic error response
         return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -1,6 +1,9 @@
 package com.movie.rating.system.infrastructure.inbound.web.router;
 
+import com.movie.rating.system.infrastructure.inbound.web.dto.request.ImportMovieRatingRequest;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.RatingImportReportLine;
 import com.movie.rating.system.infrastructure.inbound.web.handler.MovieRatingHandler;
+import com.movie.rating.system.infrastructure.inbound.web.handler.MovieRatingImportHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -72,6 +75,7 @@ public class MovieRatingRouter {
                 description = "Retrieves all ratings created by the currently authenticated user.",
                 tags = {"Ratings - Secured"},
                 security = @SecurityRequirement(name = "bearerAuth"),
+                parameters = @Parameter(name = "view", in = ParameterIn.QUERY, description = "full (default) or summary; summary leaves out the review"),
                 responses = {
                     @ApiResponse(
                         responseCode = "200", 
@@ -93,6 +97,7 @@ public class MovieRatingRouter {
                 summary = "Get recent movie ratings",
                 description = "Retrieves the most recently created movie ratings.",
                 tags = {"Ratings - Public"},
+                parameters = @Parameter(name = "view", in = ParameterIn.QUERY, description = "full (default) or summary; summary leaves out the review"),
                 responses = {
                     @ApiResponse(responseCode = "200", description = "Recent ratings retrieved successfully")
                 }
@@ -158,7 +163,10 @@ public class MovieRatingRouter {
                 summary = "Get all ratings for a movie",
                 description = "Retrieves all ratings for a specific movie.",
                 tags = {"Ratings - Public"},
-                parameters = @Parameter(name = "movieId", in = ParameterIn.PATH, description = "Movie ID", required = true),
+                parameters = {
+                    @Parameter(name = "movieId", in = ParameterIn.PATH, description = "Movie ID", required = true),
+                    @Parameter(name = "view", in = ParameterIn.QUERY, description = "full (default) or summary; summary leaves out the review")
+                },
                 responses = {
                     @ApiResponse(responseCode = "200", description = "Ratings retrieved successfully"),
                     @ApiResponse(responseCode = "404", description = "Movie not found")
@@ -239,4 +247,47 @@ public class MovieRatingRouter {
                 .andRoute(GET("/api/v1/movies/{movieId}/ratings/user"), 
                          ratingHandler::getUserMovieRating);
     }
+
+    @Bean
+    @RouterOperation(
+        path = "/api/v1/ratings/import",
+        method = RequestMethod.POST,
+        operation = @Operation(
+            operationId = "importRatings",
+            summary = "Bulk import movie ratings",
+            description = "Imports ratings streamed as NDJSON (one rating object per line) or CSV (header line naming "
+                    + "the movieId, userId, rating, review and createdAt columns). Rows are validated like single "
+                    + "ratings and written in batches. The response streams one NDJSON line per rejected row, then "
+                    + "a summary line. Rows for other users require a trusted importer. Requires authentication.",
+            tags = {"Ratings - Secured"},
+            security = @SecurityRequirement(name = "bearerAuth"),
+            requestBody = @RequestBody(
+                description = "Ratings to import",
+                required = true,
+                content = {
+                    @Content(
+                        mediaType = "application/x-ndjson",
+                        schema = @Schema(implementation = ImportMovieRatingRequest.class)
+                    ),
+                    @Content(mediaType = "text/csv")
+                }
+            ),
+            responses = {
+                @ApiResponse(
+                    responseCode = "200",
+                    description = "Import report",
+                    content = @Content(
+                        mediaType = "application/x-ndjson",
+                        schema = @Schema(implementation = RatingImportReportLine.class)
+                    )
+                ),
+                @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+            }
+        )
+    )
+    public RouterFunction<ServerResponse> movieRatingImportRoutes(MovieRatingImportHandler importHandler) {
+        return RouterFunctions
+                .route(POST("/api/v1/ratings/import"), importHandler::importRatings);
+    }
 }
@@ -139,6 +139,28 @@ public class MovieRouter {
         @RouterOperation(
             path = "/api/v1/movies/search", 
             method = RequestMethod.GET,
+            params = "q",
+            operation = @Operation(
+                operationId = "searchMovies",
+                summary = "Ranked text search",
+                description = "Full-text search over title and plot with fuzzy title matching, best matches first. "
+                        + "Returns a page of results with a cursor to the next page. Public endpoint.",
+                tags = {"Movies - Public"},
+                parameters = {
+                    @Parameter(name = "q", in = ParameterIn.QUERY, description = "Search text", required = true),
+                    @Parameter(name = "size", in = ParameterIn.QUERY, description = "Page size (1-100, default 20)"),
+                    @Parameter(name = "after", in = ParameterIn.QUERY, description = "Cursor returned as nextCursor by the previous page")
+                },
+                responses = {
+                    @ApiResponse(responseCode = "200", description = "Search results"),
+                    @ApiResponse(responseCode = "400", description = "Invalid search parameters or cursor")
+                }
+            )
+        ),
+        @RouterOperation(
+            path = "/api/v1/movies/search", 
+            method = RequestMethod.GET,
+            params = "title",
             operation = @Operation(
                 operationId = "searchMoviesByTitle",
                 summary = "Search movies by title",
@@ -190,7 +212,7 @@ public class MovieRouter {
             operation = @Operation(
                 operationId = "searchMoviesByPlot",
                 summary = "Search movies by plot",
-                description = "Search for movies by plot description (case-insensitive partial match). Public endpoint.",
+                description = "Search for movies whose plot contains all given words (full-text match). Public endpoint.",
                 tags = {"Movies - Public"},
                 parameters = @Parameter(name = "plot", in = ParameterIn.QUERY, description = "Plot text to search for", required = true),
                 responses = {
@@ -220,6 +242,7 @@ public class MovieRouter {
                 summary = "Get all movies",
                 description = "Retrieves all active movies in the system. Public endpoint with pagination support.",
                 tags = {"Movies - Public"},
+                parameters = @Parameter(name = "view", in = ParameterIn.QUERY, description = "full (default) or summary; summary leaves out the plot and adds the average rating and rating count"),
                 responses = {
                     @ApiResponse(responseCode = "200", description = "Movies retrieved successfully")
                 }
@@ -248,6 +271,8 @@ public class MovieRouter {
                 // Specific routes must come before generic {id} route
                 .andRoute(GET("/api/v1/movies/my"), 
                          movieHandler::getMyMovies)
+                .andRoute(GET("/api/v1/movies/search").and(queryParam("q", q -> true)), 
+                         movieHandler::searchMovies)
                 .andRoute(GET("/api/v1/movies/search").and(queryParam("title", t -> true)), 
                          movieHandler::searchMoviesByTitle)
                 .andRoute(GET("/api/v1/movies/year/{year}"), 
@@ -0,0 +1,36 @@
+package com.movie.rating.system.infrastructure.inbound.web.util;
+
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Level of detail of a listing, chosen with the {@code view} query parameter ({@code fields} is accepted as well).
+ * Summary listings leave out long text such as movie plots and rating reviews, which are then
+ * neither read from the database nor sent to the client.
+ */
+public enum ListView {
+    FULL,
+    SUMMARY;
+
+    /**
+     * Read the requested view, defaulting to the full view.
+     *
+     * @param request the HTTP request
+     * @return the requested view, or empty if the parameter has an unknown value
+     */
+    public static Optional<ListView> of(ServerRequest request) {
+        Optional<String> value = request.queryParam("view")
+                .or(() -> request.queryParam("fields"))
+                .filter(view -> !view.isBlank());
+        if (value.isEmpty()) {
+            return Optional.of(FULL);
+        }
+        return switch (value.get().trim().toLowerCase(Locale.ROOT)) {
+            case "full" -> Optional.of(FULL);
+            case "summary" -> Optional.of(SUMMARY);
+            default -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.movie.rating.system.infrastructure.inbound.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset pagination over listings ordered by creation time (newest first).
+ * It holds the sort key of the last item of a page; the next page starts right after it,
+ * so every page costs the same regardless of how deep the client has paged.
+ */
+public record PageCursor(Instant createdAt, UUID id) {
+
+    private static final String SEPARATOR = ",";
+
+    /**
+     * Encode this cursor for use in a query parameter
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageCursor(Instant.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Cursor for the page following the given one, or null if this was the last page
+     *
+     * @param page     the items of the current page
+     * @param pageSize the requested page size
+     * @param keyOf    extracts the cursor of an item
+     * @return the encoded cursor of the next page, or null
+     */
+    public static <T> String nextCursor(List<T> page, int pageSize, Function<T, PageCursor> keyOf) {
+        if (page.isEmpty() || page.size() < pageSize) {
+            return null;
+        }
+        return keyOf.apply(page.get(page.size() - 1)).encode();
+    }
+}
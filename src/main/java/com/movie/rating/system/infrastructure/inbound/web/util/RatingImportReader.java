@@ -0,0 +1,239 @@
+package com.movie.rating.system.infrastructure.inbound.web.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportRatingRow;
+import com.movie.rating.system.infrastructure.inbound.web.dto.request.ImportMovieRatingRequest;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Reads rating import rows from a streamed request body, one line at a time.
+ * Nothing but the current line is held in memory, so reading keeps pace with the consumer.
+ * Lines that cannot be read become rows carrying the error, so they show up in the report
+ * instead of failing the import.
+ *
+ * <p>NDJSON lines are objects with the fields of {@link ImportMovieRatingRequest}. CSV input
+ * starts with a header naming the columns, in any order, with the same names; fields may be
+ * quoted, with doubled quotes inside quoted fields, and quoted fields may span lines.
+ * A record longer than {@value CsvRecords#MAX_RECORD_LENGTH} characters is reported as unreadable
+ * and skipped, so an unterminated quote cannot buffer the rest of the upload.
+ */
+public class RatingImportReader {
+
+    private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes();
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+
+    private RatingImportReader() {
+    }
+
+    /**
+     * Split a body into lines without their line endings
+     */
+    public static Flux<String> lines(Flux<DataBuffer> body) {
+        return LINE_DECODER.decode(body, STRING_TYPE, null, null);
+    }
+
+    /**
+     * Read NDJSON lines, skipping blank lines
+     */
+    public static Flux<ImportRatingRow> fromNdjson(Flux<String> lines, ObjectMapper objectMapper) {
+        return lines.index()
+                .filter(indexed -> !indexed.getT2().isBlank())
+                .map(indexed -> {
+                    long line = indexed.getT1() + 1;
+                    try {
+                        ImportMovieRatingRequest request = objectMapper.readValue(indexed.getT2(), ImportMovieRatingRequest.class);
+                        return new ImportRatingRow(line, request.movieId(), request.userId(), request.rating(),
+                                request.review(), request.createdAt(), null);
+                    } catch (JsonProcessingException e) {
+                        return ImportRatingRow.unreadable(line, "Malformed JSON: " + e.getOriginalMessage());
+                    }
+                });
+    }
+
+    /**
+     * Read CSV lines with a header line, skipping blank lines
+     */
+    public static Flux<ImportRatingRow> fromCsv(Flux<String> lines) {
+        return Flux.defer(() -> {
+            CsvRecords records = new CsvRecords();
+            return lines.<ImportRatingRow>handle((line, sink) -> {
+                        ImportRatingRow row = records.accept(line);
+                        if (row != null) {
+                            sink.next(row);
+                        }
+                    })
+                    .concatWith(Mono.fromSupplier(records::finish));
+        });
+    }
+
+    /**
+     * Assembles CSV records from lines and maps them to rows by the header.
+     */
+    private static final class CsvRecords {
+
+        static final int MAX_RECORD_LENGTH = 8 * 1024;
+
+        private static final String MISSING_COLUMNS = "CSV header must name the movieId and rating columns";
+        private static final String RECORD_TOO_LONG = "Record exceeds " + MAX_RECORD_LENGTH + " characters";
+
+        private long lineNumber;
+        private long recordStart;
+        private final StringBuilder pending = new StringBuilder();
+        private boolean openQuote;
+        private boolean skipping;
+        private Map<String, Integer> columns;
+        private boolean headerInvalid;
+
+        ImportRatingRow accept(String line) {
+            lineNumber++;
+            if (skipping) {
+                // Drop the rest of an over-long record up to the line that closes its quote
+                openQuote ^= hasOddQuotes(line);
+                skipping = openQuote;
+                return null;
+            }
+            if (pending.isEmpty()) {
+                if (line.isBlank()) {
+                    return null;
+                }
+                recordStart = lineNumber;
+            } else {
+                pending.append('\n');
+            }
+            pending.append(line);
+            openQuote ^= hasOddQuotes(line);
+
+            if (pending.length() > MAX_RECORD_LENGTH) {
+                pending.setLength(0);
+                skipping = openQuote;
+                return tooLong();
+            }
+            if (openQuote) {
+                return null;
+            }
+            String record = pending.toString();
+            pending.setLength(0);
+            return toRow(recordStart, split(record));
+        }
+
+        ImportRatingRow finish() {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            return headerInvalid ? null : ImportRatingRow.unreadable(recordStart, "Unterminated quoted field");
+        }
+
+        private ImportRatingRow tooLong() {
+            if (headerInvalid) {
+                return null;
+            }
+            if (columns == null) {
+                // Without a header no record can be mapped
+                columns = Map.of();
+                headerInvalid = true;
+            }
+            return ImportRatingRow.unreadable(recordStart, RECORD_TOO_LONG);
+        }
+
+        private ImportRatingRow toRow(long line, List<String> fields) {
+            if (columns == null) {
+                columns = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    columns.put(fields.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (!columns.containsKey("movieid") || !columns.containsKey("rating")) {
+                    headerInvalid = true;
+                    return ImportRatingRow.unreadable(line, MISSING_COLUMNS);
+                }
+                return null;
+            }
+            if (headerInvalid) {
+                return null;
+            }
+
+            try {
+                return new ImportRatingRow(line,
+                        parse(fields, "movieId", UUID::fromString),
+                        parse(fields, "userId", UUID::fromString),
+                        parse(fields, "rating", Integer::valueOf),
+                        field(fields, "review"),
+                        parse(fields, "createdAt", Instant::parse),
+                        null);
+            } catch (IllegalArgumentException e) {
+                return ImportRatingRow.unreadable(line, e.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String name) {
+            Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        private <T> T parse(List<String> fields, String name, Function<String, T> parser) {
+            String value = field(fields, name);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value.trim());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid " + name + ": " + value);
+            }
+        }
+
+        private static boolean hasOddQuotes(String line) {
+            int quotes = 0;
+            for (int i = 0; i < line.length(); i++) {
+                if (line.charAt(i) == '"') {
+                    quotes++;
+                }
+            }
+            return quotes % 2 != 0;
+        }
+
+        private static List<String> split(String record) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < record.length(); i++) {
+                char c = record.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.movie.rating.system.infrastructure.inbound.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for keyset pagination over ranked search results (best match first).
+ * It holds the relevance and ID of the last result of a page.
+ */
+public record SearchCursor(double relevance, UUID id) {
+
+    private static final String SEPARATOR = ",";
+
+    /**
+     * Encode this cursor for use in a query parameter
+     */
+    public String encode() {
+        String raw = Double.toString(relevance) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SearchCursor(Double.parseDouble(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.movie.rating.system.infrastructure.inbound.web.util;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Utility class for list responses that can be streamed.
+ * Clients accepting application/x-ndjson or text/event-stream get every element written
+ * as soon as it is available, with backpressure, so memory use does not grow with the
+ * result size. All other clients get the results buffered into a JSON array as before.
+ */
+public class StreamingResponses {
+
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_NDJSON,
+            MediaType.TEXT_EVENT_STREAM
+    );
+
+    /**
+     * Respond with 200 OK and the given elements, streamed if the client asked for it
+     *
+     * @param request      the HTTP request
+     * @param elements     the elements to respond with
+     * @param elementClass the element type used for serialization
+     * @return the server response
+     */
+    public static <T> Mono<ServerResponse> okList(ServerRequest request, Flux<T> elements, Class<T> elementClass) {
+        Optional<MediaType> streamingMediaType = streamingMediaType(request);
+        if (streamingMediaType.isPresent()) {
+            return ServerResponse.ok()
+                    .contentType(streamingMediaType.get())
+                    .body(elements, elementClass);
+        }
+
+        return elements.collectList()
+                .flatMap(list -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(list));
+    }
+
+    /**
+     * Streaming media type explicitly accepted by the client, if any.
+     * Wildcards do not count, so browsers and clients sending no Accept header keep getting JSON.
+     */
+    public static Optional<MediaType> streamingMediaType(ServerRequest request) {
+        for (MediaType mediaType : request.headers().accept()) {
+            for (MediaType streaming : STREAMING_MEDIA_TYPES) {
+                if (mediaType.equalsTypeAndSubtype(streaming)) {
+                    return Optional.of(streaming);
+                }
+            }
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -2,7 +2,10 @@ package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.JwtToken;
 import com.movie.rating.system.domain.port.outbound.JwtTokenRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.cache.TokenRevocationCache;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.JwtTokenEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.JwtTokenPersistenceMapper;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcAccessTokenWatermarkRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcJwtTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,10 +14,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
- * R2DBC adapter implementation for JWT token repository
+ * R2DBC adapter implementation for JWT token repository.
+ * Revocations are mirrored into the {@link TokenRevocationCache} so that revocation checks
+ * can be answered without querying the database. Revoking all of a user's access tokens also
+ * advances the user's access token watermark, which covers stateless access tokens that have no row.
  */
 @Slf4j
 @Repository
@@ -23,6 +30,8 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
 
     private final R2dbcJwtTokenRepository r2dbcRepository;
     private final JwtTokenPersistenceMapper mapper;
+    private final TokenRevocationCache revocationCache;
+    private final R2dbcAccessTokenWatermarkRepository watermarkRepository;
 
     @Override
     public Mono<JwtToken> save(JwtToken jwtToken) {
@@ -39,7 +48,7 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
     public Mono<JwtToken> findByTokenHash(String tokenHash) {
         log.debug("Finding JWT token by hash");
         
-        return r2dbcRepository.findByTokenHash(tokenHash)
+        return r2dbcRepository.findUnexpiredByTokenHash(tokenHash, Instant.now())
                 .map(mapper::toDomain)
                 .doOnSuccess(token -> {
                     if (token != null) {
@@ -74,8 +83,8 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
         
         Instant now = Instant.now();
         return r2dbcRepository.revokeByTokenHash(tokenHash, reason, now, now)
-                .then(r2dbcRepository.findByTokenHash(tokenHash))
                 .map(mapper::toDomain)
+                .doOnNext(token -> revocationCache.markRevoked(token.getTokenHash(), token.getExpiresAt()))
                 .doOnSuccess(token -> log.debug("Successfully revoked token"))
                 .doOnError(error -> log.error("Failed to revoke token: {}", error.getMessage()));
     }
@@ -85,8 +94,10 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
         log.debug("Revoking all tokens for user: {} with reason: {}", userId, reason);
         
         Instant now = Instant.now();
-        return r2dbcRepository.revokeAllTokensForUser(userId, reason, now, now)
-                .map(Integer::longValue)
+        return r2dbcRepository.revokeAllTokensForUserReturning(userId, reason, now, now)
+                .doOnNext(this::cacheRevocation)
+                .count()
+                .flatMap(count -> revokeAccessTokensIssuedBeforeNow(userId).thenReturn(count))
                 .doOnSuccess(count -> log.debug("Revoked {} tokens for user: {}", count, userId))
                 .doOnError(error -> log.error("Failed to revoke tokens for user {}: {}", userId, error.getMessage()));
     }
@@ -96,8 +107,12 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
         log.debug("Revoking all {} tokens for user: {} with reason: {}", tokenType, userId, reason);
         
         Instant now = Instant.now();
-        return r2dbcRepository.revokeAllTokensForUserByType(userId, tokenType.name(), reason, now, now)
-                .map(Integer::longValue)
+        return r2dbcRepository.revokeAllTokensForUserByTypeReturning(userId, tokenType.name(), reason, now, now)
+                .doOnNext(this::cacheRevocation)
+                .count()
+                .flatMap(count -> tokenType == JwtToken.TokenType.ACCESS
+                        ? revokeAccessTokensIssuedBeforeNow(userId).thenReturn(count)
+                        : Mono.just(count))
                 .doOnSuccess(count -> log.debug("Revoked {} {} tokens for user: {}", count, tokenType, userId))
                 .doOnError(error -> log.error("Failed to revoke {} tokens for user {}: {}", tokenType, userId, error.getMessage()));
     }
@@ -105,19 +120,88 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
     @Override
     public Mono<Boolean> isTokenRevoked(String tokenHash) {
         log.debug("Checking if token is revoked");
-        
-        return r2dbcRepository.isTokenRevoked(tokenHash)
+
+        return revocationCache.lookup(tokenHash)
+                .map(Mono::just)
+                .orElseGet(() -> r2dbcRepository.isTokenRevoked(tokenHash, Instant.now()))
                 .doOnSuccess(revoked -> log.debug("Token revoked status: {}", revoked));
     }
 
     @Override
-    public Mono<Long> deleteExpiredTokens(Instant cutoffTime) {
-        log.debug("Deleting tokens expired before: {}", cutoffTime);
-        
-        return r2dbcRepository.deleteExpiredTokens(cutoffTime)
-                .map(Integer::longValue)
-                .doOnSuccess(count -> log.debug("Deleted {} expired tokens", count))
-                .doOnError(error -> log.error("Failed to delete expired tokens: {}", error.getMessage()));
+    public Flux<JwtToken> findRevokedUnexpiredTokens(Instant revokedSince) {
+        log.debug("Finding revoked unexpired tokens revoked since: {}", revokedSince);
+
+        return r2dbcRepository.findRevokedUnexpiredTokens(revokedSince, Instant.now())
+                .map(mapper::toDomain)
+                .doOnError(error -> log.error("Failed to find revoked tokens: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<Void> revokeAccessTokensIssuedBefore(UUID userId, Instant revokedBefore) {
+        log.debug("Revoking access tokens for user: {} issued before: {}", userId, revokedBefore);
+
+        return watermarkRepository.upsertWatermark(userId, revokedBefore, Instant.now())
+                .doOnSuccess(updated -> revocationCache.markAccessTokensRevoked(userId, revokedBefore))
+                .then()
+                .doOnSuccess(v -> log.debug("Successfully revoked access tokens for user: {}", userId))
+                .doOnError(error -> log.error("Failed to revoke access tokens for user {}: {}", userId, error.getMessage()));
+    }
+
+    /**
+     * Revoke all access tokens of a user issued so far, taking "now" from the database clock
+     */
+    private Mono<Void> revokeAccessTokensIssuedBeforeNow(UUID userId) {
+        return watermarkRepository.upsertWatermarkToNow(userId)
+                .doOnNext(revokedBefore -> revocationCache.markAccessTokensRevoked(userId, revokedBefore))
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> isAccessTokenRevoked(UUID userId, Instant issuedAt) {
+        log.debug("Checking if access token is revoked for user: {}", userId);
+
+        return revocationCache.lookupAccessToken(userId, issuedAt)
+                .map(Mono::just)
+                .orElseGet(() -> watermarkRepository.findRevokedBefore(userId)
+                        .map(issuedAt::isBefore)
+                        .defaultIfEmpty(false))
+                .doOnSuccess(revoked -> log.debug("Access token revoked status: {}", revoked));
+    }
+
+    @Override
+    public Flux<AccessTokenWatermark> findAccessTokenWatermarks(Instant updatedSince, Instant revokedAfter) {
+        log.debug("Finding access token watermarks updated since: {}", updatedSince);
+
+        return watermarkRepository.findUpdatedSince(updatedSince, revokedAfter)
+                .map(entity -> new AccessTokenWatermark(entity.userId(), entity.revokedBefore()))
+                .doOnError(error -> log.error("Failed to find access token watermarks: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<Integer> deleteAccessTokenWatermarksBefore(Instant revokedBefore) {
+        log.debug("Deleting access token watermarks before: {}", revokedBefore);
+
+        return watermarkRepository.deleteRevokedBefore(revokedBefore)
+                .doOnSuccess(count -> log.debug("Deleted {} access token watermarks", count))
+                .doOnError(error -> log.error("Failed to delete access token watermarks: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<Integer> createPartitions(LocalDate from, LocalDate to) {
+        log.debug("Creating token partitions from {} to {}", from, to);
+
+        return r2dbcRepository.createPartitions(from, to)
+                .doOnSuccess(count -> log.debug("Created {} token partitions", count))
+                .doOnError(error -> log.error("Failed to create token partitions: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<Integer> dropPartitionsBefore(LocalDate day) {
+        log.debug("Dropping token partitions before: {}", day);
+
+        return r2dbcRepository.dropPartitionsBefore(day)
+                .doOnSuccess(count -> log.debug("Dropped {} token partitions", count))
+                .doOnError(error -> log.error("Failed to drop token partitions: {}", error.getMessage()));
     }
 
     @Override
@@ -134,7 +218,7 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
     public Mono<JwtToken> findById(UUID id) {
         log.debug("Finding JWT token by ID: {}", id);
         
-        return r2dbcRepository.findById(id)
+        return r2dbcRepository.findUnexpiredById(id, Instant.now())
                 .map(mapper::toDomain)
                 .doOnSuccess(token -> {
                     if (token != null) {
@@ -166,4 +250,8 @@ public class R2dbcJwtTokenRepositoryAdapter implements JwtTokenRepository {
         return r2dbcRepository.countActiveTokensForUser(userId, atTime)
                 .doOnSuccess(count -> log.debug("User {} has {} active tokens at {}", userId, count, atTime));
     }
+
+    private void cacheRevocation(JwtTokenEntity entity) {
+        revocationCache.markRevoked(entity.tokenHash(), entity.expiresAt());
+    }
 }
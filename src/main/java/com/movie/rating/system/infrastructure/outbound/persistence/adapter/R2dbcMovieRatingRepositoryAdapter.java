@@ -1,10 +1,14 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
+import com.movie.rating.system.domain.exception.MovieNotFoundException;
 import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.MovieRatingPersistenceMapper;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingAggregateRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingRepository;
+import io.r2dbc.spi.R2dbcException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -12,6 +16,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -23,8 +31,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository {
 
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String MOVIE_FOREIGN_KEY = "movie_ratings_movie_id_fkey";
+
     private final R2dbcMovieRatingRepository r2dbcRepository;
     private final MovieRatingPersistenceMapper mapper;
+    private final R2dbcMovieRatingAggregateRepository aggregateRepository;
 
     @Override
     public Mono<MovieRating> save(MovieRating movieRating) {
@@ -38,6 +50,66 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                     movieRating.getMovieId(), movieRating.getUserId(), error));
     }
 
+    @Override
+    public Mono<MovieRating> insertIfNoActiveRating(MovieRating movieRating) {
+        log.debug("Inserting movie rating for movie: {} by user: {}", movieRating.getMovieId(), movieRating.getUserId());
+
+        return r2dbcRepository.insertIfNoActiveRating(
+                        movieRating.getMovieId(),
+                        movieRating.getUserId(),
+                        movieRating.getRating(),
+                        movieRating.getReview(),
+                        movieRating.getCreatedAt(),
+                        movieRating.getUpdatedAt())
+                .map(mapper::toDomain)
+                .onErrorMap(this::isMovieForeignKeyViolation,
+                        error -> new MovieNotFoundException(movieRating.getMovieId()))
+                .doOnSuccess(savedRating -> log.debug("Inserted movie rating: {}",
+                    savedRating != null ? savedRating.getId() : "none, active rating already exists"))
+                .doOnError(error -> log.error("Failed to insert movie rating for movie: {} by user: {}",
+                    movieRating.getMovieId(), movieRating.getUserId(), error));
+    }
+
+    @Override
+    public Mono<List<BatchInsertOutcome>> insertAllIfNoActiveRating(List<MovieRating> movieRatings) {
+        log.debug("Inserting batch of {} movie ratings", movieRatings.size());
+        if (movieRatings.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        // A second rating for the same movie and user would make the upsert touch one row twice
+        Set<List<UUID>> seen = new HashSet<>();
+        List<MovieRating> distinct = new ArrayList<>(movieRatings.size());
+        boolean[] duplicate = new boolean[movieRatings.size()];
+        for (int i = 0; i < movieRatings.size(); i++) {
+            MovieRating rating = movieRatings.get(i);
+            if (seen.add(List.of(rating.getMovieId(), rating.getUserId()))) {
+                distinct.add(rating);
+            } else {
+                duplicate[i] = true;
+            }
+        }
+
+        return r2dbcRepository.insertAllIfNoActiveRating(
+                        distinct.stream().map(MovieRating::getMovieId).toArray(UUID[]::new),
+                        distinct.stream().map(MovieRating::getUserId).toArray(UUID[]::new),
+                        distinct.stream().map(MovieRating::getRating).toArray(Integer[]::new),
+                        distinct.stream().map(MovieRating::getReview).toArray(String[]::new),
+                        distinct.stream().map(rating -> rating.getCreatedAt().toString()).toArray(String[]::new))
+                .map(result -> BatchInsertOutcome.valueOf(result.outcome()))
+                .collectList()
+                .map(outcomes -> {
+                    List<BatchInsertOutcome> all = new ArrayList<>(movieRatings.size());
+                    int next = 0;
+                    for (boolean isDuplicate : duplicate) {
+                        all.add(isDuplicate ? BatchInsertOutcome.DUPLICATE : outcomes.get(next++));
+                    }
+                    return all;
+                })
+                .doOnSuccess(outcomes -> log.debug("Inserted batch of {} movie ratings", movieRatings.size()))
+                .doOnError(error -> log.error("Failed to insert batch of {} movie ratings", movieRatings.size(), error));
+    }
+
     @Override
     public Mono<MovieRating> findById(UUID id) {
         log.debug("Finding movie rating by ID: {}", id);
@@ -132,6 +204,20 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                 .doOnError(error -> log.error("Failed to find ratings created between {} and {}", startDate, endDate, error));
     }
 
+    /**
+     * Whether the error is the foreign key violation raised for a rating of a non-existent movie
+     */
+    private boolean isMovieForeignKeyViolation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcException r2dbcException) {
+                return FOREIGN_KEY_VIOLATION.equals(r2dbcException.getSqlState())
+                        && r2dbcException.getMessage() != null
+                        && r2dbcException.getMessage().contains(MOVIE_FOREIGN_KEY);
+            }
+        }
+        return false;
+    }
+
     @Override
     public Mono<Boolean> existsActiveByMovieIdAndUserId(UUID movieId, UUID userId) {
         log.debug("Checking if active rating exists for movie: {} by user: {}", movieId, userId);
@@ -165,6 +251,16 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                 .doOnError(error -> log.error("Failed to soft delete movie rating by ID: {}", id, error));
     }
 
+    @Override
+    public Mono<Boolean> deactivateByIdAndUserId(UUID id, UUID userId) {
+        log.debug("Deactivating movie rating by ID: {} for user: {}", id, userId);
+        
+        return r2dbcRepository.deactivateByIdAndUserId(id, userId, Instant.now())
+                .map(updated -> updated > 0)
+                .doOnSuccess(deactivated -> log.debug("Movie rating {} deactivated by {}: {}", id, userId, deactivated))
+                .doOnError(error -> log.error("Failed to deactivate movie rating by ID: {} for user: {}", id, userId, error));
+    }
+
     @Override
     public Mono<Double> calculateAverageRatingByMovieId(UUID movieId) {
         log.debug("Calculating average rating for movie: {}", movieId);
@@ -174,6 +270,17 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                 .doOnError(error -> log.error("Failed to calculate average rating for movie: {}", movieId, error));
     }
 
+    @Override
+    public Mono<MovieRatingAggregate> findAggregateByMovieId(UUID movieId) {
+        log.debug("Finding rating aggregate for movie: {}", movieId);
+        
+        return aggregateRepository.findById(movieId)
+                .map(mapper::toAggregate)
+                .doOnSuccess(aggregate -> log.debug("Rating aggregate for movie: {}: {} ratings", movieId,
+                    aggregate != null ? aggregate.getRatingCount() : 0))
+                .doOnError(error -> log.error("Failed to find rating aggregate for movie: {}", movieId, error));
+    }
+
     @Override
     public Mono<Long> countActiveByMovieId(UUID movieId) {
         log.debug("Counting active ratings for movie: {}", movieId);
@@ -193,11 +300,13 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
     }
 
     @Override
-    public Flux<UUID> findTopRatedMovies(int limit, int minRatingCount) {
+    public Flux<RankedMovie> findTopRatedMovies(int limit, int minRatingCount) {
         log.debug("Finding top {} rated movies with minimum {} ratings", limit, minRatingCount);
         
         return r2dbcRepository.findTopRatedMovies(limit, minRatingCount)
-                .map(R2dbcMovieRatingRepository.TopRatedMovieResult::movieId)
+                .map(result -> new RankedMovie(
+                        result.movieId(), result.title(), result.avgRating(),
+                        result.ratingCount(), result.weightedRating()))
                 .doOnComplete(() -> log.debug("Completed finding top {} rated movies", limit))
                 .doOnError(error -> log.error("Failed to find top rated movies", error));
     }
@@ -212,6 +321,16 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                 .doOnError(error -> log.error("Failed to find ratings for movie: {} with pagination", movieId, error));
     }
 
+    @Override
+    public Flux<MovieRating> findActiveByMovieIdAfter(UUID movieId, Instant createdAt, UUID id, int limit) {
+        log.debug("Finding ratings for movie: {} after cursor: createdAt={}, id={}, limit={}", movieId, createdAt, id, limit);
+        
+        return r2dbcRepository.findActiveByMovieIdAfter(movieId, createdAt, id, limit)
+                .map(mapper::toDomain)
+                .doOnComplete(() -> log.debug("Completed finding ratings for movie: {} after cursor", movieId))
+                .doOnError(error -> log.error("Failed to find ratings for movie: {} after cursor", movieId, error));
+    }
+
     @Override
     public Flux<MovieRating> findActiveByUserIdWithPagination(UUID userId, int offset, int limit) {
         log.debug("Finding ratings by user: {} with pagination: offset={}, limit={}", userId, offset, limit);
@@ -222,6 +341,16 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                 .doOnError(error -> log.error("Failed to find ratings by user: {} with pagination", userId, error));
     }
 
+    @Override
+    public Flux<MovieRating> findActiveByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        log.debug("Finding ratings by user: {} after cursor: createdAt={}, id={}, limit={}", userId, createdAt, id, limit);
+        
+        return r2dbcRepository.findActiveByUserIdAfter(userId, createdAt, id, limit)
+                .map(mapper::toDomain)
+                .doOnComplete(() -> log.debug("Completed finding ratings by user: {} after cursor", userId))
+                .doOnError(error -> log.error("Failed to find ratings by user: {} after cursor", userId, error));
+    }
+
     @Override
     public Flux<MovieRating> findRecentRatings(int limit) {
         log.debug("Finding {} recent ratings", limit);
@@ -232,6 +361,56 @@ public class R2dbcMovieRatingRepositoryAdapter implements MovieRatingRepository
                 .doOnError(error -> log.error("Failed to find recent ratings", error));
     }
 
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByMovieIdWithPagination(UUID movieId, int offset, int limit) {
+        log.debug("Finding rating summaries for movie: {} with pagination: offset={}, limit={}", movieId, offset, limit);
+        
+        return r2dbcRepository.findActiveSummariesByMovieIdWithPagination(movieId, offset, limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding rating summaries for movie: {} with pagination", movieId))
+                .doOnError(error -> log.error("Failed to find rating summaries for movie: {} with pagination", movieId, error));
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByMovieIdAfter(UUID movieId, Instant createdAt, UUID id, int limit) {
+        log.debug("Finding rating summaries for movie: {} after cursor: createdAt={}, id={}, limit={}", movieId, createdAt, id, limit);
+        
+        return r2dbcRepository.findActiveSummariesByMovieIdAfter(movieId, createdAt, id, limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding rating summaries for movie: {} after cursor", movieId))
+                .doOnError(error -> log.error("Failed to find rating summaries for movie: {} after cursor", movieId, error));
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByUserIdWithPagination(UUID userId, int offset, int limit) {
+        log.debug("Finding rating summaries by user: {} with pagination: offset={}, limit={}", userId, offset, limit);
+        
+        return r2dbcRepository.findActiveSummariesByUserIdWithPagination(userId, offset, limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding rating summaries by user: {} with pagination", userId))
+                .doOnError(error -> log.error("Failed to find rating summaries by user: {} with pagination", userId, error));
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        log.debug("Finding rating summaries by user: {} after cursor: createdAt={}, id={}, limit={}", userId, createdAt, id, limit);
+        
+        return r2dbcRepository.findActiveSummariesByUserIdAfter(userId, createdAt, id, limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding rating summaries by user: {} after cursor", userId))
+                .doOnError(error -> log.error("Failed to find rating summaries by user: {} after cursor", userId, error));
+    }
+
+    @Override
+    public Flux<RatingSummary> findRecentSummaries(int limit) {
+        log.debug("Finding {} recent rating summaries", limit);
+        
+        return r2dbcRepository.findRecentSummaries(limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding {} recent rating summaries", limit))
+                .doOnError(error -> log.error("Failed to find recent rating summaries", error));
+    }
+
     @Override
     public Flux<MovieRating> findActiveByRating(Integer rating) {
         log.debug("Finding ratings by rating value: {}", rating);
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -142,6 +143,16 @@ public class R2dbcMovieRepositoryAdapter implements MovieRepository {
                 .doOnError(error -> log.error("Failed to soft delete movie by ID: {}", id, error));
     }
 
+    @Override
+    public Mono<Boolean> deactivateByIdAndCreatedBy(UUID id, UUID userId) {
+        log.debug("Deactivating movie by ID: {} for creator: {}", id, userId);
+        
+        return r2dbcRepository.deactivateByIdAndCreatedBy(id, userId, Instant.now())
+                .map(updated -> updated > 0)
+                .doOnSuccess(deactivated -> log.debug("Movie {} deactivated by {}: {}", id, userId, deactivated))
+                .doOnError(error -> log.error("Failed to deactivate movie by ID: {} for creator: {}", id, userId, error));
+    }
+
     @Override
     public Mono<Long> countActive() {
         log.debug("Counting active movies");
@@ -179,6 +190,56 @@ public class R2dbcMovieRepositoryAdapter implements MovieRepository {
                 .doOnError(error -> log.error("Failed to find active movies with pagination", error));
     }
 
+    @Override
+    public Flux<Movie> findAllActiveAfter(Instant createdAt, UUID id, int limit) {
+        log.debug("Finding active movies after cursor: createdAt={}, id={}, limit={}", createdAt, id, limit);
+        
+        return r2dbcRepository.findAllActiveAfter(createdAt, id, limit)
+                .map(mapper::toDomain)
+                .doOnComplete(() -> log.debug("Completed finding active movies after cursor"))
+                .doOnError(error -> log.error("Failed to find active movies after cursor", error));
+    }
+
+    @Override
+    public Flux<MovieSummary> findActiveSummariesWithPagination(int offset, int limit) {
+        log.debug("Finding active movie summaries with pagination: offset={}, limit={}", offset, limit);
+        
+        return r2dbcRepository.findActiveSummariesWithPagination(offset, limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding active movie summaries with pagination"))
+                .doOnError(error -> log.error("Failed to find active movie summaries with pagination", error));
+    }
+
+    @Override
+    public Flux<MovieSummary> findActiveSummariesAfter(Instant createdAt, UUID id, int limit) {
+        log.debug("Finding active movie summaries after cursor: createdAt={}, id={}, limit={}", createdAt, id, limit);
+        
+        return r2dbcRepository.findActiveSummariesAfter(createdAt, id, limit)
+                .map(mapper::toSummary)
+                .doOnComplete(() -> log.debug("Completed finding active movie summaries after cursor"))
+                .doOnError(error -> log.error("Failed to find active movie summaries after cursor", error));
+    }
+
+    @Override
+    public Flux<MovieSearchHit> searchByText(String query, int limit) {
+        log.debug("Searching movies by text: {}, limit={}", query, limit);
+        
+        return r2dbcRepository.searchByText(query, limit)
+                .map(mapper::toSearchHit)
+                .doOnComplete(() -> log.debug("Completed searching movies by text: {}", query))
+                .doOnError(error -> log.error("Failed to search movies by text: {}", query, error));
+    }
+
+    @Override
+    public Flux<MovieSearchHit> searchByTextAfter(String query, double relevance, UUID id, int limit) {
+        log.debug("Searching movies by text: {} after cursor: relevance={}, id={}, limit={}", query, relevance, id, limit);
+        
+        return r2dbcRepository.searchByTextAfter(query, relevance, id, limit)
+                .map(mapper::toSearchHit)
+                .doOnComplete(() -> log.debug("Completed searching movies by text: {} after cursor", query))
+                .doOnError(error -> log.error("Failed to search movies by text: {} after cursor", query, error));
+    }
+
     @Override
     public Flux<Movie> searchMovies(String titlePattern, Integer yearOfRelease, UUID createdBy) {
         log.debug("Searching movies with criteria: title={}, year={}, creator={}", titlePattern, yearOfRelease, createdBy);
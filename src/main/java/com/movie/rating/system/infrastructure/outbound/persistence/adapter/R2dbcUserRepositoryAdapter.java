@@ -1,9 +1,13 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.User;
+import com.movie.rating.system.domain.exception.EmailAlreadyExistsException;
+import com.movie.rating.system.domain.exception.UsernameAlreadyExistsException;
 import com.movie.rating.system.domain.port.outbound.UserRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.cache.UserAvailabilityFilter;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.UserEntityMapper;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcUserRepository;
+import io.r2dbc.spi.R2dbcException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -18,20 +22,29 @@ import java.util.UUID;
  * R2DBC implementation of the user repository adapter.
  * This adapter implements the outbound port for user persistence operations
  * using R2DBC for reactive database access.
+ * Saved usernames and emails are mirrored into the {@link UserAvailabilityFilter} that backs
+ * the availability check; the existence checks here always ask the database.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class R2dbcUserRepositoryAdapter implements UserRepository {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String USERNAME_UNIQUE_KEY = "users_username_key";
+    private static final String EMAIL_UNIQUE_KEY = "users_email_key";
+
     private final R2dbcUserRepository repository;
     private final UserEntityMapper mapper;
+    private final UserAvailabilityFilter availabilityFilter;
 
     /**
      * Saves a user to the database.
      *
      * @param user the user to save
      * @return Mono containing the saved user
+     * @throws UsernameAlreadyExistsException if the username is taken
+     * @throws EmailAlreadyExistsException if the email is taken
      */
     @Transactional
     public Mono<User> save(User user) {
@@ -39,6 +52,11 @@ public class R2dbcUserRepositoryAdapter implements UserRepository {
 
         return repository.save(mapper.toEntity(user))
                 .map(mapper::toDomain)
+                .doOnNext(saved -> availabilityFilter.add(saved.getUsername(), saved.getEmail()))
+                .onErrorMap(error -> isUniqueViolation(error, USERNAME_UNIQUE_KEY),
+                        error -> new UsernameAlreadyExistsException(user.getUsername(), error))
+                .onErrorMap(error -> isUniqueViolation(error, EMAIL_UNIQUE_KEY),
+                        error -> new EmailAlreadyExistsException(user.getEmail(), error))
                 .doOnSuccess(savedUser -> log.debug("Successfully saved user with ID: {}", savedUser.getId()))
                 .doOnError(error -> log.error("Failed to save user with username: {}", user.getUsername(), error));
     }
@@ -48,6 +66,7 @@ public class R2dbcUserRepositoryAdapter implements UserRepository {
      *
      * @param user the user to update
      * @return Mono containing the updated user
+     * @throws EmailAlreadyExistsException if the new email is taken
      */
     @Transactional
     public Mono<User> update(User user) {
@@ -60,6 +79,11 @@ public class R2dbcUserRepositoryAdapter implements UserRepository {
 
         return repository.save(mapper.toEntity(updatedUser))
                 .map(mapper::toDomain)
+                .doOnNext(saved -> availabilityFilter.add(saved.getUsername(), saved.getEmail()))
+                .onErrorMap(error -> isUniqueViolation(error, USERNAME_UNIQUE_KEY),
+                        error -> new UsernameAlreadyExistsException(user.getUsername(), error))
+                .onErrorMap(error -> isUniqueViolation(error, EMAIL_UNIQUE_KEY),
+                        error -> new EmailAlreadyExistsException(user.getEmail(), error))
                 .doOnSuccess(result -> log.debug("Successfully updated user with ID: {}", result.getId()))
                 .doOnError(error -> log.error("Failed to update user with ID: {}", user.getId(), error));
     }
@@ -240,4 +264,18 @@ public class R2dbcUserRepositoryAdapter implements UserRepository {
                 .doOnComplete(() -> log.debug("Successfully completed search for pattern: {}", pattern))
                 .doOnError(error -> log.error("Failed to search users with pattern: {}", pattern, error));
     }
+
+    /**
+     * Whether the error is the unique violation raised by the given constraint
+     */
+    private boolean isUniqueViolation(Throwable error, String constraint) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof R2dbcException r2dbcException) {
+                return UNIQUE_VIOLATION.equals(r2dbcException.getSqlState())
+                        && r2dbcException.getMessage() != null
+                        && r2dbcException.getMessage().contains(constraint);
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,215 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.port.outbound.MovieRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.adapter.R2dbcMovieRepositoryAdapter;
+import com.movie.rating.system.infrastructure.outbound.persistence.coalescing.SingleFlight;
+import com.movie.rating.system.infrastructure.outbound.persistence.coalescing.SingleFlightFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Caching decorator around the R2DBC movie repository.
+ * Lookups by primary key are served from a bounded cache weighted by the approximate
+ * size of each movie and expired after a fixed time. Concurrent misses for the same ID
+ * share a single query. Local writes drop the affected entry right away; changes made by
+ * other nodes are picked up through {@link MovieChangeListener}.
+ * Identical concurrent counts and existence checks share one query; all other
+ * operations go straight to the database.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.cache.movies.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingMovieRepository implements MovieRepository {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final MovieRepository delegate;
+    private final AsyncCache<UUID, Movie> moviesById;
+    private final SingleFlight singleFlight;
+
+    public CachingMovieRepository(R2dbcMovieRepositoryAdapter delegate,
+                                  SingleFlightFactory singleFlightFactory,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.cache.movies.max-weight:16777216}") long maxWeight,
+                                  @Value("${app.cache.movies.ttl:PT10M}") Duration ttl) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlightFactory.create("MovieRepository");
+        this.moviesById = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((UUID id, Movie movie) -> weigh(movie))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, moviesById, "movies");
+    }
+
+    @Override
+    public Mono<Movie> save(Movie movie) {
+        return delegate.save(movie)
+                .doOnSuccess(savedMovie -> {
+                    if (savedMovie != null) {
+                        invalidate(savedMovie.getId());
+                    }
+                })
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<Movie> findById(UUID id) {
+        // Cancelling one subscriber must not cancel the query shared with the others
+        return Mono.fromFuture(() -> moviesById.get(id, (key, executor) -> delegate.findById(key).toFuture()), true);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(UUID id) {
+        return findById(id).hasElement();
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return delegate.deleteById(id)
+                .doFinally(signal -> {
+                    invalidate(id);
+                    singleFlight.forgetAll();
+                });
+    }
+
+    @Override
+    public Mono<Boolean> deactivateByIdAndCreatedBy(UUID id, UUID userId) {
+        return delegate.deactivateByIdAndCreatedBy(id, userId)
+                .doFinally(signal -> {
+                    invalidate(id);
+                    singleFlight.forgetAll();
+                });
+    }
+
+    @Override
+    public Flux<Movie> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public Flux<Movie> findByCreatedBy(UUID userId) {
+        return delegate.findByCreatedBy(userId);
+    }
+
+    @Override
+    public Flux<Movie> findByTitleContainingIgnoreCase(String titlePattern) {
+        return delegate.findByTitleContainingIgnoreCase(titlePattern);
+    }
+
+    @Override
+    public Flux<Movie> findByYearOfRelease(Integer year) {
+        return delegate.findByYearOfRelease(year);
+    }
+
+    @Override
+    public Flux<Movie> findByYearOfReleaseBetween(Integer startYear, Integer endYear) {
+        return delegate.findByYearOfReleaseBetween(startYear, endYear);
+    }
+
+    @Override
+    public Flux<Movie> findByPlotContainingIgnoreCase(String plotKeyword) {
+        return delegate.findByPlotContainingIgnoreCase(plotKeyword);
+    }
+
+    @Override
+    public Mono<Boolean> existsByTitleAndYearOfRelease(String title, Integer yearOfRelease) {
+        return singleFlight.execute("existsByTitleAndYearOfRelease", Arrays.asList(title, yearOfRelease),
+                () -> delegate.existsByTitleAndYearOfRelease(title, yearOfRelease));
+    }
+
+    @Override
+    public Mono<Long> countActive() {
+        return singleFlight.execute("countActive", "", delegate::countActive);
+    }
+
+    @Override
+    public Mono<Long> countByCreatedBy(UUID userId) {
+        return singleFlight.execute("countByCreatedBy", userId, () -> delegate.countByCreatedBy(userId));
+    }
+
+    @Override
+    public Mono<Long> countActiveByCreatedBy(UUID userId) {
+        return singleFlight.execute("countActiveByCreatedBy", userId, () -> delegate.countActiveByCreatedBy(userId));
+    }
+
+    @Override
+    public Flux<Movie> findAllActiveWithPagination(int offset, int limit) {
+        return delegate.findAllActiveWithPagination(offset, limit);
+    }
+
+    @Override
+    public Flux<Movie> findAllActiveAfter(Instant createdAt, UUID id, int limit) {
+        return delegate.findAllActiveAfter(createdAt, id, limit);
+    }
+
+    @Override
+    public Flux<MovieSummary> findActiveSummariesWithPagination(int offset, int limit) {
+        return delegate.findActiveSummariesWithPagination(offset, limit);
+    }
+
+    @Override
+    public Flux<MovieSummary> findActiveSummariesAfter(Instant createdAt, UUID id, int limit) {
+        return delegate.findActiveSummariesAfter(createdAt, id, limit);
+    }
+
+    @Override
+    public Flux<Movie> searchMovies(String titlePattern, Integer yearOfRelease, UUID createdBy) {
+        return delegate.searchMovies(titlePattern, yearOfRelease, createdBy);
+    }
+
+    @Override
+    public Flux<MovieSearchHit> searchByText(String query, int limit) {
+        return delegate.searchByText(query, limit);
+    }
+
+    @Override
+    public Flux<MovieSearchHit> searchByTextAfter(String query, double relevance, UUID id, int limit) {
+        return delegate.searchByTextAfter(query, relevance, id, limit);
+    }
+
+    /**
+     * Drop the cached copy of a movie
+     *
+     * @param id the movie ID
+     */
+    public void invalidate(UUID id) {
+        if (id != null) {
+            moviesById.synchronous().invalidate(id);
+        }
+    }
+
+    /**
+     * Drop all cached movies, e.g. after change notifications may have been missed
+     */
+    public void invalidateAll() {
+        log.debug("Invalidating all cached movies");
+        moviesById.synchronous().invalidateAll();
+    }
+
+    /**
+     * Approximate number of bytes a cached movie occupies
+     */
+    private static int weigh(Movie movie) {
+        int titleLength = movie.getTitle() != null ? movie.getTitle().length() : 0;
+        int plotLength = movie.getPlot() != null ? movie.getPlot().length() : 0;
+        return ENTRY_OVERHEAD_BYTES + 2 * (titleLength + plotLength);
+    }
+}
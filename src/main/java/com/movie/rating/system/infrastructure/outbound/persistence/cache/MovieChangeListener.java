@@ -0,0 +1,111 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Keeps the movie cache coherent across application nodes.
+ * Listens on the {@code movie_changes} channel, which a trigger on the movies table
+ * notifies with the ID of every inserted, updated or deleted movie, and drops the cached
+ * copy. The listener holds one database connection for as long as the application runs.
+ * Whenever the connection is (re)established the whole cache is cleared, since
+ * notifications sent while nobody was listening are lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.movies.enabled", havingValue = "true", matchIfMissing = true)
+public class MovieChangeListener {
+
+    static final String CHANNEL = "movie_changes";
+
+    private final ConnectionFactory connectionFactory;
+    private final CachingMovieRepository movieCache;
+
+    @Value("${app.cache.movies.listener-max-backoff:PT30S}")
+    private Duration maxBackoff;
+
+    private volatile Disposable subscription;
+
+    /**
+     * Start listening once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Listening for movie changes on channel '{}'", CHANNEL);
+
+        subscription = listen()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(maxBackoff)
+                        .doBeforeRetry(signal -> log.warn("Movie change listener failed, reconnecting (attempt {})",
+                                signal.totalRetries() + 1, signal.failure())))
+                .subscribe(
+                        v -> { },
+                        error -> log.error("Stopped listening for movie changes", error)
+                );
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Mono<Void> listen() {
+        return Mono.usingWhen(
+                connectionFactory.create(),
+                connection -> {
+                    PostgresqlConnection postgres = unwrap(connection);
+                    return postgres.createStatement("LISTEN " + CHANNEL)
+                            .execute()
+                            .flatMap(PostgresqlResult::getRowsUpdated)
+                            .thenMany(postgres.getNotifications()
+                                    .doOnSubscribe(s -> movieCache.invalidateAll()))
+                            .doOnNext(this::onNotification)
+                            .then(Mono.error(new IllegalStateException("Movie change notification stream completed")));
+                },
+                Connection::close
+        );
+    }
+
+    void onNotification(Notification notification) {
+        String payload = notification.getParameter();
+        try {
+            movieCache.invalidate(UUID.fromString(payload));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("Ignoring movie change notification with invalid payload: {}", payload);
+        }
+    }
+
+    private static PostgresqlConnection unwrap(Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+        if (current instanceof PostgresqlConnection postgres) {
+            return postgres;
+        }
+        throw new IllegalStateException("Movie change notifications require a PostgreSQL connection, got "
+                + connection.getClass().getName());
+    }
+}
@@ -0,0 +1,155 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked JWT token hashes and per-user access token watermarks.
+ * Each token entry lives until the token's own expiry, after which signature validation rejects
+ * the token anyway; watermarks are kept until no access token issued before them can still be valid.
+ * Once warmed from the database the cache is authoritative, so revocation checks no longer need
+ * a round-trip to the database.
+ */
+@Slf4j
+@Component
+public class TokenRevocationCache {
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> accessTokenWatermarks = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private volatile boolean warm = false;
+
+    public TokenRevocationCache(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("jwt.revocation.cache.lookups")
+                .description("Revocation checks answered from the in-memory cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.revocation.cache.lookups")
+                .description("Revocation checks that fell through to the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.cache.size", revokedTokens, Map::size)
+                .description("Number of revoked, unexpired token hashes held in memory")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.cache.watermarks", accessTokenWatermarks, Map::size)
+                .description("Number of per-user access token watermarks held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up the revocation status of a token hash.
+     *
+     * @param tokenHash the token hash
+     * @return the revocation status, or empty if the cache is not warmed yet and the caller must ask the database
+     */
+    public Optional<Boolean> lookup(String tokenHash) {
+        if (!warm) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        Instant expiresAt = revokedTokens.get(tokenHash);
+        return Optional.of(expiresAt != null && expiresAt.isAfter(Instant.now()));
+    }
+
+    /**
+     * Look up whether an access token is revoked by its user's watermark.
+     *
+     * @param userId   the user ID
+     * @param issuedAt the token issue time
+     * @return the revocation status, or empty if the cache is not warmed yet and the caller must ask the database
+     */
+    public Optional<Boolean> lookupAccessToken(UUID userId, Instant issuedAt) {
+        if (!warm) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        Instant revokedBefore = accessTokenWatermarks.get(userId);
+        return Optional.of(revokedBefore != null && issuedAt.isBefore(revokedBefore));
+    }
+
+    /**
+     * Record a user's access token watermark. The watermark never moves backwards.
+     *
+     * @param userId        the user ID
+     * @param revokedBefore access tokens issued before this time are revoked
+     */
+    public void markAccessTokensRevoked(UUID userId, Instant revokedBefore) {
+        if (userId == null || revokedBefore == null) {
+            return;
+        }
+        accessTokenWatermarks.merge(userId, revokedBefore, (current, updated) -> updated.isAfter(current) ? updated : current);
+    }
+
+    /**
+     * Record a revoked token. Tokens that have already expired are ignored.
+     *
+     * @param tokenHash the token hash
+     * @param expiresAt the token expiry time
+     */
+    public void markRevoked(String tokenHash, Instant expiresAt) {
+        if (tokenHash == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokens.put(tokenHash, expiresAt);
+    }
+
+    /**
+     * Mark the cache as fully loaded so that lookups are answered locally.
+     */
+    public void markWarm() {
+        this.warm = true;
+        log.info("Token revocation cache warmed with {} revoked tokens", revokedTokens.size());
+    }
+
+    /**
+     * Check if the cache has been warmed from the database
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Remove entries for tokens that have expired.
+     *
+     * @return number of removed entries
+     */
+    public int evictExpired() {
+        Instant now = Instant.now();
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return before - revokedTokens.size();
+    }
+
+    /**
+     * Remove watermarks that can no longer affect any unexpired access token.
+     *
+     * @param horizon watermarks at or before this time are removed
+     * @return number of removed watermarks
+     */
+    public int evictWatermarksBefore(Instant horizon) {
+        int before = accessTokenWatermarks.size();
+        accessTokenWatermarks.values().removeIf(revokedBefore -> !revokedBefore.isAfter(horizon));
+        return before - accessTokenWatermarks.size();
+    }
+
+    /**
+     * Number of revoked tokens currently held
+     */
+    public int size() {
+        return revokedTokens.size();
+    }
+}
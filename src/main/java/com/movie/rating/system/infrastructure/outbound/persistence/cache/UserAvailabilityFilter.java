@@ -0,0 +1,157 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import com.movie.rating.system.domain.port.outbound.UserAvailabilityIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Probabilistic in-memory index of taken usernames and emails.
+ * A Bloom filter never forgets a value it was given, so once loaded from the database a
+ * negative answer means the username or email is definitely not taken and no query is needed;
+ * positive answers may be false and must be confirmed by the database.
+ * Users are added as they are saved. The filter is rebuilt periodically to forget emails that
+ * were changed away and to resize for growth; users saved during a rebuild go into both filters.
+ * Users saved on other nodes only show up after the next rebuild, so the filter backs the
+ * advisory availability check and never the existence checks that guard writes.
+ */
+@Slf4j
+@Component
+public class UserAvailabilityFilter implements UserAvailabilityIndex {
+
+    /** Rebuilt filters are sized for this many times the current number of users */
+    private static final int GROWTH_FACTOR = 2;
+    private static final long MIN_EXPECTED_USERS = 1024;
+
+    private final double falsePositiveRate;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter cold;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    public UserAvailabilityFilter(MeterRegistry meterRegistry,
+                                  @Value("${app.users.availability-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.negatives = lookupCounter(meterRegistry, "negative", "Lookups answered as definitely not taken");
+        this.positives = lookupCounter(meterRegistry, "positive", "Lookups that had to be confirmed by the database");
+        this.cold = lookupCounter(meterRegistry, "cold", "Lookups made before the filter was loaded");
+    }
+
+    /**
+     * Check whether a username may be taken.
+     *
+     * @param username the username, compared exactly
+     * @return false only if the username is definitely not taken
+     */
+    @Override
+    public boolean mightContainUsername(String username) {
+        return mightContain(usernameKey(username));
+    }
+
+    /**
+     * Check whether an email may be taken.
+     *
+     * @param email the email, compared ignoring case
+     * @return false only if the email is definitely not taken
+     */
+    @Override
+    public boolean mightContainEmail(String email) {
+        return mightContain(emailKey(email));
+    }
+
+    /**
+     * Record a saved user's username and email.
+     */
+    public void add(String username, String email) {
+        // Read the filter being rebuilt first: once it is null, current already points at it
+        BloomFilter next = rebuilding;
+        BloomFilter filter = current;
+        put(next, username, email);
+        put(filter, username, email);
+    }
+
+    /**
+     * Start filling a new filter. Users saved from now on are added to it as well.
+     *
+     * @param userCount the current number of users, used for sizing
+     */
+    public void beginRebuild(long userCount) {
+        long expectedUsers = Math.max(MIN_EXPECTED_USERS, userCount * GROWTH_FACTOR);
+        // Every user contributes a username and an email
+        rebuilding = new BloomFilter(expectedUsers * 2, falsePositiveRate);
+    }
+
+    /**
+     * Replace the current filter with the rebuilt one, which makes lookups local if this was the first load.
+     */
+    public void completeRebuild() {
+        BloomFilter next = rebuilding;
+        if (next == null) {
+            return;
+        }
+        current = next;
+        rebuilding = null;
+        log.info("User availability filter rebuilt with {} bits", next.bitCount());
+    }
+
+    /**
+     * Discard a partially filled filter and keep using the current one.
+     */
+    public void abortRebuild() {
+        rebuilding = null;
+    }
+
+    /**
+     * Check if the filter has been loaded from the database
+     */
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            cold.increment();
+            return true;
+        }
+        if (filter.mightContain(key)) {
+            positives.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    private static void put(BloomFilter filter, String username, String email) {
+        if (filter == null) {
+            return;
+        }
+        if (username != null) {
+            filter.put(usernameKey(username));
+        }
+        if (email != null) {
+            filter.put(emailKey(email));
+        }
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + username;
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("users.availability.filter.lookups")
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
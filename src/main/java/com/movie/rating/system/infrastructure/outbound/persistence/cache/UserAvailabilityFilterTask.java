@@ -0,0 +1,88 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads the user availability filter at startup and rebuilds it periodically by streaming
+ * the username and email of every user.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityFilterTask {
+
+    private final R2dbcUserRepository userRepository;
+    private final UserAvailabilityFilter availabilityFilter;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${app.users.availability-filter.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Load the filter once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("User availability filter is disabled, availability checks will query the database");
+            return;
+        }
+        subscribe();
+    }
+
+    /**
+     * Rebuild the filter to forget changed emails and resize it for growth
+     */
+    @Scheduled(fixedRateString = "${app.users.availability-filter.rebuild-interval:PT1H}",
+               initialDelayString = "${app.users.availability-filter.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            subscribe();
+        }
+    }
+
+    /**
+     * Rebuild the filter from the database. A rebuild that is already running is not repeated.
+     *
+     * @return Mono containing the number of users loaded, or empty if a rebuild was already running
+     */
+    public Mono<Long> rebuild() {
+        return Mono.defer(() -> {
+            if (!rebuilding.compareAndSet(false, true)) {
+                return Mono.empty();
+            }
+            return userRepository.count()
+                    .flatMapMany(userCount -> {
+                        availabilityFilter.beginRebuild(userCount);
+                        return userRepository.findAllIdentities();
+                    })
+                    .doOnNext(identity -> availabilityFilter.add(identity.username(), identity.email()))
+                    .count()
+                    .doOnSuccess(loaded -> availabilityFilter.completeRebuild())
+                    .doFinally(signal -> {
+                        if (signal != SignalType.ON_COMPLETE) {
+                            availabilityFilter.abortRebuild();
+                        }
+                        rebuilding.set(false);
+                    });
+        });
+    }
+
+    private void subscribe() {
+        rebuild().subscribe(
+                loaded -> log.debug("Loaded {} users into availability filter", loaded),
+                error -> log.error("Failed to rebuild user availability filter", error)
+        );
+    }
+}
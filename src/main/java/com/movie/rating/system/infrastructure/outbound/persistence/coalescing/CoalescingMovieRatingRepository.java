@@ -0,0 +1,200 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.coalescing;
+
+import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.adapter.R2dbcMovieRatingRepositoryAdapter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Movie rating repository that shares identical concurrent single-result reads.
+ * Popular movies receive many identical statistics lookups at the same moment;
+ * only one of them reaches the database. Writes detach all reads in flight.
+ */
+@Primary
+@Component
+public class CoalescingMovieRatingRepository implements MovieRatingRepository {
+
+    private final MovieRatingRepository delegate;
+    private final SingleFlight singleFlight;
+
+    public CoalescingMovieRatingRepository(R2dbcMovieRatingRepositoryAdapter delegate,
+                                           SingleFlightFactory singleFlightFactory) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlightFactory.create("MovieRatingRepository");
+    }
+
+    @Override
+    public Mono<MovieRating> save(MovieRating movieRating) {
+        return delegate.save(movieRating)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<MovieRating> insertIfNoActiveRating(MovieRating movieRating) {
+        return delegate.insertIfNoActiveRating(movieRating)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<List<BatchInsertOutcome>> insertAllIfNoActiveRating(List<MovieRating> movieRatings) {
+        return delegate.insertAllIfNoActiveRating(movieRatings)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return delegate.deleteById(id)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<Boolean> deactivateByIdAndUserId(UUID id, UUID userId) {
+        return delegate.deactivateByIdAndUserId(id, userId)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<MovieRating> findById(UUID id) {
+        return singleFlight.execute("findById", id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public Mono<MovieRating> findActiveByMovieIdAndUserId(UUID movieId, UUID userId) {
+        return singleFlight.execute("findActiveByMovieIdAndUserId", Arrays.asList(movieId, userId),
+                () -> delegate.findActiveByMovieIdAndUserId(movieId, userId));
+    }
+
+    @Override
+    public Mono<Boolean> existsActiveByMovieIdAndUserId(UUID movieId, UUID userId) {
+        return singleFlight.execute("existsActiveByMovieIdAndUserId", Arrays.asList(movieId, userId),
+                () -> delegate.existsActiveByMovieIdAndUserId(movieId, userId));
+    }
+
+    @Override
+    public Mono<Double> calculateAverageRatingByMovieId(UUID movieId) {
+        return singleFlight.execute("calculateAverageRatingByMovieId", movieId,
+                () -> delegate.calculateAverageRatingByMovieId(movieId));
+    }
+
+    @Override
+    public Mono<MovieRatingAggregate> findAggregateByMovieId(UUID movieId) {
+        return singleFlight.execute("findAggregateByMovieId", movieId,
+                () -> delegate.findAggregateByMovieId(movieId));
+    }
+
+    @Override
+    public Mono<Long> countActiveByMovieId(UUID movieId) {
+        return singleFlight.execute("countActiveByMovieId", movieId,
+                () -> delegate.countActiveByMovieId(movieId));
+    }
+
+    @Override
+    public Mono<Long> countActiveByUserId(UUID userId) {
+        return singleFlight.execute("countActiveByUserId", userId,
+                () -> delegate.countActiveByUserId(userId));
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByMovieId(UUID movieId) {
+        return delegate.findActiveByMovieId(movieId);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByUserId(UUID userId) {
+        return delegate.findActiveByUserId(userId);
+    }
+
+    @Override
+    public Flux<MovieRating> findAllByMovieId(UUID movieId) {
+        return delegate.findAllByMovieId(movieId);
+    }
+
+    @Override
+    public Flux<MovieRating> findAllByUserId(UUID userId) {
+        return delegate.findAllByUserId(userId);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByMovieIdAndRatingBetween(UUID movieId, Integer minRating, Integer maxRating) {
+        return delegate.findActiveByMovieIdAndRatingBetween(movieId, minRating, maxRating);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByMovieIdWithReviews(UUID movieId) {
+        return delegate.findActiveByMovieIdWithReviews(movieId);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByCreatedAtBetween(Instant startDate, Instant endDate) {
+        return delegate.findActiveByCreatedAtBetween(startDate, endDate);
+    }
+
+    @Override
+    public Flux<RankedMovie> findTopRatedMovies(int limit, int minRatingCount) {
+        return delegate.findTopRatedMovies(limit, minRatingCount);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByMovieIdWithPagination(UUID movieId, int offset, int limit) {
+        return delegate.findActiveByMovieIdWithPagination(movieId, offset, limit);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByMovieIdAfter(UUID movieId, Instant createdAt, UUID id, int limit) {
+        return delegate.findActiveByMovieIdAfter(movieId, createdAt, id, limit);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByUserIdWithPagination(UUID userId, int offset, int limit) {
+        return delegate.findActiveByUserIdWithPagination(userId, offset, limit);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        return delegate.findActiveByUserIdAfter(userId, createdAt, id, limit);
+    }
+
+    @Override
+    public Flux<MovieRating> findRecentRatings(int limit) {
+        return delegate.findRecentRatings(limit);
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByMovieIdWithPagination(UUID movieId, int offset, int limit) {
+        return delegate.findActiveSummariesByMovieIdWithPagination(movieId, offset, limit);
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByMovieIdAfter(UUID movieId, Instant createdAt, UUID id, int limit) {
+        return delegate.findActiveSummariesByMovieIdAfter(movieId, createdAt, id, limit);
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByUserIdWithPagination(UUID userId, int offset, int limit) {
+        return delegate.findActiveSummariesByUserIdWithPagination(userId, offset, limit);
+    }
+
+    @Override
+    public Flux<RatingSummary> findActiveSummariesByUserIdAfter(UUID userId, Instant createdAt, UUID id, int limit) {
+        return delegate.findActiveSummariesByUserIdAfter(userId, createdAt, id, limit);
+    }
+
+    @Override
+    public Flux<RatingSummary> findRecentSummaries(int limit) {
+        return delegate.findRecentSummaries(limit);
+    }
+
+    @Override
+    public Flux<MovieRating> findActiveByRating(Integer rating) {
+        return delegate.findActiveByRating(rating);
+    }
+}
@@ -0,0 +1,93 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.coalescing;
+
+import com.movie.rating.system.domain.entity.User;
+import com.movie.rating.system.domain.port.outbound.UserRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.adapter.R2dbcUserRepositoryAdapter;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * User repository that shares identical concurrent single-result reads.
+ * Writes detach all reads in flight, so a caller never receives a user read before
+ * its own update.
+ */
+@Primary
+@Component
+public class CoalescingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final SingleFlight singleFlight;
+
+    public CoalescingUserRepository(R2dbcUserRepositoryAdapter delegate,
+                                    SingleFlightFactory singleFlightFactory) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlightFactory.create("UserRepository");
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<User> update(User user) {
+        return delegate.update(user)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return delegate.deleteById(id)
+                .doFinally(signal -> singleFlight.forgetAll());
+    }
+
+    @Override
+    public Mono<User> findById(UUID id) {
+        return singleFlight.execute("findById", id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public Mono<User> findByUsername(String username) {
+        return singleFlight.execute("findByUsername", username, () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return singleFlight.execute("findByEmail", email, () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public Mono<Boolean> existsByUsername(String username) {
+        return singleFlight.execute("existsByUsername", username, () -> delegate.existsByUsername(username));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return singleFlight.execute("existsByEmail", email, () -> delegate.existsByEmail(email));
+    }
+
+    @Override
+    public Mono<Long> countActiveUsers() {
+        return singleFlight.execute("countActiveUsers", "", delegate::countActiveUsers);
+    }
+
+    @Override
+    public Flux<User> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public Flux<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<User> searchByUsernamePattern(String pattern) {
+        return delegate.searchByUsernamePattern(pattern);
+    }
+}
@@ -0,0 +1,104 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.reactive.TransactionContext;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight call among identical concurrent calls of a repository.
+ * A call is identified by its method name and key. The first caller runs the query;
+ * callers arriving while it is still running receive the same result instead of
+ * issuing the query again. Once the query completes the next call starts a new one.
+ * Calls made inside a transaction always run on their own, so they see the
+ * transaction's own writes.
+ */
+public class SingleFlight {
+
+    private final String repository;
+    private final MeterRegistry meterRegistry;
+    private final Predicate<String> methodEnabled;
+    private final Map<FlightKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executedCalls = new ConcurrentHashMap<>();
+    private final Map<String, Counter> sharedCalls = new ConcurrentHashMap<>();
+
+    SingleFlight(String repository, MeterRegistry meterRegistry, boolean enabled, Set<String> disabledMethods) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.methodEnabled = method -> enabled && !disabledMethods.contains(repository + "." + method);
+    }
+
+    /**
+     * Run a call, or join the identical call already in flight.
+     *
+     * @param method the repository method name
+     * @param key    the call arguments; must implement equals and hashCode
+     * @param call   supplies the query to run
+     * @return Mono with the result of the shared call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String method, Object key, Supplier<Mono<T>> call) {
+        if (!methodEnabled.test(method)) {
+            return call.get();
+        }
+
+        return Mono.deferContextual(context -> {
+            if (context.hasKey(TransactionContext.class)) {
+                return call.get();
+            }
+
+            FlightKey flightKey = new FlightKey(method, key);
+            boolean[] started = new boolean[1];
+            Mono<T> flight = (Mono<T>) inFlight.computeIfAbsent(flightKey, k -> {
+                started[0] = true;
+                return start(k, call);
+            });
+
+            counter(method, !started[0]).increment();
+            return flight;
+        });
+    }
+
+    /**
+     * Detach all calls in flight, so that calls made after a write do not receive results
+     * read before it. Callers already waiting still receive their result.
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    /**
+     * Number of distinct calls currently in flight
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    private <T> Mono<T> start(FlightKey flightKey, Supplier<Mono<T>> call) {
+        Mono<?>[] self = new Mono<?>[1];
+        Mono<T> flight = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(flightKey, self[0]))
+                .cache();
+        self[0] = flight;
+        return flight;
+    }
+
+    private Counter counter(String method, boolean shared) {
+        Map<String, Counter> counters = shared ? sharedCalls : executedCalls;
+        String outcome = shared ? "shared" : "executed";
+        return counters.computeIfAbsent(method, m -> Counter.builder("repository.single.flight.calls")
+                .description("Repository calls that ran a query or shared one already in flight")
+                .tag("repository", repository)
+                .tag("method", m)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private record FlightKey(String method, Object key) {}
+}
@@ -0,0 +1,41 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Creates the {@link SingleFlight} of each repository.
+ * Coalescing can be switched off altogether, or for single methods by listing them as
+ * {@code Repository.method}, e.g. {@code UserRepository.findByUsername}.
+ */
+@Slf4j
+@Component
+public class SingleFlightFactory {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Set<String> disabledMethods;
+
+    public SingleFlightFactory(MeterRegistry meterRegistry,
+                               @Value("${app.single-flight.enabled:true}") boolean enabled,
+                               @Value("${app.single-flight.disabled-methods:}") Set<String> disabledMethods) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.disabledMethods = Set.copyOf(disabledMethods);
+        log.info("Repository call coalescing {}, disabled methods: {}", enabled ? "enabled" : "disabled", this.disabledMethods);
+    }
+
+    /**
+     * Create the single-flight facility for a repository.
+     *
+     * @param repository the repository name used in configuration and metrics
+     * @return a new SingleFlight
+     */
+    public SingleFlight create(String repository) {
+        return new SingleFlight(repository, meterRegistry, enabled, disabledMethods);
+    }
+}
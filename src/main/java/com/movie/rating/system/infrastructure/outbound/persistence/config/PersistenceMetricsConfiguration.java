@@ -0,0 +1,58 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.config;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.metrics.RepositoryMetricsInterceptor;
+import com.movie.rating.system.infrastructure.outbound.persistence.metrics.TimedConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * Instruments the persistence layer.
+ * Every reactive method of the R2DBC repositories gets a timer, and obtaining a connection
+ * from the pool is timed as well. Pool size and pending gauges are bound by Spring Boot.
+ * The meter registry is looked up lazily, so post-processing the repositories and the
+ * connection factory does not force it to be created early.
+ */
+@Slf4j
+@Configuration
+public class PersistenceMetricsConfiguration {
+
+    @Bean
+    static BeanPostProcessor persistenceMetricsBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        Supplier<MeterRegistry> meterRegistry = SingletonSupplier.of(
+                () -> meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new RepositoryMetricsInterceptor(meterRegistry,
+                                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionFactory connectionFactory
+                        && !(bean instanceof TimedConnectionFactory)) {
+                    log.debug("Timing connection acquisition of connection factory '{}'", beanName);
+                    return new TimedConnectionFactory(connectionFactory, meterRegistry, beanName);
+                }
+                return bean;
+            }
+        };
+    }
+}
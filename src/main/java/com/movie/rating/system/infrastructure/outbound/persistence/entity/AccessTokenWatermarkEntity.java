@@ -0,0 +1,25 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * R2DBC entity for per-user access token revocation watermarks
+ */
+@Table("access_token_watermarks")
+public record AccessTokenWatermarkEntity(
+        @Id
+        @Column("user_id")
+        UUID userId,
+
+        @Column("revoked_before")
+        Instant revokedBefore,
+
+        @Column("updated_at")
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,68 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * R2DBC entity for the movie_rating_aggregates table.
+ * Rows are maintained by a database trigger on movie_ratings and are read-only for the application.
+ */
+@Table("movie_rating_aggregates")
+public record MovieRatingAggregateEntity(
+        @Id
+        @Column("movie_id")
+        UUID movieId,
+
+        @Column("rating_count")
+        Long ratingCount,
+
+        @Column("rating_sum")
+        Long ratingSum,
+
+        @Column("ratings_with_reviews")
+        Long ratingsWithReviews,
+
+        @Column("min_rating")
+        Integer minRating,
+
+        @Column("max_rating")
+        Integer maxRating,
+
+        @Column("rating_1_count")
+        Long rating1Count,
+
+        @Column("rating_2_count")
+        Long rating2Count,
+
+        @Column("rating_3_count")
+        Long rating3Count,
+
+        @Column("rating_4_count")
+        Long rating4Count,
+
+        @Column("rating_5_count")
+        Long rating5Count,
+
+        @Column("rating_6_count")
+        Long rating6Count,
+
+        @Column("rating_7_count")
+        Long rating7Count,
+
+        @Column("rating_8_count")
+        Long rating8Count,
+
+        @Column("rating_9_count")
+        Long rating9Count,
+
+        @Column("rating_10_count")
+        Long rating10Count,
+
+        @Column("updated_at")
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,64 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.lock;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs work on at most one application node at a time using a PostgreSQL advisory lock.
+ * The lock is a session lock held on a dedicated connection for as long as the work runs,
+ * so the work itself can use any connection and commit as often as it likes. It is released
+ * explicitly before the connection goes back to the pool, and by the database if the
+ * connection is lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdvisoryLock {
+
+    private final ConnectionFactory connectionFactory;
+
+    /**
+     * Run the work if no other session holds the named lock.
+     *
+     * @param name the lock name, hashed to the advisory lock key
+     * @param work the work to run while holding the lock
+     * @return the result of the work, or empty if the lock is held elsewhere
+     */
+    public <T> Mono<T> runExclusively(String name, Mono<T> work) {
+        return Mono.usingWhen(
+                connectionFactory.create(),
+                connection -> call(connection, "SELECT pg_try_advisory_lock(hashtext($1))", name)
+                        .flatMap(acquired -> {
+                            if (!acquired) {
+                                log.debug("Advisory lock '{}' is held by another session", name);
+                                return Mono.empty();
+                            }
+                            return Mono.usingWhen(
+                                    Mono.just(connection),
+                                    locked -> work,
+                                    locked -> unlock(locked, name));
+                        }),
+                Connection::close);
+    }
+
+    private Mono<Void> unlock(Connection connection, String name) {
+        return call(connection, "SELECT pg_advisory_unlock(hashtext($1))", name)
+                .doOnNext(released -> {
+                    if (!released) {
+                        log.warn("Advisory lock '{}' was not held when releasing it", name);
+                    }
+                })
+                .then();
+    }
+
+    private static Mono<Boolean> call(Connection connection, String sql, String name) {
+        return Mono.from(connection.createStatement(sql)
+                        .bind("$1", name)
+                        .execute())
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Boolean.class))));
+    }
+}
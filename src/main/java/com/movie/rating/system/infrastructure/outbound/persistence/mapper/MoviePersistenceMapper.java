@@ -1,7 +1,9 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.mapper;
 
 import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.port.outbound.MovieRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRepository;
 import org.springframework.stereotype.Component;
 
 /**
@@ -59,4 +61,51 @@ public class MoviePersistenceMapper {
                 .deactivatedBy(entity.deactivatedBy())
                 .build();
     }
+
+    /**
+     * Convert a ranked text search result to a domain search hit.
+     *
+     * @param result the search query result
+     * @return the movie with its relevance score
+     */
+    public MovieRepository.MovieSearchHit toSearchHit(R2dbcMovieRepository.MovieSearchResult result) {
+        if (result == null) {
+            return null;
+        }
+
+        Movie movie = toDomain(new MovieEntity(
+                result.id(),
+                result.title(),
+                result.plot(),
+                result.yearOfRelease(),
+                result.isActive(),
+                result.createdBy(),
+                result.createdAt(),
+                result.updatedAt(),
+                result.deactivatedAt(),
+                result.deactivatedBy()
+        ));
+        return new MovieRepository.MovieSearchHit(movie, result.relevance() != null ? result.relevance() : 0.0);
+    }
+
+    /**
+     * Convert a movie summary query result to a domain movie summary.
+     *
+     * @param result the summary query result
+     * @return the movie summary
+     */
+    public MovieRepository.MovieSummary toSummary(R2dbcMovieRepository.MovieSummaryResult result) {
+        if (result == null) {
+            return null;
+        }
+
+        return new MovieRepository.MovieSummary(
+                result.id(),
+                result.title(),
+                result.yearOfRelease(),
+                result.createdAt(),
+                result.averageRating() != null ? result.averageRating() : 0.0,
+                result.ratingCount() != null ? result.ratingCount() : 0L
+        );
+    }
 }
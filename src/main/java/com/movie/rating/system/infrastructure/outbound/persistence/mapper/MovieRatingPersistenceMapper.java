@@ -1,9 +1,15 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.mapper;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingAggregateEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Mapper between MovieRating domain entity and MovieRatingEntity database entity.
  */
@@ -55,4 +61,57 @@ public class MovieRatingPersistenceMapper {
                 .updatedAt(entity.updatedAt())
                 .build();
     }
+
+    /**
+     * Convert a rating summary query result to a domain rating summary.
+     *
+     * @param result the summary query result
+     * @return the rating summary
+     */
+    public MovieRatingRepository.RatingSummary toSummary(R2dbcMovieRatingRepository.RatingSummaryResult result) {
+        if (result == null) {
+            return null;
+        }
+
+        return new MovieRatingRepository.RatingSummary(
+                result.id(),
+                result.movieId(),
+                result.userId(),
+                result.rating(),
+                result.createdAt()
+        );
+    }
+
+    /**
+     * Convert database MovieRatingAggregateEntity to domain MovieRatingAggregate.
+     *
+     * @param entity the database entity
+     * @return the domain rating aggregate
+     */
+    public MovieRatingAggregate toAggregate(MovieRatingAggregateEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return MovieRatingAggregate.builder()
+                .movieId(entity.movieId())
+                .ratingCount(valueOrZero(entity.ratingCount()))
+                .ratingSum(valueOrZero(entity.ratingSum()))
+                .ratingsWithReviews(valueOrZero(entity.ratingsWithReviews()))
+                .minRating(entity.minRating())
+                .maxRating(entity.maxRating())
+                .distribution(List.of(
+                        valueOrZero(entity.rating1Count()), valueOrZero(entity.rating2Count()),
+                        valueOrZero(entity.rating3Count()), valueOrZero(entity.rating4Count()),
+                        valueOrZero(entity.rating5Count()), valueOrZero(entity.rating6Count()),
+                        valueOrZero(entity.rating7Count()), valueOrZero(entity.rating8Count()),
+                        valueOrZero(entity.rating9Count()), valueOrZero(entity.rating10Count())
+                ))
+                .updatedAt(entity.updatedAt())
+                .build();
+    }
+
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
 }
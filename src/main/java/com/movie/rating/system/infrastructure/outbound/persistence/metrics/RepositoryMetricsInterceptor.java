@@ -0,0 +1,71 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Times every reactive method of a Spring Data repository.
+ * The query only runs once the returned Mono or Flux is subscribed, so the timer starts at
+ * subscription and stops when the result completes, fails or is cancelled. Recorded as
+ * {@code repository.query} tagged with repository, method and outcome. Timers are registered
+ * once per method and outcome and reused on every later call.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String repository;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(Supplier<MeterRegistry> meterRegistry, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        String method = invocation.getMethod().getName();
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry.get());
+                return mono.doFinally(signal -> sample.stop(timer(method, signal)));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry.get());
+                return flux.doFinally(signal -> sample.stop(timer(method, signal)));
+            });
+        }
+        return result;
+    }
+
+    private Timer timer(String method, SignalType signal) {
+        return timers.computeIfAbsent(new TimerKey(method, outcome(signal)), key -> Timer.builder("repository.query")
+                .description("Time from subscribing to a repository query until it terminates")
+                .tag("repository", repository)
+                .tag("method", key.method())
+                .tag("outcome", key.outcome())
+                .register(meterRegistry.get()));
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancelled";
+        };
+    }
+
+    private record TimerKey(String method, String outcome) {}
+}
@@ -0,0 +1,74 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Supplier;
+
+/**
+ * Connection factory that records how long it takes to obtain a connection.
+ * For a pooled factory this is the pool acquire time, including time spent waiting for
+ * a free connection. Recorded as {@code r2dbc.pool.acquire} tagged with the bean name and
+ * outcome. The pool itself stays reachable through {@link Wrapped#unwrap()}, so the
+ * standard pool gauges keep working.
+ */
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    private final ConnectionFactory delegate;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String name;
+
+    public TimedConnectionFactory(ConnectionFactory delegate, Supplier<MeterRegistry> meterRegistry, String name) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.name = name;
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry.get());
+            return Mono.<Connection>from(delegate.create())
+                    .doFinally(signal -> sample.stop(timer(signal)));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public void dispose() {
+        if (delegate instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate instanceof Disposable disposable && disposable.isDisposed();
+    }
+
+    private Timer timer(SignalType signal) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .description("Time to obtain a database connection")
+                .tag("name", name)
+                .tag("outcome", signal == SignalType.ON_COMPLETE ? "success"
+                        : signal == SignalType.ON_ERROR ? "error" : "cancelled")
+                .register(meterRegistry.get());
+    }
+}
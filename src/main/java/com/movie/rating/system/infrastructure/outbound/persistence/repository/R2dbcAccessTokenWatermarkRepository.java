@@ -0,0 +1,69 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.repository;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.AccessTokenWatermarkEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * R2DBC repository for access token watermark entities
+ */
+public interface R2dbcAccessTokenWatermarkRepository extends R2dbcRepository<AccessTokenWatermarkEntity, UUID> {
+
+    /**
+     * Insert or advance the watermark for a user. The watermark never moves backwards.
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO access_token_watermarks (user_id, revoked_before, updated_at)
+            VALUES (:userId, :revokedBefore, :updatedAt)
+            ON CONFLICT (user_id) DO UPDATE
+            SET revoked_before = GREATEST(access_token_watermarks.revoked_before, EXCLUDED.revoked_before),
+                updated_at = EXCLUDED.updated_at
+            """)
+    Mono<Integer> upsertWatermark(@Param("userId") UUID userId,
+                                  @Param("revokedBefore") Instant revokedBefore,
+                                  @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Insert or advance the watermark for a user to the database's current time, so that
+     * revocations from all application nodes are ordered by one clock
+     *
+     * @return the user's watermark after the update
+     */
+    @Query("""
+            INSERT INTO access_token_watermarks (user_id, revoked_before, updated_at)
+            VALUES (:userId, now(), now())
+            ON CONFLICT (user_id) DO UPDATE
+            SET revoked_before = GREATEST(access_token_watermarks.revoked_before, EXCLUDED.revoked_before),
+                updated_at = EXCLUDED.updated_at
+            RETURNING revoked_before
+            """)
+    Mono<Instant> upsertWatermarkToNow(@Param("userId") UUID userId);
+
+    /**
+     * Find the watermark revocation time for a user
+     */
+    @Query("SELECT revoked_before FROM access_token_watermarks WHERE user_id = :userId")
+    Mono<Instant> findRevokedBefore(@Param("userId") UUID userId);
+
+    /**
+     * Find watermarks changed since the given time that can still affect unexpired tokens
+     */
+    @Query("SELECT * FROM access_token_watermarks WHERE updated_at >= :updatedSince AND revoked_before > :revokedAfter")
+    Flux<AccessTokenWatermarkEntity> findUpdatedSince(@Param("updatedSince") Instant updatedSince,
+                                                      @Param("revokedAfter") Instant revokedAfter);
+
+    /**
+     * Delete watermarks that can no longer affect any unexpired token
+     */
+    @Modifying
+    @Query("DELETE FROM access_token_watermarks WHERE revoked_before <= :revokedBefore")
+    Mono<Integer> deleteRevokedBefore(@Param("revokedBefore") Instant revokedBefore);
+}
@@ -1,7 +1,6 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.repository;
 
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.JwtTokenEntity;
-import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
@@ -9,17 +8,27 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
- * R2DBC repository for JWT token entities
+ * R2DBC repository for JWT token entities.
+ * The table is partitioned by expires_at, so queries that bound expires_at only touch the
+ * partitions of tokens that can still be valid.
  */
 public interface R2dbcJwtTokenRepository extends R2dbcRepository<JwtTokenEntity, UUID> {
 
     /**
-     * Find token by token hash
+     * Find an unexpired token by token hash
      */
-    Mono<JwtTokenEntity> findByTokenHash(String tokenHash);
+    @Query("SELECT * FROM jwt_tokens WHERE token_hash = :tokenHash AND expires_at > :now")
+    Mono<JwtTokenEntity> findUnexpiredByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    /**
+     * Find an unexpired token by ID
+     */
+    @Query("SELECT * FROM jwt_tokens WHERE id = :id AND expires_at > :now")
+    Mono<JwtTokenEntity> findUnexpiredById(@Param("id") UUID id, @Param("now") Instant now);
 
     /**
      * Find all active tokens for a user
@@ -36,48 +45,64 @@ public interface R2dbcJwtTokenRepository extends R2dbcRepository<JwtTokenEntity,
                                                          @Param("now") Instant now);
 
     /**
-     * Revoke token by token hash
+     * Revoke an unexpired token by token hash and return the revoked row.
+     * Expired tokens are rejected before their revocation matters, and bounding expires_at
+     * skips the partitions of expired tokens.
+     */
+    @Query("UPDATE jwt_tokens SET is_revoked = true, revoked_at = :revokedAt, revoked_reason = :reason, updated_at = :updatedAt WHERE token_hash = :tokenHash AND expires_at > :revokedAt RETURNING *")
+    Mono<JwtTokenEntity> revokeByTokenHash(@Param("tokenHash") String tokenHash,
+                                           @Param("reason") String reason,
+                                           @Param("revokedAt") Instant revokedAt,
+                                           @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Revoke all tokens for a user and return the revoked rows
+     */
+    @Query("UPDATE jwt_tokens SET is_revoked = true, revoked_at = :revokedAt, revoked_reason = :reason, updated_at = :updatedAt WHERE user_id = :userId AND is_revoked = false AND expires_at > :revokedAt RETURNING *")
+    Flux<JwtTokenEntity> revokeAllTokensForUserReturning(@Param("userId") UUID userId,
+                                                         @Param("reason") String reason,
+                                                         @Param("revokedAt") Instant revokedAt,
+                                                         @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Check if an unexpired token is revoked.
+     * Only tokens that have not expired yet are checked, so partitions of expired tokens are skipped.
      */
-    @Modifying
-    @Query("UPDATE jwt_tokens SET is_revoked = true, revoked_at = :revokedAt, revoked_reason = :reason, updated_at = :updatedAt WHERE token_hash = :tokenHash")
-    Mono<Integer> revokeByTokenHash(@Param("tokenHash") String tokenHash, 
-                                   @Param("reason") String reason,
-                                   @Param("revokedAt") Instant revokedAt,
-                                   @Param("updatedAt") Instant updatedAt);
+    @Query("SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END FROM jwt_tokens WHERE token_hash = :tokenHash AND is_revoked = true AND expires_at > :now")
+    Mono<Boolean> isTokenRevoked(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
 
     /**
-     * Revoke all tokens for a user
+     * Revoke all tokens of specific type for a user and return the revoked rows
      */
-    @Modifying
-    @Query("UPDATE jwt_tokens SET is_revoked = true, revoked_at = :revokedAt, revoked_reason = :reason, updated_at = :updatedAt WHERE user_id = :userId AND is_revoked = false")
-    Mono<Integer> revokeAllTokensForUser(@Param("userId") UUID userId, 
-                                        @Param("reason") String reason,
-                                        @Param("revokedAt") Instant revokedAt,
-                                        @Param("updatedAt") Instant updatedAt);
+    @Query("UPDATE jwt_tokens SET is_revoked = true, revoked_at = :revokedAt, revoked_reason = :reason, updated_at = :updatedAt WHERE user_id = :userId AND token_type = :tokenType AND is_revoked = false AND expires_at > :revokedAt RETURNING *")
+    Flux<JwtTokenEntity> revokeAllTokensForUserByTypeReturning(@Param("userId") UUID userId,
+                                                               @Param("tokenType") String tokenType,
+                                                               @Param("reason") String reason,
+                                                               @Param("revokedAt") Instant revokedAt,
+                                                               @Param("updatedAt") Instant updatedAt);
 
     /**
-     * Revoke all tokens of specific type for a user
+     * Find revoked tokens that have not expired yet.
+     * Every revocation sets revoked_at, so this uses the partial index on revoked_at of revoked tokens.
      */
-    @Modifying
-    @Query("UPDATE jwt_tokens SET is_revoked = true, revoked_at = :revokedAt, revoked_reason = :reason, updated_at = :updatedAt WHERE user_id = :userId AND token_type = :tokenType AND is_revoked = false")
-    Mono<Integer> revokeAllTokensForUserByType(@Param("userId") UUID userId, 
-                                              @Param("tokenType") String tokenType,
-                                              @Param("reason") String reason,
-                                              @Param("revokedAt") Instant revokedAt,
-                                              @Param("updatedAt") Instant updatedAt);
+    @Query("SELECT * FROM jwt_tokens WHERE is_revoked = true AND revoked_at >= :revokedSince AND expires_at > :now")
+    Flux<JwtTokenEntity> findRevokedUnexpiredTokens(@Param("revokedSince") Instant revokedSince, @Param("now") Instant now);
 
     /**
-     * Check if token is revoked
+     * Create the missing daily partitions for tokens expiring from one day through another
+     *
+     * @return number of partitions created
      */
-    @Query("SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END FROM jwt_tokens WHERE token_hash = :tokenHash AND is_revoked = true")
-    Mono<Boolean> isTokenRevoked(@Param("tokenHash") String tokenHash);
+    @Query("SELECT create_jwt_token_partitions(:from, :to)")
+    Mono<Integer> createPartitions(@Param("from") LocalDate from, @Param("to") LocalDate to);
 
     /**
-     * Delete expired tokens
+     * Drop the daily partitions of tokens expiring before a day
+     *
+     * @return number of partitions dropped
      */
-    @Modifying
-    @Query("DELETE FROM jwt_tokens WHERE expires_at < :cutoffTime")
-    Mono<Integer> deleteExpiredTokens(@Param("cutoffTime") Instant cutoffTime);
+    @Query("SELECT drop_jwt_token_partitions(:before)")
+    Mono<Integer> dropPartitionsBefore(@Param("before") LocalDate before);
 
     /**
      * Delete all tokens for a user
@@ -0,0 +1,13 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.repository;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingAggregateEntity;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import java.util.UUID;
+
+/**
+ * R2DBC repository for movie rating aggregate entities.
+ * Aggregates are looked up by movie ID, the table's primary key.
+ */
+public interface R2dbcMovieRatingAggregateRepository extends R2dbcRepository<MovieRatingAggregateEntity, UUID> {
+}
@@ -1,6 +1,7 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.repository;
 
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
@@ -68,6 +69,87 @@ public interface R2dbcMovieRatingRepository extends R2dbcRepository<MovieRatingE
     @Query("SELECT * FROM movie_ratings WHERE created_at BETWEEN :startDate AND :endDate AND is_active = true ORDER BY created_at DESC")
     Flux<MovieRatingEntity> findActiveByCreatedAtBetween(@Param("startDate") Instant startDate, @Param("endDate") Instant endDate);
 
+    /**
+     * Insert a rating unless the user already has an active rating for the movie.
+     * A previously deleted rating is reactivated in place with the new values.
+     * Returns nothing when an active rating already exists.
+     */
+    @Query("""
+            INSERT INTO movie_ratings (movie_id, user_id, rating, review, is_active, created_at, updated_at)
+            VALUES (:movieId, :userId, :rating, :review, true, :createdAt, :updatedAt)
+            ON CONFLICT (movie_id, user_id) DO UPDATE
+                SET rating = EXCLUDED.rating,
+                    review = EXCLUDED.review,
+                    is_active = true,
+                    created_at = EXCLUDED.created_at,
+                    updated_at = EXCLUDED.updated_at
+                WHERE movie_ratings.is_active = false
+            RETURNING *
+            """)
+    Mono<MovieRatingEntity> insertIfNoActiveRating(@Param("movieId") UUID movieId,
+                                                   @Param("userId") UUID userId,
+                                                   @Param("rating") Integer rating,
+                                                   @Param("review") String review,
+                                                   @Param("createdAt") Instant createdAt,
+                                                   @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Insert a batch of ratings in one statement, passed as parallel arrays, with the same rules
+     * as insertIfNoActiveRating for each rating. Ratings for a movie that does not exist or is no
+     * longer active, or for a user that does not exist, are skipped rather than failing the whole
+     * batch on the foreign key. The (movie, user) pairs
+     * must be distinct within the batch.
+     * Returns the outcome of every rating in the order of the arrays.
+     */
+    @Query("""
+            WITH input AS (
+                SELECT *
+                FROM unnest(CAST(:movieIds AS uuid[]), CAST(:userIds AS uuid[]), CAST(:ratings AS integer[]),
+                            CAST(:reviews AS text[]), CAST(:createdAts AS timestamptz[]))
+                    WITH ORDINALITY AS r(movie_id, user_id, rating, review, created_at, position)
+            ),
+            inserted AS (
+                INSERT INTO movie_ratings (movie_id, user_id, rating, review, is_active, created_at, updated_at)
+                SELECT i.movie_id, i.user_id, i.rating, i.review, true, i.created_at, i.created_at
+                FROM input i
+                WHERE EXISTS (SELECT 1 FROM movies m WHERE m.id = i.movie_id AND m.is_active = true)
+                  AND EXISTS (SELECT 1 FROM users u WHERE u.id = i.user_id)
+                ORDER BY i.position
+                ON CONFLICT (movie_id, user_id) DO UPDATE
+                    SET rating = EXCLUDED.rating,
+                        review = EXCLUDED.review,
+                        is_active = true,
+                        created_at = EXCLUDED.created_at,
+                        updated_at = EXCLUDED.updated_at
+                    WHERE movie_ratings.is_active = false
+                RETURNING movie_id, user_id
+            )
+            SELECT i.position,
+                   CASE
+                       WHEN ins.movie_id IS NOT NULL THEN 'INSERTED'
+                       WHEN NOT EXISTS (SELECT 1 FROM movies m WHERE m.id = i.movie_id AND m.is_active = true) THEN 'MOVIE_NOT_FOUND'
+                       WHEN NOT EXISTS (SELECT 1 FROM users u WHERE u.id = i.user_id) THEN 'USER_NOT_FOUND'
+                       ELSE 'DUPLICATE'
+                   END AS outcome
+            FROM input i
+            LEFT JOIN inserted ins ON ins.movie_id = i.movie_id AND ins.user_id = i.user_id
+            ORDER BY i.position
+            """)
+    Flux<BatchInsertResult> insertAllIfNoActiveRating(@Param("movieIds") UUID[] movieIds,
+                                                      @Param("userIds") UUID[] userIds,
+                                                      @Param("ratings") Integer[] ratings,
+                                                      @Param("reviews") String[] reviews,
+                                                      @Param("createdAts") String[] createdAts);
+
+    /**
+     * Deactivate an active rating if it belongs to the given user.
+     */
+    @Modifying
+    @Query("UPDATE movie_ratings SET is_active = false, updated_at = :updatedAt WHERE id = :id AND user_id = :userId AND is_active = true")
+    Mono<Integer> deactivateByIdAndUserId(@Param("id") UUID id,
+                                          @Param("userId") UUID userId,
+                                          @Param("updatedAt") Instant updatedAt);
+
     /**
      * Check if a rating exists for a specific movie by a specific user.
      */
@@ -93,15 +175,25 @@ public interface R2dbcMovieRatingRepository extends R2dbcRepository<MovieRatingE
     Mono<Long> countActiveByUserId(@Param("userId") UUID userId);
 
     /**
-     * Find top-rated movies based on average rating.
+     * Find top-rated active movies ranked by weighted rating, read from the precomputed aggregates.
+     * weighted = (rating_sum + m * C) / (rating_count + m), where C is the mean of all active
+     * ratings and m is the minimum rating count.
      */
     @Query("""
-            SELECT movie_id, AVG(CAST(rating AS FLOAT)) as avg_rating, COUNT(*) as rating_count
-            FROM movie_ratings 
-            WHERE is_active = true 
-            GROUP BY movie_id 
-            HAVING COUNT(*) >= :minRatingCount 
-            ORDER BY avg_rating DESC 
+            WITH global AS (
+                SELECT COALESCE(SUM(rating_sum)::float8 / NULLIF(SUM(rating_count), 0), 0) AS mean_rating
+                FROM movie_rating_aggregates
+                WHERE rating_count > 0
+            )
+            SELECT a.movie_id, m.title,
+                   a.rating_sum::float8 / a.rating_count AS avg_rating,
+                   a.rating_count,
+                   (a.rating_sum + :minRatingCount * g.mean_rating) / (a.rating_count + :minRatingCount) AS weighted_rating
+            FROM movie_rating_aggregates a
+            JOIN movies m ON m.id = a.movie_id AND m.is_active = true
+            CROSS JOIN global g
+            WHERE a.rating_count > 0 AND a.rating_count >= :minRatingCount
+            ORDER BY weighted_rating DESC, a.rating_count DESC, a.movie_id
             LIMIT :limit
             """)
     Flux<TopRatedMovieResult> findTopRatedMovies(@Param("limit") int limit, @Param("minRatingCount") int minRatingCount);
@@ -109,29 +201,130 @@ public interface R2dbcMovieRatingRepository extends R2dbcRepository<MovieRatingE
     /**
      * Find ratings for a movie with pagination support.
      */
-    @Query("SELECT * FROM movie_ratings WHERE movie_id = :movieId AND is_active = true ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
+    @Query("SELECT * FROM movie_ratings WHERE movie_id = :movieId AND is_active = true ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset")
     Flux<MovieRatingEntity> findActiveByMovieIdWithPagination(
             @Param("movieId") UUID movieId,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
 
+    /**
+     * Find ratings for a movie created before the given (created_at, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT * FROM movie_ratings
+            WHERE movie_id = :movieId AND is_active = true AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<MovieRatingEntity> findActiveByMovieIdAfter(
+            @Param("movieId") UUID movieId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
     /**
      * Find ratings by a user with pagination support.
      */
-    @Query("SELECT * FROM movie_ratings WHERE user_id = :userId AND is_active = true ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
+    @Query("SELECT * FROM movie_ratings WHERE user_id = :userId AND is_active = true ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset")
     Flux<MovieRatingEntity> findActiveByUserIdWithPagination(
             @Param("userId") UUID userId,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
 
+    /**
+     * Find ratings by a user created before the given (created_at, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT * FROM movie_ratings
+            WHERE user_id = :userId AND is_active = true AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<MovieRatingEntity> findActiveByUserIdAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
     /**
      * Find recent ratings across all users.
      */
     @Query("SELECT * FROM movie_ratings WHERE is_active = true ORDER BY created_at DESC LIMIT :limit")
     Flux<MovieRatingEntity> findRecentRatings(@Param("limit") int limit);
 
+    /**
+     * Find rating summaries for a movie with pagination support.
+     * Reads only the listed columns so the review is never fetched.
+     */
+    @Query("""
+            SELECT id, movie_id, user_id, rating, created_at FROM movie_ratings
+            WHERE movie_id = :movieId AND is_active = true
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit OFFSET :offset
+            """)
+    Flux<RatingSummaryResult> findActiveSummariesByMovieIdWithPagination(
+            @Param("movieId") UUID movieId,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Find rating summaries for a movie created before the given (created_at, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT id, movie_id, user_id, rating, created_at FROM movie_ratings
+            WHERE movie_id = :movieId AND is_active = true AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<RatingSummaryResult> findActiveSummariesByMovieIdAfter(
+            @Param("movieId") UUID movieId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Find rating summaries by a user with pagination support.
+     */
+    @Query("""
+            SELECT id, movie_id, user_id, rating, created_at FROM movie_ratings
+            WHERE user_id = :userId AND is_active = true
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit OFFSET :offset
+            """)
+    Flux<RatingSummaryResult> findActiveSummariesByUserIdWithPagination(
+            @Param("userId") UUID userId,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Find rating summaries by a user created before the given (created_at, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT id, movie_id, user_id, rating, created_at FROM movie_ratings
+            WHERE user_id = :userId AND is_active = true AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<RatingSummaryResult> findActiveSummariesByUserIdAfter(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Find recent rating summaries across all users.
+     */
+    @Query("SELECT id, movie_id, user_id, rating, created_at FROM movie_ratings WHERE is_active = true ORDER BY created_at DESC LIMIT :limit")
+    Flux<RatingSummaryResult> findRecentSummaries(@Param("limit") int limit);
+
     /**
      * Find ratings by rating value.
      */
@@ -202,10 +395,20 @@ public interface R2dbcMovieRatingRepository extends R2dbcRepository<MovieRatingE
     @Query("SELECT COUNT(DISTINCT movie_id) FROM movie_ratings WHERE is_active = true")
     Mono<Long> countMoviesWithRatings();
 
+    /**
+     * Record for the outcome of one rating in a batch insert, by 1-based position in the batch.
+     */
+    record BatchInsertResult(Long position, String outcome) {}
+
     /**
      * Record for top-rated movie query result.
      */
-    record TopRatedMovieResult(UUID movieId, Double avgRating, Long ratingCount) {}
+    record TopRatedMovieResult(UUID movieId, String title, Double avgRating, Long ratingCount, Double weightedRating) {}
+
+    /**
+     * Record for rating summary query result.
+     */
+    record RatingSummaryResult(UUID id, UUID movieId, UUID userId, Integer rating, Instant createdAt) {}
 
     /**
      * Record for movie rating statistics query result.
@@ -1,12 +1,14 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.repository;
 
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -15,6 +17,13 @@ import java.util.UUID;
  */
 public interface R2dbcMovieRepository extends R2dbcRepository<MovieEntity, UUID> {
 
+    /**
+     * Duplicate check for active movies by title (ignoring case) and year,
+     * shared with the migration test that EXPLAINs it.
+     */
+    public static final String EXISTS_ACTIVE_BY_TITLE_AND_YEAR_QUERY =
+            "SELECT EXISTS (SELECT 1 FROM movies WHERE LOWER(title) = LOWER(:title) AND year_of_release = :yearOfRelease AND is_active = true)";
+
     /**
      * Find all active movies.
      */
@@ -30,7 +39,7 @@ public interface R2dbcMovieRepository extends R2dbcRepository<MovieEntity, UUID>
     /**
      * Find movies by title pattern (case-insensitive).
      */
-    @Query("SELECT * FROM movies WHERE LOWER(title) LIKE LOWER(CONCAT('%', :titlePattern, '%')) AND is_active = true ORDER BY title")
+    @Query("SELECT * FROM movies WHERE title ILIKE '%' || :titlePattern || '%' AND is_active = true ORDER BY title")
     Flux<MovieEntity> findByTitleContainingIgnoreCaseAndIsActiveTrue(@Param("titlePattern") String titlePattern);
 
     /**
@@ -46,15 +55,23 @@ public interface R2dbcMovieRepository extends R2dbcRepository<MovieEntity, UUID>
     Flux<MovieEntity> findByYearOfReleaseBetweenAndIsActiveTrue(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 
     /**
-     * Find movies by plot content (case-insensitive search).
+     * Find movies by plot keywords (full-text search, all words must match).
+     * The search_vector GIN index narrows the candidates, which are then rechecked against the plot alone.
      */
-    @Query("SELECT * FROM movies WHERE LOWER(plot) LIKE LOWER(CONCAT('%', :plotKeyword, '%')) AND is_active = true ORDER BY title")
+    @Query("""
+            SELECT * FROM movies
+            WHERE search_vector @@ plainto_tsquery('english', :plotKeyword)
+            AND to_tsvector('english', COALESCE(plot, '')) @@ plainto_tsquery('english', :plotKeyword)
+            AND is_active = true
+            ORDER BY title
+            """)
     Flux<MovieEntity> findByPlotContainingIgnoreCaseAndIsActiveTrue(@Param("plotKeyword") String plotKeyword);
 
     /**
      * Check if a movie with the same title and year already exists.
+     * Title comparison ignores case and is an index seek on idx_movies_active_lower_title_year.
      */
-    @Query("SELECT COUNT(*) > 0 FROM movies WHERE LOWER(title) = LOWER(:title) AND year_of_release = :yearOfRelease AND is_active = true")
+    @Query(EXISTS_ACTIVE_BY_TITLE_AND_YEAR_QUERY)
     Mono<Boolean> existsByTitleAndYearOfReleaseAndIsActiveTrue(@Param("title") String title, @Param("yearOfRelease") Integer yearOfRelease);
 
     /**
@@ -72,16 +89,79 @@ public interface R2dbcMovieRepository extends R2dbcRepository<MovieEntity, UUID>
     /**
      * Find movies with pagination support.
      */
-    @Query("SELECT * FROM movies WHERE is_active = true ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
+    @Query("SELECT * FROM movies WHERE is_active = true ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset")
     Flux<MovieEntity> findAllActiveWithPagination(@Param("offset") int offset, @Param("limit") int limit);
 
+    /**
+     * Find movies created before the given (created_at, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT * FROM movies
+            WHERE is_active = true AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """)
+    Flux<MovieEntity> findAllActiveAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Find active movie summaries with pagination support.
+     * Reads only the listed columns so the plot is never fetched; rating figures come from the aggregates.
+     */
+    @Query("""
+            SELECT m.id, m.title, m.year_of_release, m.created_at,
+                   COALESCE(a.rating_sum::float8 / NULLIF(a.rating_count, 0), 0) AS average_rating,
+                   COALESCE(a.rating_count, 0) AS rating_count
+            FROM movies m
+            LEFT JOIN movie_rating_aggregates a ON a.movie_id = m.id
+            WHERE m.is_active = true
+            ORDER BY m.created_at DESC, m.id DESC
+            LIMIT :limit OFFSET :offset
+            """)
+    Flux<MovieSummaryResult> findActiveSummariesWithPagination(@Param("offset") int offset, @Param("limit") int limit);
+
+    /**
+     * Find active movie summaries created before the given (created_at, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT m.id, m.title, m.year_of_release, m.created_at,
+                   COALESCE(a.rating_sum::float8 / NULLIF(a.rating_count, 0), 0) AS average_rating,
+                   COALESCE(a.rating_count, 0) AS rating_count
+            FROM movies m
+            LEFT JOIN movie_rating_aggregates a ON a.movie_id = m.id
+            WHERE m.is_active = true AND (m.created_at, m.id) < (:createdAt, :id)
+            ORDER BY m.created_at DESC, m.id DESC
+            LIMIT :limit
+            """)
+    Flux<MovieSummaryResult> findActiveSummariesAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Deactivate an active movie if it was created by the given user.
+     */
+    @Modifying
+    @Query("""
+            UPDATE movies
+            SET is_active = false, deactivated_at = :deactivatedAt, deactivated_by = :createdBy, updated_at = :deactivatedAt
+            WHERE id = :id AND created_by = :createdBy AND is_active = true
+            """)
+    Mono<Integer> deactivateByIdAndCreatedBy(@Param("id") UUID id,
+                                             @Param("createdBy") UUID createdBy,
+                                             @Param("deactivatedAt") Instant deactivatedAt);
+
     /**
      * Search movies by multiple criteria.
      */
     @Query("""
             SELECT * FROM movies 
             WHERE is_active = true
-            AND (:titlePattern IS NULL OR LOWER(title) LIKE LOWER(CONCAT('%', :titlePattern, '%')))
+            AND (:titlePattern IS NULL OR title ILIKE '%' || :titlePattern || '%')
             AND (:yearOfRelease IS NULL OR year_of_release = :yearOfRelease)
             AND (:createdBy IS NULL OR created_by = :createdBy)
             ORDER BY created_at DESC
@@ -116,6 +196,43 @@ public interface R2dbcMovieRepository extends R2dbcRepository<MovieEntity, UUID>
     @Query("SELECT COUNT(*) FROM movies WHERE created_by = :createdBy AND is_active = false")
     Mono<Long> countByCreatedByAndIsActiveFalse(@Param("createdBy") UUID createdBy);
 
+    /**
+     * Ranked text search over title and plot.
+     * Full-text matches are scored with ts_rank_cd, fuzzy title matches with trigram similarity.
+     */
+    @Query("""
+            SELECT m.id, m.title, m.plot, m.year_of_release, m.is_active, m.created_by,
+                   m.created_at, m.updated_at, m.deactivated_at, m.deactivated_by,
+                   (ts_rank_cd(m.search_vector, q.query) + similarity(m.title, :query))::float8 AS relevance
+            FROM movies m, websearch_to_tsquery('english', :query) AS q(query)
+            WHERE m.is_active = true AND (m.search_vector @@ q.query OR m.title % :query)
+            ORDER BY relevance DESC, m.id DESC
+            LIMIT :limit
+            """)
+    Flux<MovieSearchResult> searchByText(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Ranked text search continuing after the given (relevance, id) position (keyset pagination).
+     */
+    @Query("""
+            SELECT * FROM (
+                SELECT m.id, m.title, m.plot, m.year_of_release, m.is_active, m.created_by,
+                       m.created_at, m.updated_at, m.deactivated_at, m.deactivated_by,
+                       (ts_rank_cd(m.search_vector, q.query) + similarity(m.title, :query))::float8 AS relevance
+                FROM movies m, websearch_to_tsquery('english', :query) AS q(query)
+                WHERE m.is_active = true AND (m.search_vector @@ q.query OR m.title % :query)
+            ) ranked
+            WHERE (ranked.relevance, ranked.id) < (:relevance, :id)
+            ORDER BY ranked.relevance DESC, ranked.id DESC
+            LIMIT :limit
+            """)
+    Flux<MovieSearchResult> searchByTextAfter(
+            @Param("query") String query,
+            @Param("relevance") double relevance,
+            @Param("id") UUID id,
+            @Param("limit") int limit
+    );
+
     /**
      * Find the oldest and newest movie years.
      */
@@ -126,4 +243,33 @@ public interface R2dbcMovieRepository extends R2dbcRepository<MovieEntity, UUID>
      * Record for year range query result.
      */
     record YearRange(Integer minYear, Integer maxYear) {}
+
+    /**
+     * Record for movie summary query result.
+     */
+    record MovieSummaryResult(
+            UUID id,
+            String title,
+            Integer yearOfRelease,
+            Instant createdAt,
+            Double averageRating,
+            Long ratingCount
+    ) {}
+
+    /**
+     * Record for ranked text search query result.
+     */
+    record MovieSearchResult(
+            UUID id,
+            String title,
+            String plot,
+            Integer yearOfRelease,
+            Boolean isActive,
+            UUID createdBy,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deactivatedAt,
+            UUID deactivatedBy,
+            Double relevance
+    ) {}
 }
@@ -65,7 +65,7 @@ public interface R2dbcUserRepository extends ReactiveCrudRepository<UserEntity,
     Mono<Long> countActiveUsers();
 
     /**
-     * Finds users by their first name (case-insensitive).
+     * Finds users by their first name (case-insensitive), using idx_users_lower_first_name.
      *
      * @param firstName the first name to search for
      * @return Flux of user entities matching the first name
@@ -74,7 +74,7 @@ public interface R2dbcUserRepository extends ReactiveCrudRepository<UserEntity,
     Flux<UserEntity> findByFirstNameIgnoreCase(String firstName);
 
     /**
-     * Finds users by their last name (case-insensitive).
+     * Finds users by their last name (case-insensitive), using idx_users_lower_last_name.
      *
      * @param lastName the last name to search for
      * @return Flux of user entities matching the last name
@@ -84,10 +84,25 @@ public interface R2dbcUserRepository extends ReactiveCrudRepository<UserEntity,
 
     /**
      * Finds users whose username contains the given string (case-insensitive).
+     * Patterns of three or more characters use the trigram index idx_users_lower_username_trgm.
      *
      * @param username the username pattern to search for
      * @return Flux of user entities with matching usernames
      */
     @Query("SELECT * FROM users WHERE LOWER(username) LIKE LOWER(CONCAT('%', :username, '%'))")
     Flux<UserEntity> findByUsernameContainingIgnoreCase(String username);
+
+    /**
+     * Streams the username and email of every user, active or not.
+     *
+     * @return Flux of username and email pairs
+     */
+    @Query("SELECT username, email FROM users")
+    Flux<UserIdentity> findAllIdentities();
+
+    /**
+     * Username and email of a user
+     */
+    record UserIdentity(String username, String email) {
+    }
 }
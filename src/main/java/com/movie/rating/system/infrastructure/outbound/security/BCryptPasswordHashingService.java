@@ -16,9 +16,20 @@ public class BCryptPasswordHashingService implements PasswordHashingService {
 
     private final PasswordEncoder passwordEncoder;
 
+    private static final int DEFAULT_STRENGTH = 12; // Strength 12 for good security
+
     public BCryptPasswordHashingService() {
-        this.passwordEncoder = new BCryptPasswordEncoder(12); // Strength 12 for good security
-        log.info("Initialized BCryptPasswordHashingService with strength 12");
+        this(DEFAULT_STRENGTH);
+    }
+
+    /**
+     * Creates a service hashing with the given BCrypt cost factor (log2 of the rounds).
+     *
+     * @param strength the cost factor, between 4 and 31
+     */
+    public BCryptPasswordHashingService(int strength) {
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        log.info("Initialized BCryptPasswordHashingService with strength {}", strength);
     }
 
     /**
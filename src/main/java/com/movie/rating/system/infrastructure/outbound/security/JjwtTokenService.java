@@ -7,9 +7,9 @@ import com.movie.rating.system.domain.port.outbound.JwtTokenService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -21,29 +21,57 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HexFormat;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * JWT token service implementation using JJWT library with blacklisting support
+ * JWT token service implementation using JJWT library with blacklisting support.
+ * Tokens are verified with a single prebuilt, thread-safe parser and the resulting claims
+ * are cached by token hash until the token expires.
+ * <p>
+ * With stateless access tokens enabled, only refresh tokens are persisted. Access tokens are
+ * revoked through a per-user watermark: every access token issued before it is invalid.
+ * Access tokens carry no session identity, so logging out with one access token revokes the
+ * user's access tokens on every device; other devices keep their refresh tokens and obtain a
+ * new access token on their next refresh. The standard iat claim only has second precision,
+ * so tokens also carry their issue time in milliseconds, which the watermark is compared against.
+ * No token may outlive the refresh token lifetime, which is as far ahead as token partitions are created.
  */
 @Slf4j
 @Service
 public class JjwtTokenService implements JwtTokenService {
 
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private static final Set<String> RESERVED_CLAIMS = Set.of(
+            "sub", "iss", "iat", "exp", "user_id", "username", "email", ISSUED_AT_MILLIS_CLAIM);
+
     private final JwtTokenRepository jwtTokenRepository;
+    private final TokenClaimsCache claimsCache;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final String issuer;
+    private final boolean statelessAccessTokens;
+    private final Duration maxTokenLifetime;
 
     public JjwtTokenService(JwtTokenRepository jwtTokenRepository,
+                           TokenClaimsCache claimsCache,
                            @Value("${app.jwt.secret:mySecretKey123456789012345678901234567890}") String secret,
-                           @Value("${app.jwt.issuer:movie-rating-system}") String issuer) {
+                           @Value("${app.jwt.issuer:movie-rating-system}") String issuer,
+                           @Value("${app.jwt.stateless-access-tokens:true}") boolean statelessAccessTokens,
+                           @Value("${app.jwt.refresh-token-duration:P7D}") Duration maxTokenLifetime) {
         this.jwtTokenRepository = jwtTokenRepository;
+        this.claimsCache = claimsCache;
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         this.issuer = issuer;
+        this.statelessAccessTokens = statelessAccessTokens;
+        this.maxTokenLifetime = maxTokenLifetime;
     }
 
     @Override
@@ -53,6 +81,11 @@ public class JjwtTokenService implements JwtTokenService {
 
     @Override
     public Mono<String> generateToken(UUID userId, String username, String email, Duration duration, Map<String, Object> customClaims) {
+        if (duration.compareTo(maxTokenLifetime) > 0) {
+            return Mono.error(new IllegalArgumentException(
+                    "Token duration " + duration + " exceeds the maximum of " + maxTokenLifetime));
+        }
+
         try {
             Instant now = Instant.now();
             Instant expiry = now.plus(duration);
@@ -61,6 +94,7 @@ public class JjwtTokenService implements JwtTokenService {
             claims.put("user_id", userId.toString());
             claims.put("username", username);
             claims.put("email", email);
+            claims.put(ISSUED_AT_MILLIS_CLAIM, now.toEpochMilli());
 
             String token = Jwts.builder()
                     .subject(userId.toString())
@@ -76,6 +110,11 @@ public class JjwtTokenService implements JwtTokenService {
                     ? JwtToken.TokenType.REFRESH
                     : JwtToken.TokenType.ACCESS;
 
+            if (tokenType == JwtToken.TokenType.ACCESS && statelessAccessTokens) {
+                log.debug("Generated stateless access token for user: {}", username);
+                return Mono.just(token);
+            }
+
             // Save token to database for blacklisting
             JwtToken jwtTokenEntity = JwtToken.builder()
                     .userId(userId)
@@ -98,32 +137,14 @@ public class JjwtTokenService implements JwtTokenService {
 
     @Override
     public Mono<TokenClaims> validateToken(String token) {
+        return validateToken(token, hashToken(token));
+    }
+
+    private Mono<TokenClaims> validateToken(String token, String tokenHash) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            UUID userId = UUID.fromString(claims.get("user_id", String.class));
-            String username = claims.get("username", String.class);
-            String email = claims.get("email", String.class);
-            Instant issuedAt = claims.getIssuedAt().toInstant();
-            Instant expiresAt = claims.getExpiration().toInstant();
-
-            // Extract custom claims (exclude standard and our known claims)
-            Map<String, Object> customClaims = new HashMap<>(claims);
-            customClaims.remove("sub");
-            customClaims.remove("iss");
-            customClaims.remove("iat");
-            customClaims.remove("exp");
-            customClaims.remove("user_id");
-            customClaims.remove("username");
-            customClaims.remove("email");
-
-            TokenClaims tokenClaims = new TokenClaims(userId, username, email, issuedAt, expiresAt, customClaims);
-
-            log.debug("Successfully validated JWT token for user: {}", username);
+            TokenClaims tokenClaims = parseClaims(token, tokenHash);
+
+            log.debug("Successfully validated JWT token for user: {}", tokenClaims.username());
             return Mono.just(tokenClaims);
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
@@ -138,14 +159,15 @@ public class JjwtTokenService implements JwtTokenService {
     public Mono<TokenClaims> validateTokenWithBlacklist(String token) {
         String tokenHash = hashToken(token);
 
-        return jwtTokenRepository.isTokenRevoked(tokenHash)
-                .flatMap(isRevoked -> {
-                    if (isRevoked) {
-                        log.warn("Token is blacklisted/revoked");
-                        return Mono.error(new InvalidTokenException("Token has been revoked"));
-                    }
-                    return validateToken(token);
-                })
+        return validateToken(token, tokenHash)
+                .flatMap(claims -> isRevoked(tokenHash, claims)
+                        .flatMap(isRevoked -> {
+                            if (isRevoked) {
+                                log.warn("Token is blacklisted/revoked");
+                                return Mono.error(new InvalidTokenException("Token has been revoked"));
+                            }
+                            return Mono.just(claims);
+                        }))
                 .doOnSuccess(claims -> log.debug("Token validated and not blacklisted"))
                 .doOnError(error -> log.warn("Token validation failed: {}", error.getMessage()));
     }
@@ -153,14 +175,7 @@ public class JjwtTokenService implements JwtTokenService {
     @Override
     public Mono<UUID> extractUserId(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            UUID userId = UUID.fromString(claims.get("user_id", String.class));
-            return Mono.just(userId);
+            return Mono.just(parseClaims(token).userId());
         } catch (Exception e) {
             log.warn("Failed to extract user ID from token: {}", e.getMessage());
             return Mono.error(new InvalidTokenException("Cannot extract user ID from token"));
@@ -170,13 +185,7 @@ public class JjwtTokenService implements JwtTokenService {
     @Override
     public Mono<Boolean> isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            boolean expired = claims.getExpiration().before(new Date());
+            boolean expired = parseClaims(token).expiresAt().isBefore(Instant.now());
             return Mono.just(expired);
         } catch (ExpiredJwtException e) {
             return Mono.just(true);
@@ -208,12 +217,98 @@ public class JjwtTokenService implements JwtTokenService {
     public Mono<Void> blacklistToken(String token, String reason) {
         String tokenHash = hashToken(token);
 
-        return jwtTokenRepository.revokeByTokenHash(tokenHash, reason)
-                .then()
-                .doOnSuccess(v -> log.debug("Successfully blacklisted token with reason: {}", reason))
+        return revoke(token, tokenHash, reason)
+                .doOnSuccess(v -> {
+                    claimsCache.invalidate(tokenHash);
+                    log.debug("Successfully blacklisted token with reason: {}", reason);
+                })
                 .doOnError(error -> log.error("Failed to blacklist token: {}", error.getMessage()));
     }
 
+    /**
+     * Check revocation of a verified token: stateless access tokens against the user's watermark,
+     * persisted tokens by hash
+     */
+    private Mono<Boolean> isRevoked(String tokenHash, TokenClaims claims) {
+        if (statelessAccessTokens && !isRefreshToken(claims)) {
+            return jwtTokenRepository.isAccessTokenRevoked(claims.userId(), claims.issuedAt());
+        }
+        return jwtTokenRepository.isTokenRevoked(tokenHash);
+    }
+
+    /**
+     * Revoke a token: stateless access tokens by advancing the user's watermark, everything else by hash.
+     * The watermark moves to the millisecond after the token was issued, which revokes the user's access
+     * tokens issued up to then on every device. It is derived from the token rather than from the clock
+     * of the node handling the logout, so a new login right afterwards is not caught by clock skew.
+     */
+    private Mono<Void> revoke(String token, String tokenHash, String reason) {
+        Mono<Void> revokeByHash = Mono.defer(() -> jwtTokenRepository.revokeByTokenHash(tokenHash, reason).then());
+        if (!statelessAccessTokens) {
+            return revokeByHash;
+        }
+
+        return validateToken(token, tokenHash)
+                .flatMap(claims -> isRefreshToken(claims)
+                        ? revokeByHash
+                        : jwtTokenRepository.revokeAccessTokensIssuedBefore(claims.userId(), claims.issuedAt().plusMillis(1)))
+                .onErrorResume(InvalidTokenException.class, e -> revokeByHash);
+    }
+
+    private boolean isRefreshToken(TokenClaims claims) {
+        return "refresh".equals(claims.customClaims().get("token_type"));
+    }
+
+    /**
+     * Return the verified claims of a token, from the claims cache when the same token
+     * has been verified before.
+     *
+     * @throws ExpiredJwtException if the token has expired
+     * @throws JwtException if the token signature or structure is invalid
+     */
+    private TokenClaims parseClaims(String token) {
+        return parseClaims(token, hashToken(token));
+    }
+
+    private TokenClaims parseClaims(String token, String tokenHash) {
+        return claimsCache.get(tokenHash).orElseGet(() -> {
+            TokenClaims tokenClaims = toTokenClaims(jwtParser.parseSignedClaims(token).getPayload());
+            claimsCache.put(tokenHash, tokenClaims);
+            return tokenClaims;
+        });
+    }
+
+    /**
+     * Map JJWT claims to token claims, keeping everything except standard and our known claims as custom claims.
+     * The custom claims map is unmodifiable since the result is shared through the claims cache.
+     */
+    private TokenClaims toTokenClaims(Claims claims) {
+        Map<String, Object> customClaims = new HashMap<>();
+        claims.forEach((name, value) -> {
+            if (!RESERVED_CLAIMS.contains(name)) {
+                customClaims.put(name, value);
+            }
+        });
+
+        return new TokenClaims(
+                UUID.fromString(claims.get("user_id", String.class)),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                issuedAt(claims),
+                claims.getExpiration().toInstant(),
+                Collections.unmodifiableMap(customClaims)
+        );
+    }
+
+    /**
+     * Issue time of a token with millisecond precision when available
+     */
+    private Instant issuedAt(Claims claims) {
+        return claims.get(ISSUED_AT_MILLIS_CLAIM) instanceof Number millis
+                ? Instant.ofEpochMilli(millis.longValue())
+                : claims.getIssuedAt().toInstant();
+    }
+
     @Override
     public String hashToken(String token) {
         if (token == null) {
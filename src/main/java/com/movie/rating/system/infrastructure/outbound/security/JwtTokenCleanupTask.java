@@ -1,48 +1,136 @@
 package com.movie.rating.system.infrastructure.outbound.security;
 
 import com.movie.rating.system.domain.port.outbound.JwtTokenRepository;
-import lombok.RequiredArgsConstructor;
+import com.movie.rating.system.infrastructure.outbound.persistence.lock.AdvisoryLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 
 /**
- * Scheduled task for JWT token cleanup
+ * Scheduled task for JWT token partition maintenance.
+ * Tokens are stored in daily partitions by expiry. Each run creates the partitions for every
+ * token that can be issued before the next few runs, and drops the partitions of tokens that
+ * have been expired for longer than the retention period, so retention never deletes rows.
+ * A token is kept for up to one day beyond the retention period, until its whole day can be
+ * dropped. Access token watermarks are deleted once every access token issued before them
+ * has expired. Only one node maintains partitions at a time, guarded by an advisory lock.
+ * Partitions are counted as {@code jwt.tokens.partitions.created} and
+ * {@code jwt.tokens.partitions.dropped}, and runs as {@code jwt.tokens.cleanup.runs} tagged with the outcome.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenCleanupTask {
 
+    static final String LOCK_NAME = "jwt-token-cleanup";
+
     private final JwtTokenRepository jwtTokenRepository;
+    private final AdvisoryLock advisoryLock;
+    private final MeterRegistry meterRegistry;
+    private final Duration retentionPeriod;
+    private final Duration maxTokenLifetime;
+    private final Duration accessTokenLifetime;
+    private final Duration partitionLeadTime;
+    private final Counter createdPartitions;
+    private final Counter droppedPartitions;
 
-    @Value("${app.jwt.cleanup.retention-period:P30D}")
-    private Duration retentionPeriod;
+    public JwtTokenCleanupTask(JwtTokenRepository jwtTokenRepository,
+                               AdvisoryLock advisoryLock,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.jwt.cleanup.retention-period:P30D}") Duration retentionPeriod,
+                               @Value("${app.jwt.refresh-token-duration:P7D}") Duration maxTokenLifetime,
+                               @Value("${app.jwt.access-token-duration:PT1H}") Duration accessTokenLifetime,
+                               @Value("${app.jwt.cleanup.partition-lead-time:P7D}") Duration partitionLeadTime) {
+        this.jwtTokenRepository = jwtTokenRepository;
+        this.advisoryLock = advisoryLock;
+        this.meterRegistry = meterRegistry;
+        this.retentionPeriod = retentionPeriod;
+        this.maxTokenLifetime = maxTokenLifetime;
+        this.accessTokenLifetime = accessTokenLifetime;
+        this.partitionLeadTime = partitionLeadTime;
+        this.createdPartitions = Counter.builder("jwt.tokens.partitions.created")
+                .description("JWT token partitions created ahead of time")
+                .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("jwt.tokens.partitions.dropped")
+                .description("JWT token partitions dropped after the retention period")
+                .register(meterRegistry);
+    }
 
     /**
-     * Clean up expired tokens every hour
-     * Removes tokens that have been expired for more than the retention period
+     * Maintain token partitions every hour, starting right after startup
+     * Creates upcoming partitions, drops partitions past the retention period and deletes stale watermarks
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour in milliseconds
+    @Scheduled(fixedRateString = "${app.jwt.cleanup.interval:PT1H}")
     public void cleanupExpiredTokens() {
         log.info("Starting JWT token cleanup task");
-        
-        Instant cutoffTime = Instant.now().minus(retentionPeriod);
-        
-        jwtTokenRepository.deleteExpiredTokens(cutoffTime)
+
+        cleanup(Instant.now())
                 .subscribe(
-                        deletedCount -> {
-                            if (deletedCount > 0) {
-                                log.info("Cleaned up {} expired JWT tokens", deletedCount);
+                        droppedCount -> {
+                            if (droppedCount > 0) {
+                                log.info("Dropped {} expired JWT token partitions", droppedCount);
                             } else {
-                                log.debug("No expired JWT tokens to clean up");
+                                log.debug("No expired JWT token partitions to drop");
                             }
                         },
-                        error -> log.error("Failed to clean up expired JWT tokens", error)
+                        error -> log.error("Failed to maintain JWT token partitions", error)
                 );
     }
+
+    /**
+     * Create upcoming partitions, drop expired ones and delete stale access token watermarks
+     * while holding the cleanup lock.
+     *
+     * @return the number of dropped partitions, or empty if another node is cleaning up
+     */
+    Mono<Integer> cleanup(Instant now) {
+        LocalDate today = utcDay(now);
+        LocalDate lastExpiryDay = utcDay(now.plus(maxTokenLifetime).plus(partitionLeadTime));
+        LocalDate retainedFrom = utcDay(now.minus(retentionPeriod));
+
+        Mono<Integer> maintenance = Mono.defer(() -> jwtTokenRepository.createPartitions(today, lastExpiryDay))
+                .doOnNext(created -> {
+                    createdPartitions.increment(created);
+                    if (created > 0) {
+                        log.info("Created {} JWT token partitions up to {}", created, lastExpiryDay);
+                    }
+                })
+                .then(Mono.defer(() -> jwtTokenRepository.dropPartitionsBefore(retainedFrom)))
+                .doOnNext(droppedPartitions::increment)
+                .flatMap(dropped -> jwtTokenRepository.deleteAccessTokenWatermarksBefore(now.minus(accessTokenLifetime))
+                        .doOnNext(deleted -> {
+                            if (deleted > 0) {
+                                log.info("Deleted {} stale access token watermarks", deleted);
+                            }
+                        })
+                        .thenReturn(dropped))
+                .doOnSuccess(dropped -> recordRun("completed"));
+
+        return advisoryLock.runExclusively(LOCK_NAME, maintenance)
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    log.debug("JWT token cleanup is running on another node, skipping");
+                    recordRun("skipped");
+                }))
+                .doOnError(error -> recordRun("failed"));
+    }
+
+    private static LocalDate utcDay(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private void recordRun(String outcome) {
+        Counter.builder("jwt.tokens.cleanup.runs")
+                .description("Runs of the JWT token cleanup task")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
 }
@@ -0,0 +1,116 @@
+package com.movie.rating.system.infrastructure.outbound.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.movie.rating.system.domain.port.outbound.JwtTokenService.TokenClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Bounded cache of verified token claims keyed by token hash.
+ * Each entry lives until the token's own expiry, so a token presented again skips
+ * HMAC verification and JSON decoding. Since the key is a hash of the complete token,
+ * including its signature, only tokens that were already verified can ever hit.
+ * When full, Caffeine evicts the entries least likely to be used again.
+ */
+@Component
+public class TokenClaimsCache {
+
+    private final Cache<String, TokenClaims> claimsByTokenHash;
+    private final Counter hits;
+    private final Counter misses;
+
+    public TokenClaimsCache(MeterRegistry meterRegistry,
+                            @Value("${app.jwt.claims-cache.max-size:10000}") int maxSize) {
+        this.claimsByTokenHash = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                // Evict on the calling thread, so the size bound holds as soon as put returns
+                .executor(Runnable::run)
+                .build();
+        this.hits = Counter.builder("jwt.claims.cache.lookups")
+                .description("Token validations answered from the claims cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.claims.cache.lookups")
+                .description("Token validations that required parsing the token")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", claimsByTokenHash, Cache::estimatedSize)
+                .description("Number of verified token claims held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up the verified claims of a token.
+     *
+     * @param tokenHash the token hash
+     * @return the claims, or empty if the token has not been verified yet or has expired
+     */
+    public Optional<TokenClaims> get(String tokenHash) {
+        TokenClaims claims = claimsByTokenHash.getIfPresent(tokenHash);
+        if (claims == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(claims);
+    }
+
+    /**
+     * Store verified claims until the token expires
+     *
+     * @param tokenHash the token hash
+     * @param claims    the verified claims
+     */
+    public void put(String tokenHash, TokenClaims claims) {
+        claimsByTokenHash.put(tokenHash, claims);
+    }
+
+    /**
+     * Drop the claims of a token, e.g. after it has been blacklisted
+     *
+     * @param tokenHash the token hash
+     */
+    public void invalidate(String tokenHash) {
+        claimsByTokenHash.invalidate(tokenHash);
+    }
+
+    /**
+     * Number of token claims currently held
+     */
+    public long size() {
+        claimsByTokenHash.cleanUp();
+        return claimsByTokenHash.estimatedSize();
+    }
+
+    /**
+     * Expires each entry when its token expires
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, TokenClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.movie.rating.system.infrastructure.outbound.security;
+
+import com.movie.rating.system.domain.port.outbound.JwtTokenRepository;
+import com.movie.rating.system.domain.port.outbound.JwtTokenRepository.AccessTokenWatermark;
+import com.movie.rating.system.infrastructure.outbound.persistence.cache.TokenRevocationCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Warms and maintains the in-memory token revocation cache.
+ * The cache is loaded once at startup and then periodically synchronized with revocations
+ * and access token watermarks written by other application nodes.
+ * <p>
+ * A revocation made on another node is therefore only seen here after up to one sync interval
+ * (30 seconds by default), during which this node still accepts the revoked token. Each run
+ * reads revocations since the previous run minus the sync overlap. Revocation times come from
+ * the revoking node's clock, so the overlap must exceed the clock skew between nodes, or
+ * revocations stamped by a lagging node can be missed until the next restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationCacheTask {
+
+    private final JwtTokenRepository jwtTokenRepository;
+    private final TokenRevocationCache revocationCache;
+
+    @Value("${app.jwt.revocation-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.jwt.revocation-cache.sync-overlap:PT5S}")
+    private Duration syncOverlap;
+
+    @Value("${app.jwt.access-token-duration:PT1H}")
+    private Duration accessTokenDuration;
+
+    private volatile Instant lastSync;
+
+    /**
+     * Load all revoked, unexpired tokens and live watermarks once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("Token revocation cache is disabled, revocation checks will query the database");
+            return;
+        }
+
+        log.info("Warming token revocation cache");
+        Instant startedAt = Instant.now();
+
+        Mono.when(loadRevokedTokens(Instant.EPOCH), loadWatermarks(Instant.EPOCH, startedAt))
+                .subscribe(
+                        v -> { },
+                        error -> log.error("Failed to warm token revocation cache", error),
+                        () -> {
+                            lastSync = startedAt;
+                            revocationCache.markWarm();
+                        }
+                );
+    }
+
+    /**
+     * Pick up revocations made by other nodes and drop expired entries
+     */
+    @Scheduled(fixedRateString = "${app.jwt.revocation-cache.sync-interval:PT30S}",
+               initialDelayString = "${app.jwt.revocation-cache.sync-interval:PT30S}")
+    public void synchronize() {
+        int evicted = revocationCache.evictExpired()
+                + revocationCache.evictWatermarksBefore(Instant.now().minus(accessTokenDuration));
+        if (evicted > 0) {
+            log.debug("Evicted {} expired entries from token revocation cache", evicted);
+        }
+
+        if (!enabled || !revocationCache.isWarm()) {
+            return;
+        }
+
+        Instant startedAt = Instant.now();
+        Instant since = lastSync.minus(syncOverlap);
+
+        Mono.zip(loadRevokedTokens(since), loadWatermarks(since, startedAt))
+                .subscribe(
+                        counts -> {
+                            lastSync = startedAt;
+                            log.debug("Synchronized {} revoked tokens and {} watermarks into revocation cache",
+                                    counts.getT1(), counts.getT2());
+                        },
+                        error -> log.error("Failed to synchronize token revocation cache", error)
+                );
+    }
+
+    private Mono<Long> loadRevokedTokens(Instant since) {
+        return jwtTokenRepository.findRevokedUnexpiredTokens(since)
+                .doOnNext(token -> revocationCache.markRevoked(token.getTokenHash(), token.getExpiresAt()))
+                .count();
+    }
+
+    private Mono<Long> loadWatermarks(Instant since, Instant now) {
+        return jwtTokenRepository.findAccessTokenWatermarks(since, now.minus(accessTokenDuration))
+                .doOnNext(this::cacheWatermark)
+                .count();
+    }
+
+    private void cacheWatermark(AccessTokenWatermark watermark) {
+        revocationCache.markAccessTokensRevoked(watermark.userId(), watermark.revokedBefore());
+    }
+}
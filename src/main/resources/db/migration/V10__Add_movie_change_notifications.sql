@@ -0,0 +1,18 @@
+-- Notify application nodes of every change to a movie so that cached copies can be dropped.
+-- The payload is the ID of the changed movie; listeners subscribe with LISTEN movie_changes.
+CREATE OR REPLACE FUNCTION notify_movie_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('movie_changes', OLD.id::text);
+    ELSE
+        PERFORM pg_notify('movie_changes', NEW.id::text);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_notify_movie_change
+    AFTER INSERT OR UPDATE OR DELETE ON movies
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_movie_change();
@@ -0,0 +1,119 @@
+-- Range-partition jwt_tokens by expiry so that retention drops whole partitions instead of
+-- deleting rows. Each partition covers one UTC day and is named jwt_tokens_pYYYYMMDD.
+-- Keys on a partitioned table must include the partition key, so the primary key becomes
+-- (id, expires_at) and token hashes are unique per expiry. A token hash is derived from a
+-- signed token that carries its own expiry, so the same hash never has two expiries.
+-- There is no default partition: partitions are created ahead of time by the cleanup task,
+-- and a default partition would have to be scanned every time a new partition is attached.
+
+ALTER TABLE jwt_tokens RENAME TO jwt_tokens_unpartitioned;
+ALTER TABLE jwt_tokens_unpartitioned RENAME CONSTRAINT jwt_tokens_pkey TO jwt_tokens_unpartitioned_pkey;
+ALTER TABLE jwt_tokens_unpartitioned RENAME CONSTRAINT jwt_tokens_token_hash_key TO jwt_tokens_unpartitioned_token_hash_key;
+DROP TRIGGER trigger_jwt_tokens_updated_at ON jwt_tokens_unpartitioned;
+DROP INDEX idx_jwt_tokens_user_id;
+DROP INDEX idx_jwt_tokens_token_hash;
+DROP INDEX idx_jwt_tokens_expires_at;
+DROP INDEX idx_jwt_tokens_is_revoked;
+DROP INDEX idx_jwt_tokens_token_type;
+DROP INDEX idx_jwt_tokens_active;
+
+CREATE TABLE jwt_tokens (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    token_hash VARCHAR(255) NOT NULL,
+    token_type VARCHAR(20) NOT NULL CHECK (token_type IN ('ACCESS', 'REFRESH')),
+    issued_at TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    is_revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    revoked_at TIMESTAMPTZ,
+    revoked_reason VARCHAR(100),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, expires_at),
+    UNIQUE (token_hash, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+-- Indexes are created on every partition, including partitions created later.
+-- Lookups by hash use the unique index, which leads with token_hash, and lookups by user
+-- use idx_jwt_tokens_active, which leads with user_id.
+CREATE INDEX idx_jwt_tokens_expires_at ON jwt_tokens(expires_at);
+CREATE INDEX idx_jwt_tokens_active ON jwt_tokens(user_id, token_type, is_revoked, expires_at);
+
+-- Revocation cache synchronization reads tokens revoked since its last run. Every revocation
+-- sets revoked_at, so it filters on revoked_at and the index only holds revoked tokens.
+CREATE INDEX idx_jwt_tokens_revoked_at ON jwt_tokens(revoked_at) WHERE is_revoked = true;
+
+CREATE TRIGGER trigger_jwt_tokens_updated_at
+    BEFORE UPDATE ON jwt_tokens
+    FOR EACH ROW
+    EXECUTE FUNCTION update_jwt_tokens_updated_at();
+
+-- Create the missing daily partitions for tokens expiring from p_from through p_to.
+-- Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION create_jwt_token_partitions(p_from DATE, p_to DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    v_day DATE := p_from;
+    v_partition TEXT;
+    v_created INTEGER := 0;
+BEGIN
+    WHILE v_day <= p_to LOOP
+        v_partition := 'jwt_tokens_p' || to_char(v_day, 'YYYYMMDD');
+        IF to_regclass(v_partition) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF jwt_tokens FOR VALUES FROM (%L) TO (%L)',
+                           v_partition,
+                           v_day::timestamp AT TIME ZONE 'UTC',
+                           (v_day + 1)::timestamp AT TIME ZONE 'UTC');
+            v_created := v_created + 1;
+        END IF;
+        v_day := v_day + 1;
+    END LOOP;
+    RETURN v_created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drop the daily partitions of tokens expiring before p_before.
+-- Dropping a partition briefly locks jwt_tokens, so give up rather than queue behind
+-- long-running queries and block every token lookup; the next run tries again.
+-- Returns the number of partitions dropped.
+CREATE OR REPLACE FUNCTION drop_jwt_token_partitions(p_before DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    v_partition TEXT;
+    v_dropped INTEGER := 0;
+BEGIN
+    PERFORM set_config('lock_timeout', '5s', true);
+    FOR v_partition IN
+        SELECT child.relname
+        FROM pg_inherits
+        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        WHERE parent.relname = 'jwt_tokens'
+          AND child.relname ~ '^jwt_tokens_p[0-9]{8}$'
+          AND substring(child.relname FROM 13) < to_char(p_before, 'YYYYMMDD')
+        ORDER BY child.relname
+    LOOP
+        EXECUTE format('DROP TABLE %I', v_partition);
+        v_dropped := v_dropped + 1;
+    END LOOP;
+    RETURN v_dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for the existing tokens and the next month, then move the tokens over
+SELECT create_jwt_token_partitions(
+    LEAST(
+        (SELECT min(expires_at AT TIME ZONE 'UTC')::date FROM jwt_tokens_unpartitioned),
+        (now() AT TIME ZONE 'UTC')::date - 1),
+    GREATEST(
+        (SELECT max(expires_at AT TIME ZONE 'UTC')::date FROM jwt_tokens_unpartitioned),
+        (now() AT TIME ZONE 'UTC')::date + 30));
+
+INSERT INTO jwt_tokens (id, user_id, token_hash, token_type, issued_at, expires_at,
+                        is_revoked, revoked_at, revoked_reason, created_at, updated_at)
+SELECT id, user_id, token_hash, token_type, issued_at, expires_at,
+       is_revoked, CASE WHEN is_revoked THEN COALESCE(revoked_at, updated_at) END, revoked_reason,
+       created_at, updated_at
+FROM jwt_tokens_unpartitioned;
+
+DROP TABLE jwt_tokens_unpartitioned;
@@ -0,0 +1,12 @@
+-- Expression indexes for the case-insensitive lookups, which compare LOWER(column)
+-- and so cannot use the plain B-tree indexes on the columns themselves.
+
+-- Duplicate checks on create and update: LOWER(title) = LOWER(:title) AND year_of_release = :year AND is_active = true
+CREATE INDEX idx_movies_active_lower_title_year ON movies (LOWER(title), year_of_release) WHERE is_active = true;
+
+-- User lookups by first and last name: LOWER(first_name) = LOWER(:firstName)
+CREATE INDEX idx_users_lower_first_name ON users (LOWER(first_name));
+CREATE INDEX idx_users_lower_last_name ON users (LOWER(last_name));
+
+-- Username search: LOWER(username) LIKE LOWER('%' || :username || '%'), via pg_trgm from V9
+CREATE INDEX idx_users_lower_username_trgm ON users USING GIN (LOWER(username) gin_trgm_ops);
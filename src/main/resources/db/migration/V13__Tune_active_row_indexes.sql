@@ -0,0 +1,45 @@
+-- Index tuning for the is_active = true predicate that nearly every read filters on.
+-- Partial indexes hold only active rows, so they are smaller than the composite indexes
+-- that led with or embedded is_active, and rows being deactivated leave them. Standalone
+-- indexes on low-selectivity columns are dropped: no query can use them selectively and
+-- every write had to maintain them.
+
+-- movie_ratings: recent ratings and ratings created in a time range.
+-- Listings by movie and by user use the partial keyset indexes from V8.
+CREATE INDEX idx_movie_ratings_active_created_at
+    ON movie_ratings (created_at DESC) WHERE is_active = true;
+
+-- Superseded by the partial index above
+DROP INDEX IF EXISTS idx_movie_ratings_created_at;
+
+-- Covered by the leading column of UNIQUE (movie_id, user_id)
+DROP INDEX IF EXISTS idx_movie_ratings_movie_id;
+
+-- Low selectivity: a boolean and a 1-10 score
+DROP INDEX IF EXISTS idx_movie_ratings_is_active;
+DROP INDEX IF EXISTS idx_movie_ratings_rating;
+DROP INDEX IF EXISTS idx_movie_ratings_active_rating;
+
+-- movies: active listings and searches ordered by title
+DROP INDEX IF EXISTS idx_movies_active_title;
+CREATE INDEX idx_movies_active_title
+    ON movies (title) WHERE is_active = true;
+
+-- movies: active listings per creator, newest first, and lookups by year.
+-- Overall listings use the partial keyset index from V8.
+CREATE INDEX idx_movies_active_created_by_created_at
+    ON movies (created_by, created_at DESC) WHERE is_active = true;
+
+CREATE INDEX idx_movies_active_year_title
+    ON movies (year_of_release, title) WHERE is_active = true;
+
+DROP INDEX IF EXISTS idx_movies_user_active;
+DROP INDEX IF EXISTS idx_movies_active_year;
+DROP INDEX IF EXISTS idx_movies_year_of_release;
+DROP INDEX IF EXISTS idx_movies_created_at;
+DROP INDEX IF EXISTS idx_movies_is_active;
+
+-- users: the UNIQUE constraints already index username and email
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_users_is_active;
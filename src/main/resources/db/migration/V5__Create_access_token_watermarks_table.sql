@@ -0,0 +1,10 @@
+-- Per-user revocation watermark for access tokens.
+-- Access tokens are not stored individually; any access token issued before revoked_before is invalid.
+CREATE TABLE access_token_watermarks (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    revoked_before TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Index for synchronizing recently changed watermarks
+CREATE INDEX idx_access_token_watermarks_updated_at ON access_token_watermarks(updated_at);
@@ -0,0 +1,130 @@
+-- Rating aggregates per movie, maintained incrementally on every write to movie_ratings.
+-- Only active ratings are counted. Min and max are derived from the per-rating buckets.
+CREATE TABLE movie_rating_aggregates (
+    movie_id UUID PRIMARY KEY REFERENCES movies(id) ON DELETE CASCADE,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    ratings_with_reviews BIGINT NOT NULL DEFAULT 0,
+    rating_1_count BIGINT NOT NULL DEFAULT 0,
+    rating_2_count BIGINT NOT NULL DEFAULT 0,
+    rating_3_count BIGINT NOT NULL DEFAULT 0,
+    rating_4_count BIGINT NOT NULL DEFAULT 0,
+    rating_5_count BIGINT NOT NULL DEFAULT 0,
+    rating_6_count BIGINT NOT NULL DEFAULT 0,
+    rating_7_count BIGINT NOT NULL DEFAULT 0,
+    rating_8_count BIGINT NOT NULL DEFAULT 0,
+    rating_9_count BIGINT NOT NULL DEFAULT 0,
+    rating_10_count BIGINT NOT NULL DEFAULT 0,
+    min_rating INTEGER GENERATED ALWAYS AS (
+        CASE WHEN rating_1_count > 0 THEN 1 WHEN rating_2_count > 0 THEN 2 WHEN rating_3_count > 0 THEN 3 WHEN rating_4_count > 0 THEN 4 WHEN rating_5_count > 0 THEN 5 WHEN rating_6_count > 0 THEN 6 WHEN rating_7_count > 0 THEN 7 WHEN rating_8_count > 0 THEN 8 WHEN rating_9_count > 0 THEN 9 WHEN rating_10_count > 0 THEN 10 END
+    ) STORED,
+    max_rating INTEGER GENERATED ALWAYS AS (
+        CASE WHEN rating_10_count > 0 THEN 10 WHEN rating_9_count > 0 THEN 9 WHEN rating_8_count > 0 THEN 8 WHEN rating_7_count > 0 THEN 7 WHEN rating_6_count > 0 THEN 6 WHEN rating_5_count > 0 THEN 5 WHEN rating_4_count > 0 THEN 4 WHEN rating_3_count > 0 THEN 3 WHEN rating_2_count > 0 THEN 2 WHEN rating_1_count > 0 THEN 1 END
+    ) STORED,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Apply a +1/-1 change for a single rating to the movie's aggregate row
+CREATE OR REPLACE FUNCTION apply_movie_rating_aggregate_delta(p_movie_id UUID, p_rating INTEGER, p_review TEXT, p_delta INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    -- Decrements never create rows, so cascading deletes of a movie cannot re-insert its aggregate
+    IF p_delta < 0 THEN
+        UPDATE movie_rating_aggregates SET
+            rating_count = rating_count + p_delta,
+            rating_sum = rating_sum + p_delta * p_rating,
+            ratings_with_reviews = ratings_with_reviews
+                + CASE WHEN p_review IS NOT NULL AND TRIM(p_review) != '' THEN p_delta ELSE 0 END,
+            rating_1_count = rating_1_count + CASE WHEN p_rating = 1 THEN p_delta ELSE 0 END,
+            rating_2_count = rating_2_count + CASE WHEN p_rating = 2 THEN p_delta ELSE 0 END,
+            rating_3_count = rating_3_count + CASE WHEN p_rating = 3 THEN p_delta ELSE 0 END,
+            rating_4_count = rating_4_count + CASE WHEN p_rating = 4 THEN p_delta ELSE 0 END,
+            rating_5_count = rating_5_count + CASE WHEN p_rating = 5 THEN p_delta ELSE 0 END,
+            rating_6_count = rating_6_count + CASE WHEN p_rating = 6 THEN p_delta ELSE 0 END,
+            rating_7_count = rating_7_count + CASE WHEN p_rating = 7 THEN p_delta ELSE 0 END,
+            rating_8_count = rating_8_count + CASE WHEN p_rating = 8 THEN p_delta ELSE 0 END,
+            rating_9_count = rating_9_count + CASE WHEN p_rating = 9 THEN p_delta ELSE 0 END,
+            rating_10_count = rating_10_count + CASE WHEN p_rating = 10 THEN p_delta ELSE 0 END,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE movie_id = p_movie_id;
+        RETURN;
+    END IF;
+
+    INSERT INTO movie_rating_aggregates AS a (
+        movie_id, rating_count, rating_sum, ratings_with_reviews,
+        rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, rating_6_count, rating_7_count, rating_8_count, rating_9_count, rating_10_count
+    )
+    VALUES (
+        p_movie_id, p_delta, p_delta * p_rating,
+        CASE WHEN p_review IS NOT NULL AND TRIM(p_review) != '' THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 1 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 2 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 3 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 4 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 5 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 6 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 7 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 8 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 9 THEN p_delta ELSE 0 END,
+        CASE WHEN p_rating = 10 THEN p_delta ELSE 0 END
+    )
+    ON CONFLICT (movie_id) DO UPDATE SET
+        rating_count = a.rating_count + EXCLUDED.rating_count,
+        rating_sum = a.rating_sum + EXCLUDED.rating_sum,
+        ratings_with_reviews = a.ratings_with_reviews + EXCLUDED.ratings_with_reviews,
+        rating_1_count = a.rating_1_count + EXCLUDED.rating_1_count,
+        rating_2_count = a.rating_2_count + EXCLUDED.rating_2_count,
+        rating_3_count = a.rating_3_count + EXCLUDED.rating_3_count,
+        rating_4_count = a.rating_4_count + EXCLUDED.rating_4_count,
+        rating_5_count = a.rating_5_count + EXCLUDED.rating_5_count,
+        rating_6_count = a.rating_6_count + EXCLUDED.rating_6_count,
+        rating_7_count = a.rating_7_count + EXCLUDED.rating_7_count,
+        rating_8_count = a.rating_8_count + EXCLUDED.rating_8_count,
+        rating_9_count = a.rating_9_count + EXCLUDED.rating_9_count,
+        rating_10_count = a.rating_10_count + EXCLUDED.rating_10_count,
+        updated_at = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Keep aggregates in step with movie_ratings within the writing transaction
+CREATE OR REPLACE FUNCTION maintain_movie_rating_aggregates()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.is_active THEN
+        PERFORM apply_movie_rating_aggregate_delta(OLD.movie_id, OLD.rating, OLD.review, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.is_active THEN
+        PERFORM apply_movie_rating_aggregate_delta(NEW.movie_id, NEW.rating, NEW.review, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_maintain_movie_rating_aggregates
+    AFTER INSERT OR DELETE OR UPDATE OF movie_id, rating, review, is_active ON movie_ratings
+    FOR EACH ROW
+    EXECUTE FUNCTION maintain_movie_rating_aggregates();
+
+-- Backfill aggregates for existing ratings
+INSERT INTO movie_rating_aggregates (
+    movie_id, rating_count, rating_sum, ratings_with_reviews,
+    rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count, rating_6_count, rating_7_count, rating_8_count, rating_9_count, rating_10_count
+)
+SELECT
+    movie_id,
+    COUNT(*),
+    SUM(rating),
+    COUNT(*) FILTER (WHERE review IS NOT NULL AND TRIM(review) != ''),
+    COUNT(*) FILTER (WHERE rating = 1),
+    COUNT(*) FILTER (WHERE rating = 2),
+    COUNT(*) FILTER (WHERE rating = 3),
+    COUNT(*) FILTER (WHERE rating = 4),
+    COUNT(*) FILTER (WHERE rating = 5),
+    COUNT(*) FILTER (WHERE rating = 6),
+    COUNT(*) FILTER (WHERE rating = 7),
+    COUNT(*) FILTER (WHERE rating = 8),
+    COUNT(*) FILTER (WHERE rating = 9),
+    COUNT(*) FILTER (WHERE rating = 10)
+FROM movie_ratings
+WHERE is_active = true
+GROUP BY movie_id;
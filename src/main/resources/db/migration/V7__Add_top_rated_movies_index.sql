@@ -0,0 +1,8 @@
+-- Supports the top-rated movies ranking, which reads only the aggregates table.
+-- The minimum rating count filter and the global mean used for the weighted
+-- rating are both answered from this index without visiting the heap.
+CREATE INDEX idx_movie_rating_aggregates_rating_count
+    ON movie_rating_aggregates (rating_count)
+    INCLUDE (rating_sum);
+
+COMMENT ON INDEX idx_movie_rating_aggregates_rating_count IS 'Covering index for top-rated movie ranking';
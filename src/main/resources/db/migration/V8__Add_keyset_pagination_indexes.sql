@@ -0,0 +1,16 @@
+-- Indexes for keyset (cursor) pagination of movie and rating listings.
+-- Each listing is ordered by (created_at DESC, id DESC) and continues after the
+-- last row of the previous page, so every page is a bounded index range scan.
+-- Listings only show active rows, so the indexes are partial and hold only those.
+CREATE INDEX idx_movies_active_created_at_id
+    ON movies (created_at DESC, id DESC) WHERE is_active = true;
+
+CREATE INDEX idx_movie_ratings_active_movie_created_at_id
+    ON movie_ratings (movie_id, created_at DESC, id DESC) WHERE is_active = true;
+
+CREATE INDEX idx_movie_ratings_active_user_created_at_id
+    ON movie_ratings (user_id, created_at DESC, id DESC) WHERE is_active = true;
+
+-- Superseded by the indexes above, which serve the same active listings by movie and by user
+DROP INDEX IF EXISTS idx_movie_ratings_movie_active;
+DROP INDEX IF EXISTS idx_movie_ratings_user_active;
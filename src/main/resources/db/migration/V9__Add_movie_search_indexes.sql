@@ -0,0 +1,20 @@
+-- Full-text and trigram search for movies.
+-- search_vector combines the title (weight A) and the plot (weight B) and is
+-- kept up to date by Postgres itself as a stored generated column.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE movies
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+            setweight(to_tsvector('english', COALESCE(plot, '')), 'B')
+        ) STORED;
+
+-- Ranked text search over title and plot, and plot keyword search, which rechecks
+-- the candidates against the plot alone
+CREATE INDEX idx_movies_search_vector ON movies USING GIN (search_vector);
+
+-- Case-insensitive partial title matches (ILIKE '%...%') and fuzzy title similarity
+CREATE INDEX idx_movies_title_trgm ON movies USING GIN (title gin_trgm_ops);
+
+COMMENT ON COLUMN movies.search_vector IS 'Weighted full-text search document built from title and plot';
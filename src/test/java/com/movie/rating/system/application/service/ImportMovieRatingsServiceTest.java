@@ -0,0 +1,164 @@
+package com.movie.rating.system.application.service;
+
+import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportRatingRow;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportRowResult;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportStatus;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository.BatchInsertOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ImportMovieRatingsService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportMovieRatingsService Tests")
+class ImportMovieRatingsServiceTest {
+
+    @Mock
+    private MovieRatingRepository movieRatingRepository;
+
+    private ImportMovieRatingsService service;
+
+    private UUID importerId;
+    private UUID trustedImporterId;
+    private UUID movieId;
+
+    @BeforeEach
+    void setUp() {
+        importerId = UUID.randomUUID();
+        trustedImporterId = UUID.randomUUID();
+        movieId = UUID.randomUUID();
+        service = new ImportMovieRatingsService(movieRatingRepository, 2, Set.of(trustedImporterId));
+    }
+
+    @Test
+    @DisplayName("Should write valid rows in batches and report them in input order")
+    @SuppressWarnings("unchecked")
+    void shouldWriteRowsInBatches() {
+        // Given
+        Instant createdAt = Instant.parse("2015-06-01T18:30:00Z");
+        when(movieRatingRepository.insertAllIfNoActiveRating(anyList()))
+                .thenReturn(Mono.just(List.of(BatchInsertOutcome.INSERTED, BatchInsertOutcome.DUPLICATE)))
+                .thenReturn(Mono.just(List.of(BatchInsertOutcome.MOVIE_NOT_FOUND)));
+
+        Flux<ImportRatingRow> rows = Flux.just(
+                row(1, null, 8, createdAt),
+                row(2, null, 7, null),
+                row(3, null, 6, null));
+
+        // When
+        Flux<ImportRowResult> result = service.importRatings(importerId, rows);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new ImportRowResult(1, ImportStatus.IMPORTED, null))
+                .expectNext(new ImportRowResult(2, ImportStatus.DUPLICATE, "User has already rated this movie"))
+                .expectNext(new ImportRowResult(3, ImportStatus.MOVIE_NOT_FOUND, "Movie not found"))
+                .verifyComplete();
+
+        ArgumentCaptor<List<MovieRating>> batches = ArgumentCaptor.forClass(List.class);
+        verify(movieRatingRepository, times(2)).insertAllIfNoActiveRating(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+
+        MovieRating first = batches.getAllValues().get(0).get(0);
+        assertThat(first.getUserId()).isEqualTo(importerId);
+        assertThat(first.getRating()).isEqualTo(8);
+        assertThat(first.getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("Should reject unreadable and invalid rows without writing them")
+    void shouldRejectInvalidRows() {
+        // Given
+        when(movieRatingRepository.insertAllIfNoActiveRating(anyList()))
+                .thenReturn(Mono.just(List.of(BatchInsertOutcome.INSERTED)));
+
+        Flux<ImportRatingRow> rows = Flux.just(
+                ImportRatingRow.unreadable(1, "Malformed JSON"),
+                row(2, null, 11, null),
+                row(3, null, 5, null));
+
+        // When
+        Flux<ImportRowResult> result = service.importRatings(importerId, rows);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new ImportRowResult(1, ImportStatus.INVALID, "Malformed JSON"))
+                .assertNext(rowResult -> {
+                    assertThat(rowResult.line()).isEqualTo(2);
+                    assertThat(rowResult.status()).isEqualTo(ImportStatus.INVALID);
+                })
+                .expectNext(new ImportRowResult(3, ImportStatus.IMPORTED, null))
+                .verifyComplete();
+
+        verify(movieRatingRepository).insertAllIfNoActiveRating(argThat(ratings -> ratings.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should reject ratings of other users unless the importer is trusted")
+    void shouldRejectRatingsOfOtherUsers() {
+        // Given
+        UUID otherUserId = UUID.randomUUID();
+        when(movieRatingRepository.insertAllIfNoActiveRating(anyList()))
+                .thenReturn(Mono.just(List.of(BatchInsertOutcome.INSERTED)));
+
+        // When & Then
+        StepVerifier.create(service.importRatings(importerId, Flux.just(row(1, otherUserId, 8, null))))
+                .expectNext(new ImportRowResult(1, ImportStatus.FORBIDDEN, "Not allowed to import ratings of other users"))
+                .verifyComplete();
+
+        StepVerifier.create(service.importRatings(trustedImporterId, Flux.just(row(1, otherUserId, 8, null))))
+                .expectNext(new ImportRowResult(1, ImportStatus.IMPORTED, null))
+                .verifyComplete();
+
+        verify(movieRatingRepository).insertAllIfNoActiveRating(argThat(ratings ->
+                ratings.size() == 1 && ratings.get(0).getUserId().equals(otherUserId)));
+    }
+
+    @Test
+    @DisplayName("Should fail only the rows of a batch that could not be written")
+    void shouldFailRowsOfFailedBatch() {
+        // Given
+        when(movieRatingRepository.insertAllIfNoActiveRating(anyList()))
+                .thenReturn(Mono.error(new RuntimeException("Database error")))
+                .thenReturn(Mono.just(List.of(BatchInsertOutcome.INSERTED)));
+
+        Flux<ImportRatingRow> rows = Flux.just(
+                row(1, null, 8, null),
+                ImportRatingRow.unreadable(2, "Invalid rating: x"),
+                row(3, null, 6, null));
+
+        // When
+        Flux<ImportRowResult> result = service.importRatings(importerId, rows);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new ImportRowResult(1, ImportStatus.FAILED, "Batch could not be written"))
+                .expectNext(new ImportRowResult(2, ImportStatus.INVALID, "Invalid rating: x"))
+                .expectNext(new ImportRowResult(3, ImportStatus.IMPORTED, null))
+                .verifyComplete();
+    }
+
+    private ImportRatingRow row(long line, UUID userId, Integer rating, Instant createdAt) {
+        return new ImportRatingRow(line, movieId, userId, rating, null, createdAt, null);
+    }
+}
@@ -1,10 +1,10 @@
 package com.movie.rating.system.application.service;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
 import com.movie.rating.system.domain.exception.*;
 import com.movie.rating.system.domain.port.inbound.ManageMovieRatingUseCase.*;
 import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
-import com.movie.rating.system.domain.port.outbound.MovieRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,9 +29,6 @@ class ManageMovieRatingServiceTest {
     @Mock
     private MovieRatingRepository movieRatingRepository;
 
-    @Mock
-    private MovieRepository movieRepository;
-
     private ManageMovieRatingService service;
 
     private UUID movieId;
@@ -44,7 +41,7 @@ class ManageMovieRatingServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ManageMovieRatingService(movieRatingRepository, movieRepository);
+        service = new ManageMovieRatingService(movieRatingRepository);
         
         movieId = UUID.randomUUID();
         userId = UUID.randomUUID();
@@ -70,9 +67,7 @@ class ManageMovieRatingServiceTest {
     @DisplayName("Should successfully create movie rating")
     void shouldCreateMovieRating() {
         // Given
-        when(movieRepository.existsById(movieId)).thenReturn(Mono.just(true));
-        when(movieRatingRepository.existsActiveByMovieIdAndUserId(movieId, userId)).thenReturn(Mono.just(false));
-        when(movieRatingRepository.save(any(MovieRating.class))).thenReturn(Mono.just(movieRating));
+        when(movieRatingRepository.insertIfNoActiveRating(any(MovieRating.class))).thenReturn(Mono.just(movieRating));
 
         // When
         Mono<MovieRating> result = service.createRating(createCommand);
@@ -82,16 +77,17 @@ class ManageMovieRatingServiceTest {
                 .expectNext(movieRating)
                 .verifyComplete();
 
-        verify(movieRepository).existsById(movieId);
-        verify(movieRatingRepository).existsActiveByMovieIdAndUserId(movieId, userId);
-        verify(movieRatingRepository).save(any(MovieRating.class));
+        verify(movieRatingRepository).insertIfNoActiveRating(argThat(rating ->
+                rating.getMovieId().equals(movieId) && rating.getUserId().equals(userId)));
+        verify(movieRatingRepository, never()).existsActiveByMovieIdAndUserId(any(), any());
     }
 
     @Test
     @DisplayName("Should throw MovieNotFoundException when movie does not exist")
     void shouldThrowMovieNotFoundExceptionWhenMovieDoesNotExist() {
         // Given
-        when(movieRepository.existsById(movieId)).thenReturn(Mono.just(false));
+        when(movieRatingRepository.insertIfNoActiveRating(any(MovieRating.class)))
+                .thenReturn(Mono.error(new MovieNotFoundException(movieId)));
 
         // When
         Mono<MovieRating> result = service.createRating(createCommand);
@@ -101,17 +97,14 @@ class ManageMovieRatingServiceTest {
                 .expectError(MovieNotFoundException.class)
                 .verify();
 
-        verify(movieRepository).existsById(movieId);
-        verify(movieRatingRepository, never()).existsActiveByMovieIdAndUserId(any(), any());
-        verify(movieRatingRepository, never()).save(any());
+        verify(movieRatingRepository).insertIfNoActiveRating(any(MovieRating.class));
     }
 
     @Test
     @DisplayName("Should throw DuplicateRatingException when user already rated movie")
     void shouldThrowDuplicateRatingExceptionWhenUserAlreadyRatedMovie() {
         // Given
-        when(movieRepository.existsById(movieId)).thenReturn(Mono.just(true));
-        when(movieRatingRepository.existsActiveByMovieIdAndUserId(movieId, userId)).thenReturn(Mono.just(true));
+        when(movieRatingRepository.insertIfNoActiveRating(any(MovieRating.class))).thenReturn(Mono.empty());
 
         // When
         Mono<MovieRating> result = service.createRating(createCommand);
@@ -121,9 +114,7 @@ class ManageMovieRatingServiceTest {
                 .expectError(DuplicateRatingException.class)
                 .verify();
 
-        verify(movieRepository).existsById(movieId);
-        verify(movieRatingRepository).existsActiveByMovieIdAndUserId(movieId, userId);
-        verify(movieRatingRepository, never()).save(any());
+        verify(movieRatingRepository).insertIfNoActiveRating(any(MovieRating.class));
     }
 
     @Test
@@ -210,8 +201,7 @@ class ManageMovieRatingServiceTest {
     @DisplayName("Should successfully delete movie rating")
     void shouldDeleteMovieRating() {
         // Given
-        when(movieRatingRepository.findById(ratingId)).thenReturn(Mono.just(movieRating));
-        when(movieRatingRepository.deleteById(ratingId)).thenReturn(Mono.empty());
+        when(movieRatingRepository.deactivateByIdAndUserId(ratingId, userId)).thenReturn(Mono.just(true));
 
         // When
         Mono<Void> result = service.deleteRating(ratingId, userId);
@@ -220,8 +210,8 @@ class ManageMovieRatingServiceTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(movieRatingRepository).findById(ratingId);
-        verify(movieRatingRepository).deleteById(ratingId);
+        verify(movieRatingRepository).deactivateByIdAndUserId(ratingId, userId);
+        verify(movieRatingRepository, never()).findById(any());
     }
 
     @Test
@@ -230,6 +220,7 @@ class ManageMovieRatingServiceTest {
         // Given
         UUID unauthorizedUserId = UUID.randomUUID();
         
+        when(movieRatingRepository.deactivateByIdAndUserId(ratingId, unauthorizedUserId)).thenReturn(Mono.just(false));
         when(movieRatingRepository.findById(ratingId)).thenReturn(Mono.just(movieRating));
 
         // When
@@ -244,6 +235,22 @@ class ManageMovieRatingServiceTest {
         verify(movieRatingRepository, never()).deleteById(any());
     }
 
+    @Test
+    @DisplayName("Should throw MovieRatingNotFoundException when deleting non-existent rating")
+    void shouldThrowNotFoundExceptionWhenDeletingNonExistentRating() {
+        // Given
+        when(movieRatingRepository.deactivateByIdAndUserId(ratingId, userId)).thenReturn(Mono.just(false));
+        when(movieRatingRepository.findById(ratingId)).thenReturn(Mono.empty());
+
+        // When
+        Mono<Void> result = service.deleteRating(ratingId, userId);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(MovieRatingNotFoundException.class)
+                .verify();
+    }
+
     @Test
     @DisplayName("Should get ratings by movie")
     void shouldGetRatingsByMovie() {
@@ -439,10 +446,16 @@ class ManageMovieRatingServiceTest {
     @DisplayName("Should get movie rating statistics")
     void shouldGetMovieRatingStatistics() {
         // Given
-        List<MovieRating> ratings = List.of(movieRating);
-        when(movieRatingRepository.countActiveByMovieId(movieId)).thenReturn(Mono.just(1L));
-        when(movieRatingRepository.calculateAverageRatingByMovieId(movieId)).thenReturn(Mono.just(5.0));
-        when(movieRatingRepository.findActiveByMovieId(movieId)).thenReturn(Flux.fromIterable(ratings));
+        MovieRatingAggregate aggregate = MovieRatingAggregate.builder()
+                .movieId(movieId)
+                .ratingCount(1L)
+                .ratingSum(5L)
+                .minRating(5)
+                .maxRating(5)
+                .ratingsWithReviews(1L)
+                .distribution(List.of(0L, 0L, 0L, 0L, 1L, 0L, 0L, 0L, 0L, 0L))
+                .build();
+        when(movieRatingRepository.findAggregateByMovieId(movieId)).thenReturn(Mono.just(aggregate));
 
         // When
         Mono<MovieRatingStatistics> result = service.getMovieRatingStatistics(movieId);
@@ -455,22 +468,20 @@ class ManageMovieRatingServiceTest {
                     stats.averageRating() == 5.0 &&
                     stats.minRating() == 5 &&
                     stats.maxRating() == 5 &&
-                    stats.ratingsWithReviews() == 1L
+                    stats.ratingsWithReviews() == 1L &&
+                    stats.distribution().rating5() == 1L
                 )
                 .verifyComplete();
 
-        verify(movieRatingRepository).countActiveByMovieId(movieId);
-        verify(movieRatingRepository).calculateAverageRatingByMovieId(movieId);
-        verify(movieRatingRepository).findActiveByMovieId(movieId);
+        verify(movieRatingRepository).findAggregateByMovieId(movieId);
+        verify(movieRatingRepository, never()).findActiveByMovieId(any());
     }
 
     @Test
     @DisplayName("Should get movie rating statistics for movie with no ratings")
     void shouldGetMovieRatingStatisticsForMovieWithNoRatings() {
         // Given
-        when(movieRatingRepository.countActiveByMovieId(movieId)).thenReturn(Mono.just(0L));
-        when(movieRatingRepository.calculateAverageRatingByMovieId(movieId)).thenReturn(Mono.empty());
-        when(movieRatingRepository.findActiveByMovieId(movieId)).thenReturn(Flux.empty());
+        when(movieRatingRepository.findAggregateByMovieId(movieId)).thenReturn(Mono.empty());
 
         // When
         Mono<MovieRatingStatistics> result = service.getMovieRatingStatistics(movieId);
@@ -562,9 +573,8 @@ class ManageMovieRatingServiceTest {
         // Given
         int limit = 5;
         int minRatingCount = 10;
-        when(movieRatingRepository.findTopRatedMovies(limit, minRatingCount)).thenReturn(Flux.just(movieId));
-        when(movieRatingRepository.calculateAverageRatingByMovieId(movieId)).thenReturn(Mono.just(4.5));
-        when(movieRatingRepository.countActiveByMovieId(movieId)).thenReturn(Mono.just(20L));
+        when(movieRatingRepository.findTopRatedMovies(limit, minRatingCount))
+                .thenReturn(Flux.just(new MovieRatingRepository.RankedMovie(movieId, "Test Movie", 4.5, 20L, 4.2)));
 
         // When
         Flux<TopRatedMovie> result = service.getTopRatedMovies(limit, minRatingCount);
@@ -573,14 +583,16 @@ class ManageMovieRatingServiceTest {
         StepVerifier.create(result)
                 .expectNextMatches(topRated -> 
                     topRated.movieId().equals(movieId) &&
+                    topRated.title().equals("Test Movie") &&
                     topRated.averageRating() == 4.5 &&
-                    topRated.totalRatings() == 20L
+                    topRated.totalRatings() == 20L &&
+                    topRated.weightedRating() == 4.2
                 )
                 .verifyComplete();
 
         verify(movieRatingRepository).findTopRatedMovies(limit, minRatingCount);
-        verify(movieRatingRepository).calculateAverageRatingByMovieId(movieId);
-        verify(movieRatingRepository).countActiveByMovieId(movieId);
+        verify(movieRatingRepository, never()).calculateAverageRatingByMovieId(any());
+        verify(movieRatingRepository, never()).countActiveByMovieId(any());
     }
 
     @Test
@@ -675,6 +687,86 @@ class ManageMovieRatingServiceTest {
         verify(movieRatingRepository).findActiveByMovieIdWithPagination(movieId, offset, limit);
     }
 
+    @Test
+    @DisplayName("Should get ratings by movie after cursor")
+    void shouldGetRatingsByMovieAfterCursor() {
+        // Given
+        Instant createdAt = Instant.now();
+        UUID lastId = UUID.randomUUID();
+        when(movieRatingRepository.findActiveByMovieIdAfter(movieId, createdAt, lastId, 10))
+                .thenReturn(Flux.just(movieRating));
+
+        // When
+        Flux<MovieRating> result = service.getRatingsByMovieAfter(movieId, createdAt, lastId, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(movieRating)
+                .verifyComplete();
+
+        verify(movieRatingRepository, never()).findActiveByMovieIdWithPagination(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get first page of ratings by user without cursor")
+    void shouldGetFirstPageOfRatingsByUserWithoutCursor() {
+        // Given
+        when(movieRatingRepository.findActiveByUserIdWithPagination(userId, 0, 10))
+                .thenReturn(Flux.just(movieRating));
+
+        // When
+        Flux<MovieRating> result = service.getRatingsByUserAfter(userId, null, null, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(movieRating)
+                .verifyComplete();
+
+        verify(movieRatingRepository, never()).findActiveByUserIdAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get rating summaries by movie after cursor")
+    void shouldGetRatingSummariesByMovieAfterCursor() {
+        // Given
+        Instant createdAt = Instant.now();
+        UUID lastId = UUID.randomUUID();
+        MovieRatingRepository.RatingSummary summary =
+                new MovieRatingRepository.RatingSummary(UUID.randomUUID(), movieId, userId, 7, createdAt.minusSeconds(1));
+        when(movieRatingRepository.findActiveSummariesByMovieIdAfter(movieId, createdAt, lastId, 10))
+                .thenReturn(Flux.just(summary));
+
+        // When
+        Flux<MovieRatingRepository.RatingSummary> result = service.getRatingSummariesByMovieAfter(movieId, createdAt, lastId, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(summary)
+                .verifyComplete();
+
+        verify(movieRatingRepository, never()).findActiveByMovieIdAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get first page of rating summaries by user without cursor")
+    void shouldGetFirstPageOfRatingSummariesByUserWithoutCursor() {
+        // Given
+        MovieRatingRepository.RatingSummary summary =
+                new MovieRatingRepository.RatingSummary(UUID.randomUUID(), movieId, userId, 7, Instant.now());
+        when(movieRatingRepository.findActiveSummariesByUserIdWithPagination(userId, 0, 10))
+                .thenReturn(Flux.just(summary));
+
+        // When
+        Flux<MovieRatingRepository.RatingSummary> result = service.getRatingSummariesByUserAfter(userId, null, null, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(summary)
+                .verifyComplete();
+
+        verify(movieRatingRepository, never()).findActiveSummariesByUserIdAfter(any(), any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("Should get ratings by user with pagination")
     void shouldGetRatingsByUserWithPagination() {
@@ -701,7 +793,12 @@ class ManageMovieRatingServiceTest {
     void shouldGetAverageRatingForMovie() {
         // Given
         Double expectedAverage = 4.5;
-        when(movieRatingRepository.calculateAverageRatingByMovieId(movieId)).thenReturn(Mono.just(expectedAverage));
+        MovieRatingAggregate aggregate = MovieRatingAggregate.builder()
+                .movieId(movieId)
+                .ratingCount(2L)
+                .ratingSum(9L)
+                .build();
+        when(movieRatingRepository.findAggregateByMovieId(movieId)).thenReturn(Mono.just(aggregate));
 
         // When
         Mono<Double> result = service.getAverageRating(movieId);
@@ -711,14 +808,30 @@ class ManageMovieRatingServiceTest {
                 .expectNext(expectedAverage)
                 .verifyComplete();
 
-        verify(movieRatingRepository).calculateAverageRatingByMovieId(movieId);
+        verify(movieRatingRepository).findAggregateByMovieId(movieId);
+    }
+
+    @Test
+    @DisplayName("Should return empty average rating for movie without active ratings")
+    void shouldReturnEmptyAverageRatingForMovieWithoutActiveRatings() {
+        // Given
+        when(movieRatingRepository.findAggregateByMovieId(movieId))
+                .thenReturn(Mono.just(MovieRatingAggregate.empty(movieId)));
+
+        // When
+        Mono<Double> result = service.getAverageRating(movieId);
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
     }
 
     @Test
     @DisplayName("Should handle errors in create rating")
     void shouldHandleErrorsInCreateRating() {
         // Given
-        when(movieRepository.existsById(movieId)).thenReturn(Mono.error(new RuntimeException("Database error")));
+        when(movieRatingRepository.insertIfNoActiveRating(any(MovieRating.class)))
+                .thenReturn(Mono.error(new RuntimeException("Database error")));
 
         // When
         Mono<MovieRating> result = service.createRating(createCommand);
@@ -728,7 +841,7 @@ class ManageMovieRatingServiceTest {
                 .expectError(RuntimeException.class)
                 .verify();
 
-        verify(movieRepository).existsById(movieId);
+        verify(movieRatingRepository).insertIfNoActiveRating(any(MovieRating.class));
     }
 
     @Test
@@ -231,8 +231,7 @@ class ManageMovieServiceTest {
     @DisplayName("Should successfully deactivate movie when user is authorized")
     void shouldDeactivateMovieWhenUserIsAuthorized() {
         // Given
-        when(movieRepository.findById(movieId)).thenReturn(Mono.just(testMovie));
-        when(movieRepository.deleteById(movieId)).thenReturn(Mono.empty());
+        when(movieRepository.deactivateByIdAndCreatedBy(movieId, userId)).thenReturn(Mono.just(true));
 
         // When
         Mono<Void> result = movieService.deactivateMovie(deactivateCommand);
@@ -241,8 +240,8 @@ class ManageMovieServiceTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(movieRepository).findById(movieId);
-        verify(movieRepository).deleteById(movieId);
+        verify(movieRepository).deactivateByIdAndCreatedBy(movieId, userId);
+        verify(movieRepository, never()).findById(any());
     }
 
     @Test
@@ -250,6 +249,7 @@ class ManageMovieServiceTest {
     void shouldThrowUnauthorizedExceptionWhenUserNotAuthorizedToDeactivate() {
         // Given
         DeactivateMovieCommand unauthorizedCommand = new DeactivateMovieCommand(movieId, otherUserId);
+        when(movieRepository.deactivateByIdAndCreatedBy(movieId, otherUserId)).thenReturn(Mono.just(false));
         when(movieRepository.findById(movieId)).thenReturn(Mono.just(testMovie));
 
         // When
@@ -264,6 +264,37 @@ class ManageMovieServiceTest {
         verify(movieRepository, never()).deleteById(movieId);
     }
 
+    @Test
+    @DisplayName("Should throw MovieNotFoundException when deactivating non-existent movie")
+    void shouldThrowMovieNotFoundExceptionWhenDeactivatingNonExistentMovie() {
+        // Given
+        when(movieRepository.deactivateByIdAndCreatedBy(movieId, userId)).thenReturn(Mono.just(false));
+        when(movieRepository.findById(movieId)).thenReturn(Mono.empty());
+
+        // When
+        Mono<Void> result = movieService.deactivateMovie(deactivateCommand);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(MovieNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should complete when deactivating an already inactive movie")
+    void shouldCompleteWhenDeactivatingAlreadyInactiveMovie() {
+        // Given
+        when(movieRepository.deactivateByIdAndCreatedBy(movieId, userId)).thenReturn(Mono.just(false));
+        when(movieRepository.findById(movieId)).thenReturn(Mono.just(testMovie));
+
+        // When
+        Mono<Void> result = movieService.deactivateMovie(deactivateCommand);
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should successfully reactivate inactive movie")
     void shouldReactivateInactiveMovie() {
@@ -430,6 +461,24 @@ class ManageMovieServiceTest {
         verify(movieRepository).findByPlotContainingIgnoreCase(keyword);
     }
 
+    @Test
+    @DisplayName("Should search movies by text without cursor")
+    void shouldSearchMoviesByTextWithoutCursor() {
+        // Given
+        MovieRepository.MovieSearchHit hit = new MovieRepository.MovieSearchHit(testMovie, 1.2);
+        when(movieRepository.searchByText("shawshank", 10)).thenReturn(Flux.just(hit));
+
+        // When
+        Flux<MovieRepository.MovieSearchHit> result = movieService.searchMoviesByText("shawshank", null, null, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(hit)
+                .verifyComplete();
+
+        verify(movieRepository, never()).searchByTextAfter(anyString(), anyDouble(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("Should search movies with criteria")
     void shouldSearchMoviesWithCriteria() {
@@ -562,6 +611,62 @@ class ManageMovieServiceTest {
         verify(movieRepository).findAllActiveWithPagination(offset, limit);
     }
 
+    @Test
+    @DisplayName("Should get first page of active movies without cursor")
+    void shouldGetFirstPageOfActiveMoviesWithoutCursor() {
+        // Given
+        when(movieRepository.findAllActiveWithPagination(0, 10)).thenReturn(Flux.just(testMovie));
+
+        // When
+        Flux<Movie> result = movieService.getActiveMoviesAfter(null, null, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(testMovie)
+                .verifyComplete();
+
+        verify(movieRepository, never()).findAllActiveAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get active movies after cursor")
+    void shouldGetActiveMoviesAfterCursor() {
+        // Given
+        Instant createdAt = Instant.now();
+        UUID id = UUID.randomUUID();
+        when(movieRepository.findAllActiveAfter(createdAt, id, 10)).thenReturn(Flux.just(testMovie));
+
+        // When
+        Flux<Movie> result = movieService.getActiveMoviesAfter(createdAt, id, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(testMovie)
+                .verifyComplete();
+
+        verify(movieRepository, never()).findAllActiveWithPagination(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get first page of movie summaries without cursor")
+    void shouldGetFirstPageOfMovieSummariesWithoutCursor() {
+        // Given
+        MovieRepository.MovieSummary summary = new MovieRepository.MovieSummary(
+                movieId, "Test Movie", 2020, Instant.now(), 7.0, 1L);
+        when(movieRepository.findActiveSummariesWithPagination(0, 10)).thenReturn(Flux.just(summary));
+
+        // When
+        Flux<MovieRepository.MovieSummary> result = movieService.getActiveMovieSummariesAfter(null, null, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(summary)
+                .verifyComplete();
+
+        verify(movieRepository, never()).findActiveSummariesAfter(any(), any(), anyInt());
+        verify(movieRepository, never()).findAllActiveWithPagination(anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("Should get active movie count")
     void shouldGetActiveMovieCount() {
@@ -583,8 +688,7 @@ class ManageMovieServiceTest {
     @DisplayName("Should delete movie when user is authorized")
     void shouldDeleteMovieWhenUserIsAuthorized() {
         // Given
-        when(movieRepository.findById(movieId)).thenReturn(Mono.just(testMovie));
-        when(movieRepository.deleteById(movieId)).thenReturn(Mono.empty());
+        when(movieRepository.deactivateByIdAndCreatedBy(movieId, userId)).thenReturn(Mono.just(true));
 
         // When
         Mono<Void> result = movieService.deleteMovie(movieId, userId);
@@ -593,14 +697,15 @@ class ManageMovieServiceTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(movieRepository).findById(movieId);
-        verify(movieRepository).deleteById(movieId);
+        verify(movieRepository).deactivateByIdAndCreatedBy(movieId, userId);
+        verify(movieRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw UnauthorizedMovieOperationException when user is not authorized to delete")
     void shouldThrowUnauthorizedExceptionWhenUserNotAuthorizedToDelete() {
         // Given
+        when(movieRepository.deactivateByIdAndCreatedBy(movieId, otherUserId)).thenReturn(Mono.just(false));
         when(movieRepository.findById(movieId)).thenReturn(Mono.just(testMovie));
 
         // When
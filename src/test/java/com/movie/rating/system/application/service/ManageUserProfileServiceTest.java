@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
@@ -42,7 +43,7 @@ class ManageUserProfileServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ManageUserProfileService(userRepository, passwordHashingService);
+        service = new ManageUserProfileService(userRepository, passwordHashingService, Schedulers.immediate());
     }
 
     @Nested
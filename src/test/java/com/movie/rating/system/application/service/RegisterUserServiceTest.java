@@ -5,6 +5,7 @@ import com.movie.rating.system.domain.exception.EmailAlreadyExistsException;
 import com.movie.rating.system.domain.exception.UsernameAlreadyExistsException;
 import com.movie.rating.system.domain.port.inbound.RegisterUserUseCase.RegisterUserCommand;
 import com.movie.rating.system.domain.port.outbound.PasswordHashingService;
+import com.movie.rating.system.domain.port.outbound.UserAvailabilityIndex;
 import com.movie.rating.system.domain.port.outbound.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
@@ -40,11 +42,18 @@ class RegisterUserServiceTest {
     @Mock
     private PasswordHashingService passwordHashingService;
 
+    @Mock
+    private UserAvailabilityIndex availabilityIndex;
+
     private RegisterUserService registerUserService;
 
     @BeforeEach
     void setUp() {
-        registerUserService = new RegisterUserService(userRepository, passwordHashingService);
+        registerUserService = new RegisterUserService(userRepository, passwordHashingService, Schedulers.immediate(),
+                availabilityIndex);
+        // By default every name may be taken, so availability is confirmed by the repository
+        lenient().when(availabilityIndex.mightContainUsername(anyString())).thenReturn(true);
+        lenient().when(availabilityIndex.mightContainEmail(anyString())).thenReturn(true);
     }
 
     @Test
@@ -62,8 +71,6 @@ class RegisterUserServiceTest {
         User expectedUser = createTestUser("testuser", "test@example.com", "John", "Doe");
         String hashedPassword = "$2a$12$hashedpassword";
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
         when(passwordHashingService.hashPassword("password123")).thenReturn(hashedPassword);
         when(userRepository.save(any(User.class))).thenReturn(Mono.just(expectedUser));
 
@@ -79,8 +86,6 @@ class RegisterUserServiceTest {
                 })
                 .verifyComplete();
 
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).existsByEmail("test@example.com");
         verify(passwordHashingService).hashPassword("password123");
         verify(userRepository).save(any(User.class));
     }
@@ -100,8 +105,6 @@ class RegisterUserServiceTest {
         User expectedUser = createTestUser("testuser", "test@example.com", "John", "Doe");
         String hashedPassword = "$2a$12$hashedpassword";
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
         when(passwordHashingService.hashPassword("password123")).thenReturn(hashedPassword);
         when(userRepository.save(any(User.class))).thenReturn(Mono.just(expectedUser));
 
@@ -112,7 +115,7 @@ class RegisterUserServiceTest {
                 })
                 .verifyComplete();
 
-        verify(userRepository).existsByEmail("test@example.com");
+        verify(userRepository).save(argThat(user -> user.getEmail().equals("test@example.com")));
     }
 
     @Test
@@ -130,8 +133,6 @@ class RegisterUserServiceTest {
         User expectedUser = createTestUser("testuser", "test@example.com", "John", "Doe");
         String hashedPassword = "$2a$12$hashedpassword";
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
         when(passwordHashingService.hashPassword("password123")).thenReturn(hashedPassword);
         when(userRepository.save(any(User.class))).thenReturn(Mono.just(expectedUser));
 
@@ -147,7 +148,7 @@ class RegisterUserServiceTest {
     }
 
     @Test
-    @DisplayName("Should throw UsernameAlreadyExistsException when username is taken")
+    @DisplayName("Should propagate UsernameAlreadyExistsException when the insert hits the username constraint")
     void shouldThrowUsernameAlreadyExistsException() {
         // Given
         RegisterUserCommand command = new RegisterUserCommand(
@@ -158,21 +159,20 @@ class RegisterUserServiceTest {
                 "Doe"
         );
 
-        when(userRepository.existsByUsername("existinguser")).thenReturn(Mono.just(true));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
+        when(passwordHashingService.hashPassword("password123")).thenReturn("$2a$12$hashedpassword");
+        when(userRepository.save(any(User.class)))
+                .thenReturn(Mono.error(new UsernameAlreadyExistsException("existinguser")));
 
         // When & Then
         StepVerifier.create(registerUserService.registerUser(command))
                 .expectError(UsernameAlreadyExistsException.class)
                 .verify();
 
-        verify(userRepository).existsByUsername("existinguser");
-        verify(userRepository, never()).save(any(User.class));
-        verify(passwordHashingService, never()).hashPassword(anyString());
+        verify(userRepository, never()).existsByUsername(anyString());
     }
 
     @Test
-    @DisplayName("Should throw EmailAlreadyExistsException when email is taken")
+    @DisplayName("Should propagate EmailAlreadyExistsException when the insert hits the email constraint")
     void shouldThrowEmailAlreadyExistsException() {
         // Given
         RegisterUserCommand command = new RegisterUserCommand(
@@ -183,18 +183,16 @@ class RegisterUserServiceTest {
                 "Doe"
         );
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("existing@example.com")).thenReturn(Mono.just(true));
+        when(passwordHashingService.hashPassword("password123")).thenReturn("$2a$12$hashedpassword");
+        when(userRepository.save(any(User.class)))
+                .thenReturn(Mono.error(new EmailAlreadyExistsException("existing@example.com")));
 
         // When & Then
         StepVerifier.create(registerUserService.registerUser(command))
                 .expectError(EmailAlreadyExistsException.class)
                 .verify();
 
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).existsByEmail("existing@example.com");
-        verify(userRepository, never()).save(any(User.class));
-        verify(passwordHashingService, never()).hashPassword(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
     @Test
@@ -285,6 +283,25 @@ class RegisterUserServiceTest {
         verify(userRepository).existsByEmail("test@example.com");
     }
 
+    @Test
+    @DisplayName("Should report names unknown to the availability index as available without a query")
+    void shouldSkipQueryForNamesUnknownToAvailabilityIndex() {
+        // Given
+        when(availabilityIndex.mightContainUsername("newuser")).thenReturn(false);
+        when(availabilityIndex.mightContainEmail("new@example.com")).thenReturn(false);
+
+        // When & Then
+        StepVerifier.create(registerUserService.isUsernameAvailable(" newuser "))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(registerUserService.isEmailAvailable("New@Example.com"))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @ValueSource(strings = {"   ", "\t", "\n"})
@@ -298,30 +315,6 @@ class RegisterUserServiceTest {
         verify(userRepository, never()).existsByEmail(anyString());
     }
 
-    @Test
-    @DisplayName("Should handle repository errors gracefully during registration")
-    void shouldHandleRepositoryErrorsGracefullyDuringRegistration() {
-        // Given
-        RegisterUserCommand command = new RegisterUserCommand(
-                "testuser",
-                "test@example.com",
-                "password123",
-                "John",
-                "Doe"
-        );
-
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.error(new RuntimeException("Database error")));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
-
-        // When & Then
-        StepVerifier.create(registerUserService.registerUser(command))
-                .expectError(RuntimeException.class)
-                .verify();
-
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository, never()).save(any(User.class));
-    }
-
     @Test
     @DisplayName("Should handle password hashing errors gracefully")
     void shouldHandlePasswordHashingErrorsGracefully() {
@@ -334,8 +327,6 @@ class RegisterUserServiceTest {
                 "Doe"
         );
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
         when(passwordHashingService.hashPassword("password123")).thenThrow(new RuntimeException("Hashing error"));
 
         // When & Then
@@ -361,8 +352,6 @@ class RegisterUserServiceTest {
 
         String hashedPassword = "$2a$12$hashedpassword";
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
         when(passwordHashingService.hashPassword("password123")).thenReturn(hashedPassword);
         when(userRepository.save(any(User.class))).thenReturn(Mono.error(new RuntimeException("Save error")));
 
@@ -401,8 +390,8 @@ class RegisterUserServiceTest {
     }
 
     @Test
-    @DisplayName("Should perform concurrent validation checks for better performance")
-    void shouldPerformConcurrentValidationChecks() {
+    @DisplayName("Should register with a single insert and no existence queries")
+    void shouldRegisterWithSingleInsert() {
         // Given
         RegisterUserCommand command = new RegisterUserCommand(
                 "testuser",
@@ -415,8 +404,6 @@ class RegisterUserServiceTest {
         User expectedUser = createTestUser("testuser", "test@example.com", "John", "Doe");
         String hashedPassword = "$2a$12$hashedpassword";
 
-        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
         when(passwordHashingService.hashPassword("password123")).thenReturn(hashedPassword);
         when(userRepository.save(any(User.class))).thenReturn(Mono.just(expectedUser));
 
@@ -425,9 +412,10 @@ class RegisterUserServiceTest {
                 .expectNext(expectedUser)
                 .verifyComplete();
 
-        // Then - Verify both checks were called (concurrent execution)
-        verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).existsByEmail("test@example.com");
+        // Then
+        verify(userRepository).save(any(User.class));
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
     private User createTestUser(String username, String email, String firstName, String lastName) {
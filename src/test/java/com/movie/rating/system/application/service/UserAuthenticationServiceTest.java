@@ -18,11 +18,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -53,7 +55,7 @@ class UserAuthenticationServiceTest {
 
     @BeforeEach
     void setUp() {
-        userAuthenticationService = new UserAuthenticationService(userRepository, passwordHashingService);
+        userAuthenticationService = new UserAuthenticationService(userRepository, passwordHashingService, Schedulers.immediate());
     }
 
     @Nested
@@ -352,6 +354,23 @@ class UserAuthenticationServiceTest {
                     .expectNext(false)
                     .verifyComplete();
         }
+
+        @Test
+        @DisplayName("Should propagate rejection when the password hashing pool is saturated")
+        void shouldPropagateRejectionWhenPasswordHashingPoolIsSaturated() {
+            // Given
+            User activeUser = createActiveUser();
+            AuthenticationCommand command = new AuthenticationCommand(testUsername, testPassword);
+
+            when(userRepository.findByUsername(testUsername)).thenReturn(Mono.just(activeUser));
+            when(passwordHashingService.verifyPassword(testPassword, testPasswordHash))
+                    .thenThrow(new RejectedExecutionException("Password hashing queue is full"));
+
+            // When & Then
+            StepVerifier.create(userAuthenticationService.validateCredentials(command))
+                    .expectError(RejectedExecutionException.class)
+                    .verify();
+        }
     }
 
     @Nested
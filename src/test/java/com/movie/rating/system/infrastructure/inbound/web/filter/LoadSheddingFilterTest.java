@@ -0,0 +1,95 @@
+package com.movie.rating.system.infrastructure.inbound.web.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.PoolMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LoadSheddingFilter.
+ */
+@DisplayName("Load Shedding Filter Tests")
+class LoadSheddingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should shed requests beyond the in-flight limit until one completes")
+    void shouldShedRequestsBeyondInFlightLimit() {
+        // Given
+        LoadSheddingFilter filter = new LoadSheddingFilter(Optional::empty, meterRegistry, true, 1, 10);
+        Sinks.Empty<Void> pending = Sinks.empty();
+        MockServerWebExchange first = exchange("/api/v1/movies");
+        MockServerWebExchange second = exchange("/api/v1/movies");
+        MockServerWebExchange third = exchange("/api/v1/movies");
+
+        // When & Then
+        StepVerifier.create(filter.filter(first, exchange -> pending.asMono()))
+                .then(() -> {
+                    StepVerifier.create(filter.filter(second, exchange -> Mono.empty())).verifyComplete();
+                    assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    pending.tryEmitEmpty();
+                })
+                .verifyComplete();
+
+        StepVerifier.create(filter.filter(third, exchange -> Mono.empty())).verifyComplete();
+        assertThat(third.getResponse().getStatusCode()).isNull();
+        assertThat(meterRegistry.get("http.server.requests.shed").tag("reason", "in_flight").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.server.requests.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shed requests while too many wait for a database connection")
+    void shouldShedRequestsWhileTooManyWaitForConnection() {
+        // Given
+        PoolMetrics poolMetrics = mock(PoolMetrics.class);
+        when(poolMetrics.pendingAcquireSize()).thenReturn(5);
+        LoadSheddingFilter filter = new LoadSheddingFilter(() -> Optional.of(poolMetrics), meterRegistry, true, 100, 2);
+        MockServerWebExchange exchange = exchange("/api/v1/movies");
+
+        // When
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.empty())).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("http.server.requests.shed").tag("reason", "pool_pending").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should never shed requests outside the API")
+    void shouldNeverShedRequestsOutsideApi() {
+        // Given
+        LoadSheddingFilter filter = new LoadSheddingFilter(Optional::empty, meterRegistry, true, 0, 0);
+        MockServerWebExchange exchange = exchange("/actuator/health");
+
+        // When
+        StepVerifier.create(filter.filter(exchange, ignored -> Mono.empty())).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+}
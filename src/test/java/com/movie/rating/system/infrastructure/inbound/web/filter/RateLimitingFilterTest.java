@@ -0,0 +1,148 @@
+package com.movie.rating.system.infrastructure.inbound.web.filter;
+
+import com.movie.rating.system.domain.exception.InvalidTokenException;
+import com.movie.rating.system.domain.port.outbound.JwtTokenService;
+import com.movie.rating.system.domain.port.outbound.JwtTokenService.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RateLimitingFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Rate Limiting Filter Tests")
+class RateLimitingFilterTest {
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger passed;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passed = new AtomicInteger();
+        chain = exchange -> {
+            passed.incrementAndGet();
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("Should limit public endpoints per client IP")
+    void shouldLimitPublicEndpointsPerClientIp() {
+        // Given
+        RateLimitingFilter filter = filter(true, 2);
+
+        // When
+        MockServerWebExchange first = login("10.0.0.1");
+        MockServerWebExchange second = login("10.0.0.1");
+        MockServerWebExchange third = login("10.0.0.1");
+        MockServerWebExchange otherClient = login("10.0.0.2");
+        run(filter, first, second, third, otherClient);
+
+        // Then
+        assertThat(passed.get()).isEqualTo(3);
+        assertThat(third.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1000");
+        assertThat(meterRegistry.get("http.server.requests.rate.limited").tag("policy", "auth").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should limit authenticated endpoints per user across addresses")
+    void shouldLimitAuthenticatedEndpointsPerUser() {
+        // Given
+        RateLimitingFilter filter = filter(true, 1);
+        when(jwtTokenService.validateToken("token")).thenReturn(Mono.just(new TokenClaims(
+                UUID.randomUUID(), "user", "user@example.com", Instant.now(), Instant.now().plusSeconds(60), Map.of())));
+
+        // When
+        MockServerWebExchange first = movies("10.0.0.1", "token");
+        MockServerWebExchange second = movies("10.0.0.2", "token");
+        run(filter, first, second);
+
+        // Then
+        assertThat(passed.get()).isEqualTo(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the client IP for invalid tokens")
+    void shouldFallBackToClientIpForInvalidTokens() {
+        // Given
+        RateLimitingFilter filter = filter(true, 1);
+        when(jwtTokenService.validateToken("forged")).thenReturn(Mono.error(new InvalidTokenException("Invalid token")));
+
+        // When
+        MockServerWebExchange first = movies("10.0.0.1", "forged");
+        MockServerWebExchange second = movies("10.0.0.1", "forged");
+        MockServerWebExchange otherClient = movies("10.0.0.2", "forged");
+        run(filter, first, second, otherClient);
+
+        // Then
+        assertThat(passed.get()).isEqualTo(2);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Should pass every request when disabled")
+    void shouldPassEveryRequestWhenDisabled() {
+        // Given
+        RateLimitingFilter filter = filter(false, 1);
+
+        // When
+        run(filter, login("10.0.0.1"), login("10.0.0.1"), login("10.0.0.1"));
+
+        // Then
+        assertThat(passed.get()).isEqualTo(3);
+    }
+
+    private RateLimitingFilter filter(boolean enabled, long capacity) {
+        // The clock never advances, so buckets do not refill during a test
+        RateLimitingFilter.Policy policy = new RateLimitingFilter.Policy(capacity, 0.001);
+        return new RateLimitingFilter(jwtTokenService, meterRegistry, enabled, 1_000, Duration.ofMinutes(10),
+                Map.of("auth", policy, "search", policy, "default", policy), () -> 0L);
+    }
+
+    private void run(RateLimitingFilter filter, MockServerWebExchange... exchanges) {
+        for (MockServerWebExchange exchange : exchanges) {
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        }
+    }
+
+    private static MockServerWebExchange login(String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/auth/login")
+                .remoteAddress(new InetSocketAddress(address, 40000)));
+    }
+
+    private static MockServerWebExchange movies(String address, String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/movies")
+                .remoteAddress(new InetSocketAddress(address, 40000))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
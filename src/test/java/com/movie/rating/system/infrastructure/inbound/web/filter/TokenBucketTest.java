@@ -0,0 +1,63 @@
+package com.movie.rating.system.infrastructure.inbound.web.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucket.
+ */
+@DisplayName("Token Bucket Tests")
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Should allow a burst up to the capacity")
+    void shouldAllowBurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1.0, now::get);
+
+        // When & Then
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isCloseTo(Duration.ofSeconds(1), Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate")
+    void shouldRefillAtConfiguredRate() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 2.0, now::get);
+        bucket.tryConsume();
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        // Then
+        assertThat(bucket.tryConsume()).isCloseTo(Duration.ofMillis(250), Duration.ofMillis(1));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(260));
+        assertThat(bucket.tryConsume()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not refill beyond the capacity")
+    void shouldNotRefillBeyondCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1.0, now::get);
+
+        // When
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // Then
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+    }
+}
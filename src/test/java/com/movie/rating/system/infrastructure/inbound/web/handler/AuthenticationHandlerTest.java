@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
@@ -25,6 +26,7 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -175,6 +177,30 @@ class AuthenticationHandlerTest {
                     .jsonPath("$.error").isEqualTo("Account inactive")
                     .jsonPath("$.status").isEqualTo(403);
         }
+
+        @Test
+        @DisplayName("Should return 503 when password hashing capacity is exhausted")
+        void shouldReturn503WhenHashingCapacityExhausted() {
+            // Given
+            LoginRequestDto requestDto = new LoginRequestDto("testuser", "password123");
+
+            when(validator.validate(any(LoginRequestDto.class))).thenReturn(java.util.Set.of());
+            when(userAuthenticationUseCase.authenticate(any()))
+                    .thenReturn(Mono.error(new RejectedExecutionException("Password hashing queue is full")));
+
+            // When & Then
+            webTestClient.post()
+                    .uri("/api/v1/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestDto)
+                    .exchange()
+                    .expectStatus().isEqualTo(503)
+                    .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1")
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("Service unavailable")
+                    .jsonPath("$.status").isEqualTo(503);
+        }
     }
 
     @Nested
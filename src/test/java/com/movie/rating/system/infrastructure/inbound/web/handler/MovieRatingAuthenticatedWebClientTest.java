@@ -260,6 +260,7 @@ class MovieRatingAuthenticatedWebClientTest {
         ServerRequest mockRequest = mock(ServerRequest.class);
         when(mockRequest.queryParam("page")).thenReturn(Optional.empty());
         when(mockRequest.queryParam("size")).thenReturn(Optional.empty());
+        when(mockRequest.headers()).thenReturn(mock(ServerRequest.Headers.class));
 
         try (MockedStatic<AuthenticationUtils> authUtils = mockStatic(AuthenticationUtils.class)) {
             authUtils.when(() -> AuthenticationUtils.getAuthenticatedUserId(eq(mockRequest)))
@@ -4,11 +4,14 @@ import com.movie.rating.system.application.service.ManageMovieRatingService;
 import com.movie.rating.system.domain.entity.MovieRating;
 import com.movie.rating.system.domain.exception.MovieRatingNotFoundException;
 import com.movie.rating.system.domain.port.inbound.ManageMovieRatingUseCase;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository.RatingSummary;
 import com.movie.rating.system.infrastructure.inbound.web.dto.mapper.MovieDtoMapper;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRatingRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.UpdateMovieRatingRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieRatingSummaryResponse;
 import com.movie.rating.system.infrastructure.inbound.web.router.MovieRatingRouter;
+import com.movie.rating.system.infrastructure.inbound.web.util.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.util.List;
@@ -218,6 +222,31 @@ class MovieRatingWebClientTest {
         verify(ratingService).getRatingsByMovie(eq(testMovieId), eq(0), eq(20));
     }
 
+    @Test
+    @DisplayName("Should get ratings by movie after cursor")
+    void shouldGetRatingsByMovieAfterCursor() {
+        // Given
+        MovieRating rating = createTestMovieRating();
+        PageCursor cursor = new PageCursor(Instant.parse("2023-12-01T10:30:00Z"), UUID.randomUUID());
+        String expectedCursor = new PageCursor(rating.getCreatedAt(), rating.getId()).encode();
+
+        when(ratingService.getRatingsByMovieAfter(eq(testMovieId), eq(cursor.createdAt()), eq(cursor.id()), eq(1)))
+                .thenReturn(Flux.just(rating));
+        when(dtoMapper.toResponse(any(MovieRating.class))).thenReturn(createTestMovieRatingResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/{movieId}/ratings?after={after}&size=1", testMovieId, cursor.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.nextCursor").isEqualTo(expectedCursor);
+
+        verify(ratingService, never()).getRatingsByMovie(any(UUID.class), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid pagination in movie ratings")
     void shouldReturn400ForInvalidPaginationInMovieRatings() {
@@ -232,6 +261,67 @@ class MovieRatingWebClientTest {
         verifyNoInteractions(ratingService);
     }
 
+    @Test
+    @DisplayName("Should get rating summaries by movie without reviews")
+    void shouldGetRatingSummariesByMovie() {
+        // Given
+        when(ratingService.getRatingSummariesByMovie(eq(testMovieId), eq(0), eq(20)))
+                .thenReturn(Flux.just(createTestRatingSummary(), createTestRatingSummary()));
+        when(dtoMapper.toSummaryResponse(any(RatingSummary.class))).thenReturn(createTestRatingSummaryResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/{movieId}/ratings?view=summary", testMovieId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].rating").isEqualTo(5)
+                .jsonPath("$[0].review").doesNotExist();
+
+        verify(ratingService, never()).getRatingsByMovie(any(UUID.class), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get rating summaries by movie after cursor")
+    void shouldGetRatingSummariesByMovieAfterCursor() {
+        // Given
+        RatingSummary summary = createTestRatingSummary();
+        PageCursor cursor = new PageCursor(Instant.parse("2023-12-01T10:30:00Z"), UUID.randomUUID());
+        String expectedCursor = new PageCursor(summary.createdAt(), summary.id()).encode();
+
+        when(ratingService.getRatingSummariesByMovieAfter(eq(testMovieId), eq(cursor.createdAt()), eq(cursor.id()), eq(1)))
+                .thenReturn(Flux.just(summary));
+        when(dtoMapper.toSummaryResponse(any(RatingSummary.class))).thenReturn(createTestRatingSummaryResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/{movieId}/ratings?after={after}&size=1&view=summary", testMovieId, cursor.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].review").doesNotExist()
+                .jsonPath("$.nextCursor").isEqualTo(expectedCursor);
+
+        verify(ratingService, never()).getRatingsByMovieAfter(any(UUID.class), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown view in movie ratings")
+    void shouldReturn400ForUnknownViewInMovieRatings() {
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/{movieId}/ratings?view=compact", testMovieId)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class)
+                .isEqualTo("Invalid view parameter (must be full or summary)");
+
+        verifyNoInteractions(ratingService);
+    }
+
     @Test
     @DisplayName("Should return 401 when getting my ratings without authentication")
     void shouldReturn401WhenGettingMyRatingsWithoutAuth() {
@@ -353,6 +443,31 @@ class MovieRatingWebClientTest {
         verify(dtoMapper, times(2)).toResponse(any(MovieRating.class));
     }
 
+    @Test
+    @DisplayName("Should stream recent ratings as NDJSON when requested")
+    void shouldStreamRecentRatingsAsNdjson() {
+        // Given
+        when(ratingService.getRecentRatings(eq(10))).thenReturn(Flux.just(createTestMovieRating(), createTestMovieRating()));
+        when(dtoMapper.toResponse(any(MovieRating.class))).thenReturn(createTestMovieRatingResponse());
+
+        // When
+        Flux<MovieRatingResponse> body = webTestClient.get()
+                .uri("/api/v1/ratings/recent?limit=10")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(MovieRatingResponse.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(dtoMapper, times(2)).toResponse(any(MovieRating.class));
+    }
+
     @Test
     @DisplayName("Should get recent ratings with default limit")
     void shouldGetRecentRatingsWithDefaultLimit() {
@@ -389,6 +504,24 @@ class MovieRatingWebClientTest {
         verifyNoInteractions(ratingService);
     }
 
+    @Test
+    @DisplayName("Should get recent rating summaries when summary fields are requested")
+    void shouldGetRecentRatingSummaries() {
+        // Given
+        when(ratingService.getRecentRatingSummaries(eq(10))).thenReturn(Flux.just(createTestRatingSummary()));
+        when(dtoMapper.toSummaryResponse(any(RatingSummary.class))).thenReturn(createTestRatingSummaryResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/ratings/recent?fields=summary")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(MovieRatingSummaryResponse.class)
+                .hasSize(1);
+
+        verify(ratingService, never()).getRecentRatings(anyInt());
+    }
+
     @Test
     @DisplayName("Should handle rating not found gracefully")
     void shouldHandleRatingNotFoundGracefully() {
@@ -436,6 +569,14 @@ class MovieRatingWebClientTest {
                 .build();
     }
 
+    private RatingSummary createTestRatingSummary() {
+        return new RatingSummary(testRatingId, testMovieId, testUserId, 5, Instant.now());
+    }
+
+    private MovieRatingSummaryResponse createTestRatingSummaryResponse() {
+        return new MovieRatingSummaryResponse(testRatingId, testMovieId, testUserId, 5, Instant.now());
+    }
+
     private MovieRatingResponse createTestMovieRatingResponse() {
         return new MovieRatingResponse(
                 testRatingId,
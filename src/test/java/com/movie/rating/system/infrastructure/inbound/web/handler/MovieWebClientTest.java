@@ -5,11 +5,16 @@ import com.movie.rating.system.domain.entity.Movie;
 import com.movie.rating.system.domain.exception.MovieNotFoundException;
 import com.movie.rating.system.domain.exception.UnauthorizedMovieOperationException;
 import com.movie.rating.system.domain.port.inbound.ManageMovieUseCase;
+import com.movie.rating.system.domain.port.outbound.MovieRepository;
+import com.movie.rating.system.domain.port.outbound.MovieRepository.MovieSummary;
 import com.movie.rating.system.infrastructure.inbound.web.dto.mapper.MovieDtoMapper;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.request.UpdateMovieRequest;
 import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieResponse;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.MovieSummaryResponse;
 import com.movie.rating.system.infrastructure.inbound.web.router.MovieRouter;
+import com.movie.rating.system.infrastructure.inbound.web.util.PageCursor;
+import com.movie.rating.system.infrastructure.inbound.web.util.SearchCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,7 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.util.List;
@@ -124,6 +130,129 @@ class MovieWebClientTest {
         verifyNoInteractions(movieService);
     }
 
+    @Test
+    @DisplayName("Should get movie summaries without plot")
+    void shouldGetMovieSummariesWithoutPlot() {
+        // Given
+        when(movieService.getActiveMovieSummaries(eq(0), eq(20))).thenReturn(Flux.just(createTestMovieSummary()));
+        when(dtoMapper.toSummaryResponse(any(MovieSummary.class))).thenReturn(createTestMovieSummaryResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies?view=summary")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Movie")
+                .jsonPath("$[0].ratingCount").isEqualTo(3)
+                .jsonPath("$[0].plot").doesNotExist();
+
+        verify(movieService, never()).getAllActiveMovies(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get movie summaries after cursor")
+    void shouldGetMovieSummariesAfterCursor() {
+        // Given
+        MovieSummary summary = createTestMovieSummary();
+        PageCursor cursor = new PageCursor(Instant.parse("2023-12-01T10:30:00Z"), UUID.randomUUID());
+        String expectedCursor = new PageCursor(summary.createdAt(), summary.id()).encode();
+
+        when(movieService.getActiveMovieSummariesAfter(eq(cursor.createdAt()), eq(cursor.id()), eq(1)))
+                .thenReturn(Flux.just(summary));
+        when(dtoMapper.toSummaryResponse(any(MovieSummary.class))).thenReturn(createTestMovieSummaryResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies?after={after}&size=1&view=summary", cursor.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].plot").doesNotExist()
+                .jsonPath("$.nextCursor").isEqualTo(expectedCursor);
+
+        verify(movieService, never()).getActiveMoviesAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown view")
+    void shouldReturn400ForUnknownView() {
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies?view=everything")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class)
+                .isEqualTo("Invalid view parameter (must be full or summary)");
+
+        verifyNoInteractions(movieService);
+    }
+
+    @Test
+    @DisplayName("Should get first movies page with next cursor when cursor is empty")
+    void shouldGetFirstMoviesPageWithNextCursor() {
+        // Given
+        Movie movie = createTestMovie();
+        MovieResponse response = createTestMovieResponse();
+        String expectedCursor = new PageCursor(movie.getCreatedAt(), movie.getId()).encode();
+
+        when(movieService.getActiveMoviesAfter(isNull(), isNull(), eq(2)))
+                .thenReturn(Flux.just(movie, movie));
+        when(dtoMapper.toResponse(any(Movie.class))).thenReturn(response);
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies?after=&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.nextCursor").isEqualTo(expectedCursor);
+
+        verify(movieService, never()).getAllActiveMovies(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should continue after cursor and omit next cursor on last page")
+    void shouldContinueAfterCursorAndOmitNextCursorOnLastPage() {
+        // Given
+        PageCursor cursor = new PageCursor(Instant.parse("2023-12-01T10:30:00.123456Z"), UUID.randomUUID());
+        Movie movie = createTestMovie();
+
+        when(movieService.getActiveMoviesAfter(eq(cursor.createdAt()), eq(cursor.id()), eq(2)))
+                .thenReturn(Flux.just(movie));
+        when(dtoMapper.toResponse(any(Movie.class))).thenReturn(createTestMovieResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies?after={after}&size=2", cursor.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.nextCursor").doesNotExist();
+
+        verify(movieService).getActiveMoviesAfter(cursor.createdAt(), cursor.id(), 2);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid cursor")
+    void shouldReturn400ForInvalidCursor() {
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies?after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class)
+                .isEqualTo("Invalid cursor");
+
+        verifyNoInteractions(movieService);
+    }
+
     @Test
     @DisplayName("Should get movie by ID successfully")
     void shouldGetMovieByIdSuccessfully() {
@@ -189,6 +318,76 @@ class MovieWebClientTest {
         verify(movieService).searchMoviesByTitle(eq(title));
     }
 
+    @Test
+    @DisplayName("Should stream title search results as NDJSON when requested")
+    void shouldStreamTitleSearchResultsAsNdjson() {
+        // Given
+        String title = "Test";
+        MovieResponse response = createTestMovieResponse();
+
+        when(movieService.searchMoviesByTitle(eq(title))).thenReturn(Flux.just(createTestMovie(), createTestMovie()));
+        when(dtoMapper.toResponse(any(Movie.class))).thenReturn(response);
+
+        // When
+        Flux<MovieResponse> body = webTestClient.get()
+                .uri("/api/v1/movies/search?title={title}", title)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(MovieResponse.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .expectNextMatches(movie -> movie.id().equals(testMovieId))
+                .expectNextMatches(movie -> movie.id().equals(testMovieId))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream movies by year as server-sent events when requested")
+    void shouldStreamMoviesByYearAsServerSentEvents() {
+        // Given
+        Integer year = 2023;
+
+        when(movieService.getMoviesByYear(eq(year))).thenReturn(Flux.just(createTestMovie()));
+        when(dtoMapper.toResponse(any(Movie.class))).thenReturn(createTestMovieResponse());
+
+        // When
+        Flux<MovieResponse> body = webTestClient.get()
+                .uri("/api/v1/movies/year/{year}", year)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(MovieResponse.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .expectNextMatches(movie -> movie.yearOfRelease().equals(year))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep JSON array when JSON is accepted before a streaming type")
+    void shouldKeepJsonArrayWhenJsonIsPreferred() {
+        // Given
+        when(movieService.searchMoviesByTitle(eq("Test"))).thenReturn(Flux.just(createTestMovie()));
+        when(dtoMapper.toResponse(any(Movie.class))).thenReturn(createTestMovieResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/search?title=Test")
+                .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(MovieResponse.class)
+                .hasSize(1);
+    }
+
     @Test
     @DisplayName("Should return 400 when searching with empty title")
     void shouldReturn400WhenSearchingWithEmptyTitle() {
@@ -301,6 +500,65 @@ class MovieWebClientTest {
         verify(movieService).searchMoviesByPlot(eq(plot));
     }
 
+    @Test
+    @DisplayName("Should search movies by text with relevance and next cursor")
+    void shouldSearchMoviesByTextWithRelevanceAndNextCursor() {
+        // Given
+        Movie movie = createTestMovie();
+        MovieRepository.MovieSearchHit hit = new MovieRepository.MovieSearchHit(movie, 1.375);
+        String expectedCursor = new SearchCursor(1.375, movie.getId()).encode();
+
+        when(movieService.searchMoviesByText(eq("shawshank"), isNull(), isNull(), eq(1)))
+                .thenReturn(Flux.just(hit));
+        when(dtoMapper.toResponse(any(Movie.class))).thenReturn(createTestMovieResponse());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/search?q={q}&size=1", "shawshank")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].relevance").isEqualTo(1.375)
+                .jsonPath("$.items[0].movie.title").isEqualTo("Test Movie")
+                .jsonPath("$.nextCursor").isEqualTo(expectedCursor);
+
+        verify(movieService, never()).searchMoviesByTitle(anyString());
+    }
+
+    @Test
+    @DisplayName("Should continue text search after cursor")
+    void shouldContinueTextSearchAfterCursor() {
+        // Given
+        SearchCursor cursor = new SearchCursor(0.42, UUID.randomUUID());
+        when(movieService.searchMoviesByText(eq("godfather"), eq(0.42), eq(cursor.id()), eq(20)))
+                .thenReturn(Flux.empty());
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/search?q={q}&after={after}", "godfather", cursor.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(0)
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should return 400 for blank text search query")
+    void shouldReturn400ForBlankTextSearchQuery() {
+        // When & Then
+        webTestClient.get()
+                .uri("/api/v1/movies/search?q=")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class)
+                .isEqualTo("Query parameter is required");
+
+        verifyNoInteractions(movieService);
+    }
+
     @Test
     @DisplayName("Should get movie count successfully")
     void shouldGetMovieCountSuccessfully() {
@@ -418,6 +676,14 @@ class MovieWebClientTest {
                 .build();
     }
 
+    private MovieSummary createTestMovieSummary() {
+        return new MovieSummary(testMovieId, "Test Movie", 2023, Instant.now(), 7.5, 3);
+    }
+
+    private MovieSummaryResponse createTestMovieSummaryResponse() {
+        return new MovieSummaryResponse(testMovieId, "Test Movie", 2023, Instant.now(), 7.5, 3);
+    }
+
     private MovieResponse createTestMovieResponse() {
         return new MovieResponse(
                 testMovieId,
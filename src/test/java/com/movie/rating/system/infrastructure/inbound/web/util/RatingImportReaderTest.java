@@ -0,0 +1,120 @@
+package com.movie.rating.system.infrastructure.inbound.web.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.movie.rating.system.domain.port.inbound.ImportMovieRatingsUseCase.ImportRatingRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RatingImportReader.
+ */
+@DisplayName("RatingImportReader Tests")
+class RatingImportReaderTest {
+
+    private static final UUID MOVIE_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID USER_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should read NDJSON lines and report malformed ones by line number")
+    void shouldReadNdjson() {
+        // Given
+        Flux<String> lines = Flux.just(
+                "{\"movieId\":\"" + MOVIE_ID + "\",\"rating\":8,\"createdAt\":\"2015-06-01T18:30:00Z\"}",
+                "",
+                "{\"movieId\":");
+
+        // When & Then
+        StepVerifier.create(RatingImportReader.fromNdjson(lines, objectMapper))
+                .expectNext(new ImportRatingRow(1, MOVIE_ID, null, 8, null, Instant.parse("2015-06-01T18:30:00Z"), null))
+                .assertNext(row -> {
+                    assertThat(row.line()).isEqualTo(3);
+                    assertThat(row.error()).startsWith("Malformed JSON");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read CSV records by header with quoted fields spanning lines")
+    void shouldReadCsv() {
+        // Given
+        Flux<String> lines = Flux.just(
+                "Rating,movieId,userId,review",
+                "7," + MOVIE_ID + "," + USER_ID + ",\"Long, \"\"slow\"\"",
+                "but worth it\"",
+                "x," + MOVIE_ID + ",,");
+
+        // When & Then
+        StepVerifier.create(RatingImportReader.fromCsv(lines))
+                .expectNext(new ImportRatingRow(2, MOVIE_ID, USER_ID, 7, "Long, \"slow\"\nbut worth it", null, null))
+                .expectNext(ImportRatingRow.unreadable(4, "Invalid rating: x"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without the required header columns")
+    void shouldRejectCsvWithoutRequiredColumns() {
+        // Given
+        Flux<String> lines = Flux.just("userId,review", USER_ID + ",Fine");
+
+        // When & Then
+        StepVerifier.create(RatingImportReader.fromCsv(lines))
+                .expectNext(ImportRatingRow.unreadable(1, "CSV header must name the movieId and rating columns"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report an unterminated quoted field at the end of the CSV")
+    void shouldReportUnterminatedQuotedField() {
+        // Given
+        Flux<String> lines = Flux.just("movieId,rating,review", MOVIE_ID + ",5,\"Never closed");
+
+        // When & Then
+        StepVerifier.create(RatingImportReader.fromCsv(lines))
+                .expectNext(ImportRatingRow.unreadable(2, "Unterminated quoted field"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report an over-long quoted record and resume after its closing quote")
+    void shouldReportOverLongRecordAndResume() {
+        // Given
+        String longLine = "x".repeat(5_000);
+        Flux<String> lines = Flux.just(
+                "movieId,rating,review",
+                MOVIE_ID + ",5,\"Starts here",
+                longLine,
+                longLine,
+                "ends here\"",
+                MOVIE_ID + ",4,Fine");
+
+        // When & Then
+        StepVerifier.create(RatingImportReader.fromCsv(lines))
+                .expectNext(ImportRatingRow.unreadable(2, "Record exceeds 8192 characters"))
+                .expectNext(new ImportRatingRow(6, MOVIE_ID, null, 4, "Fine", null, null))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not buffer the rest of the upload after an unterminated quote")
+    void shouldNotBufferRestOfUploadAfterUnterminatedQuote() {
+        // Given
+        Flux<String> lines = Flux.concat(
+                Flux.just("movieId,rating,review", MOVIE_ID + ",5,\"Never closed"),
+                Flux.range(0, 100_000).map(i -> MOVIE_ID + ",4,Line " + i));
+
+        // When & Then
+        StepVerifier.create(RatingImportReader.fromCsv(lines))
+                .expectNext(ImportRatingRow.unreadable(2, "Record exceeds 8192 characters"))
+                .verifyComplete();
+    }
+}
@@ -2,8 +2,11 @@ package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.JwtToken;
 import com.movie.rating.system.domain.port.outbound.JwtTokenRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.cache.TokenRevocationCache;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.JwtTokenPersistenceMapper;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcAccessTokenWatermarkRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcJwtTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
@@ -60,11 +65,18 @@ class R2dbcJwtTokenRepositoryAdapterTest {
             return new JwtTokenPersistenceMapper();
         }
 
+        @Bean
+        TokenRevocationCache tokenRevocationCache() {
+            return new TokenRevocationCache(new SimpleMeterRegistry());
+        }
+
         @Bean
         R2dbcJwtTokenRepositoryAdapter r2dbcJwtTokenRepositoryAdapter(
                 R2dbcJwtTokenRepository r2dbcRepository,
-                JwtTokenPersistenceMapper mapper) {
-            return new R2dbcJwtTokenRepositoryAdapter(r2dbcRepository, mapper);
+                JwtTokenPersistenceMapper mapper,
+                TokenRevocationCache revocationCache,
+                R2dbcAccessTokenWatermarkRepository watermarkRepository) {
+            return new R2dbcJwtTokenRepositoryAdapter(r2dbcRepository, mapper, revocationCache, watermarkRepository);
         }
     }
 
@@ -74,6 +86,9 @@ class R2dbcJwtTokenRepositoryAdapterTest {
     @Autowired
     private R2dbcJwtTokenRepository r2dbcJwtTokenRepository;
 
+    @Autowired
+    private R2dbcAccessTokenWatermarkRepository watermarkRepository;
+
     @Autowired
     private org.springframework.r2dbc.core.DatabaseClient databaseClient;
 
@@ -415,15 +430,217 @@ class R2dbcJwtTokenRepositoryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Revocation Cache Operations")
+    class RevocationCacheOperations {
+
+        @Test
+        @DisplayName("Should answer revocation checks from warmed cache without the database")
+        void shouldAnswerRevocationChecksFromWarmedCache() {
+            // Given
+            TokenRevocationCache cache = new TokenRevocationCache(new SimpleMeterRegistry());
+            R2dbcJwtTokenRepositoryAdapter cachedAdapter = new R2dbcJwtTokenRepositoryAdapter(
+                    r2dbcJwtTokenRepository, new JwtTokenPersistenceMapper(), cache, watermarkRepository);
+            cache.markWarm();
+
+            Mono<JwtToken> setup = cachedAdapter.save(testJwtToken)
+                    .then(cachedAdapter.revokeByTokenHash(testTokenHash, "User logout"));
+            StepVerifier.create(setup).expectNextCount(1).verifyComplete();
+
+            // Remove the row so only the cache knows about the revocation
+            r2dbcJwtTokenRepository.deleteAll().block();
+
+            // When & Then
+            StepVerifier.create(cachedAdapter.isTokenRevoked(testTokenHash))
+                    .expectNext(true)
+                    .verifyComplete();
+            StepVerifier.create(cachedAdapter.isTokenRevoked("unknown-hash"))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should record bulk user revocations in cache")
+        void shouldRecordBulkUserRevocationsInCache() {
+            // Given
+            TokenRevocationCache cache = new TokenRevocationCache(new SimpleMeterRegistry());
+            R2dbcJwtTokenRepositoryAdapter cachedAdapter = new R2dbcJwtTokenRepositoryAdapter(
+                    r2dbcJwtTokenRepository, new JwtTokenPersistenceMapper(), cache, watermarkRepository);
+
+            Mono<Long> revoke = cachedAdapter.save(testJwtToken)
+                    .then(cachedAdapter.revokeAllTokensForUser(testUserId, "Account compromise"));
+
+            // When & Then
+            StepVerifier.create(revoke)
+                    .expectNext(1L)
+                    .verifyComplete();
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should find revoked unexpired tokens for cache warm-up")
+        void shouldFindRevokedUnexpiredTokens() {
+            // Given
+            Mono<JwtToken> setup = jwtTokenRepository.save(testJwtToken)
+                    .then(jwtTokenRepository.revokeByTokenHash(testTokenHash, "User logout"));
+
+            // When & Then
+            StepVerifier.create(setup.thenMany(jwtTokenRepository.findRevokedUnexpiredTokens(Instant.EPOCH)))
+                    .assertNext(token -> assertThat(token.getTokenHash()).isEqualTo(testTokenHash))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should only find tokens revoked since the given time")
+        void shouldOnlyFindTokensRevokedSinceGivenTime() {
+            // Given
+            Mono<JwtToken> setup = jwtTokenRepository.save(testJwtToken)
+                    .then(jwtTokenRepository.revokeByTokenHash(testTokenHash, "User logout"));
+            StepVerifier.create(setup).expectNextCount(1).verifyComplete();
+
+            // When & Then
+            StepVerifier.create(jwtTokenRepository.findRevokedUnexpiredTokens(Instant.now().plusSeconds(1)))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Access Token Watermark Operations")
+    class AccessTokenWatermarkOperations {
+
+        @Test
+        @DisplayName("Should revoke access tokens issued before watermark")
+        void shouldRevokeAccessTokensIssuedBeforeWatermark() {
+            // Given
+            Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+            // When
+            StepVerifier.create(jwtTokenRepository.revokeAccessTokensIssuedBefore(testUserId, watermark))
+                    .verifyComplete();
+
+            // Then
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(testUserId, watermark.minusSeconds(1)))
+                    .expectNext(true)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(testUserId, watermark))
+                    .expectNext(false)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(UUID.randomUUID(), watermark.minusSeconds(1)))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should never move watermark backwards")
+        void shouldNeverMoveWatermarkBackwards() {
+            // Given
+            Instant later = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            Instant earlier = later.minus(10, ChronoUnit.MINUTES);
+
+            // When
+            Mono<Void> revoke = jwtTokenRepository.revokeAccessTokensIssuedBefore(testUserId, later)
+                    .then(jwtTokenRepository.revokeAccessTokensIssuedBefore(testUserId, earlier));
+            StepVerifier.create(revoke).verifyComplete();
+
+            // Then
+            StepVerifier.create(jwtTokenRepository.findAccessTokenWatermarks(Instant.EPOCH, Instant.EPOCH))
+                    .assertNext(watermark -> {
+                        assertThat(watermark.userId()).isEqualTo(testUserId);
+                        assertThat(watermark.revokedBefore()).isEqualTo(later);
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject stateless access tokens after revoking all tokens for user")
+        void shouldRejectAccessTokensAfterRevokingAllTokens() {
+            // Given
+            Instant issuedAt = Instant.now().minusSeconds(1);
+
+            // When
+            StepVerifier.create(jwtTokenRepository.revokeAllTokensForUser(testUserId, "Account compromise"))
+                    .expectNext(0L)
+                    .verifyComplete();
+
+            // Then
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(testUserId, issuedAt))
+                    .expectNext(true)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(testUserId, Instant.now().plusSeconds(1)))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should advance watermark only when revoking access tokens by type")
+        void shouldAdvanceWatermarkOnlyForAccessTokenType() {
+            // Given
+            Instant issuedAt = Instant.now().minusSeconds(1);
+
+            // When & Then
+            StepVerifier.create(jwtTokenRepository.revokeAllTokensForUserByType(
+                            testUserId, JwtToken.TokenType.REFRESH, "Refresh revocation"))
+                    .expectNext(0L)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(testUserId, issuedAt))
+                    .expectNext(false)
+                    .verifyComplete();
+
+            StepVerifier.create(jwtTokenRepository.revokeAllTokensForUserByType(
+                            testUserId, JwtToken.TokenType.ACCESS, "Access revocation"))
+                    .expectNext(0L)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.isAccessTokenRevoked(testUserId, issuedAt))
+                    .expectNext(true)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should delete watermarks that no unexpired access token can precede")
+        void shouldDeleteStaleWatermarks() {
+            // Given
+            Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS).minus(2, ChronoUnit.HOURS);
+            StepVerifier.create(jwtTokenRepository.revokeAccessTokensIssuedBefore(testUserId, watermark))
+                    .verifyComplete();
+
+            // When & Then
+            StepVerifier.create(jwtTokenRepository.deleteAccessTokenWatermarksBefore(watermark.minusSeconds(1)))
+                    .expectNext(0)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.deleteAccessTokenWatermarksBefore(watermark))
+                    .expectNext(1)
+                    .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.findAccessTokenWatermarks(Instant.EPOCH, Instant.EPOCH))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should record watermark in cache")
+        void shouldRecordWatermarkInCache() {
+            // Given
+            TokenRevocationCache cache = new TokenRevocationCache(new SimpleMeterRegistry());
+            R2dbcJwtTokenRepositoryAdapter cachedAdapter = new R2dbcJwtTokenRepositoryAdapter(
+                    r2dbcJwtTokenRepository, new JwtTokenPersistenceMapper(), cache, watermarkRepository);
+            cache.markWarm();
+            Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+            // When
+            StepVerifier.create(cachedAdapter.revokeAccessTokensIssuedBefore(testUserId, watermark))
+                    .verifyComplete();
+
+            // Then
+            assertThat(cache.lookupAccessToken(testUserId, watermark.minusSeconds(1))).contains(true);
+        }
+    }
+
     @Nested
     @DisplayName("Token Cleanup Operations")
     class TokenCleanupOperations {
 
         @Test
-        @DisplayName("Should delete expired tokens")
-        void shouldDeleteExpiredTokens() {
+        @DisplayName("Should not find expired tokens by hash or ID")
+        void shouldNotFindExpiredTokens() {
             // Given
-            JwtToken activeToken = testJwtToken;
             JwtToken expiredToken = JwtToken.builder()
                     .userId(testUserId)
                     .tokenHash("expired-token-hash")
@@ -433,23 +650,71 @@ class R2dbcJwtTokenRepositoryAdapterTest {
                     .isRevoked(false)
                     .build();
 
-            Mono<Void> setup = jwtTokenRepository.save(activeToken)
-                    .then(jwtTokenRepository.save(expiredToken))
-                    .then();
+            JwtToken saved = jwtTokenRepository.save(expiredToken).block();
 
             // When & Then
-            Instant cutoffTime = Instant.now();
-            StepVerifier.create(setup.then(jwtTokenRepository.deleteExpiredTokens(cutoffTime)))
-                    .expectNext(1L) // Should delete 1 expired token
+            StepVerifier.create(jwtTokenRepository.findByTokenHash("expired-token-hash"))
                     .verifyComplete();
+            StepVerifier.create(jwtTokenRepository.findById(saved.getId()))
+                    .verifyComplete();
+        }
 
-            // Verify active token still exists
-            StepVerifier.create(jwtTokenRepository.findByTokenHash(testTokenHash))
+        @Test
+        @DisplayName("Should create missing partitions only once")
+        void shouldCreateMissingPartitionsOnlyOnce() {
+            // Given
+            LocalDate from = LocalDate.now(ZoneOffset.UTC).plusDays(60);
+            LocalDate to = from.plusDays(2);
+
+            // When & Then
+            StepVerifier.create(jwtTokenRepository.createPartitions(from, to))
+                    .expectNext(3)
+                    .verifyComplete();
+
+            StepVerifier.create(jwtTokenRepository.createPartitions(from, to))
+                    .expectNext(0)
+                    .verifyComplete();
+
+            // Tokens expiring on the new days can be stored
+            JwtToken laterToken = testJwtToken.toBuilder()
+                    .tokenHash("later-token-hash")
+                    .expiresAt(to.atTime(12, 0).toInstant(ZoneOffset.UTC))
+                    .build();
+            StepVerifier.create(jwtTokenRepository.save(laterToken))
                     .expectNextCount(1)
                     .verifyComplete();
+        }
 
-            // Verify expired token is deleted
-            StepVerifier.create(jwtTokenRepository.findByTokenHash("expired-token-hash"))
+        @Test
+        @DisplayName("Should drop partitions of tokens expired before the retention cutoff")
+        void shouldDropPartitionsBeforeRetentionCutoff() {
+            // Given
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            JwtToken oldToken = JwtToken.builder()
+                    .userId(testUserId)
+                    .tokenHash("old-token-hash")
+                    .tokenType(JwtToken.TokenType.REFRESH)
+                    .issuedAt(today.minusDays(47).atStartOfDay().toInstant(ZoneOffset.UTC))
+                    .expiresAt(today.minusDays(40).atTime(12, 0).toInstant(ZoneOffset.UTC))
+                    .isRevoked(false)
+                    .build();
+
+            Mono<JwtToken> setup = jwtTokenRepository.createPartitions(today.minusDays(41), today.minusDays(39))
+                    .then(jwtTokenRepository.save(testJwtToken))
+                    .then(jwtTokenRepository.save(oldToken));
+
+            // When & Then
+            StepVerifier.create(setup.then(jwtTokenRepository.dropPartitionsBefore(today.minusDays(30))))
+                    .expectNext(3)
+                    .verifyComplete();
+
+            // The whole day of the old token is gone
+            StepVerifier.create(jwtTokenRepository.findByTokenHash("old-token-hash"))
+                    .verifyComplete();
+
+            // Verify active token still exists
+            StepVerifier.create(jwtTokenRepository.findByTokenHash(testTokenHash))
+                    .expectNextCount(1)
                     .verifyComplete();
         }
 
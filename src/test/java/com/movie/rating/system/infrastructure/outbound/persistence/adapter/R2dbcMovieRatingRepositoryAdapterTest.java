@@ -1,15 +1,22 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
+import com.movie.rating.system.domain.exception.MovieNotFoundException;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingAggregateEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.MovieRatingPersistenceMapper;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingAggregateRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingRepository;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -19,6 +26,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +39,9 @@ class R2dbcMovieRatingRepositoryAdapterTest {
     @Mock
     private MovieRatingPersistenceMapper mapper;
 
+    @Mock
+    private R2dbcMovieRatingAggregateRepository aggregateRepository;
+
     private R2dbcMovieRatingRepositoryAdapter adapter;
 
     private UUID movieId;
@@ -41,7 +52,7 @@ class R2dbcMovieRatingRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new R2dbcMovieRatingRepositoryAdapter(r2dbcRepository, mapper);
+        adapter = new R2dbcMovieRatingRepositoryAdapter(r2dbcRepository, mapper, aggregateRepository);
         
         movieId = UUID.randomUUID();
         userId = UUID.randomUUID();
@@ -91,6 +102,121 @@ class R2dbcMovieRatingRepositoryAdapterTest {
         verify(mapper).toDomain(movieRatingEntity);
     }
 
+    @Test
+    @DisplayName("Should insert movie rating in a single statement")
+    void shouldInsertMovieRatingInSingleStatement() {
+        // Given
+        when(r2dbcRepository.insertIfNoActiveRating(movieId, userId, 5, "Great movie!",
+                movieRating.getCreatedAt(), movieRating.getUpdatedAt()))
+                .thenReturn(Mono.just(movieRatingEntity));
+        when(mapper.toDomain(movieRatingEntity)).thenReturn(movieRating);
+
+        // When
+        Mono<MovieRating> result = adapter.insertIfNoActiveRating(movieRating);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(movieRating)
+                .verifyComplete();
+
+        verify(r2dbcRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should return empty when an active rating already exists")
+    void shouldReturnEmptyWhenActiveRatingAlreadyExists() {
+        // Given
+        when(r2dbcRepository.insertIfNoActiveRating(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.empty());
+
+        // When
+        Mono<MovieRating> result = adapter.insertIfNoActiveRating(movieRating);
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should insert a batch of ratings in one statement and report outcomes in input order")
+    void shouldInsertBatchOfRatings() {
+        // Given
+        MovieRating otherMovieRating = MovieRating.builder()
+                .movieId(UUID.randomUUID())
+                .userId(userId)
+                .rating(7)
+                .build();
+        when(r2dbcRepository.insertAllIfNoActiveRating(any(), any(), any(), any(), any()))
+                .thenReturn(Flux.just(
+                        new R2dbcMovieRatingRepository.BatchInsertResult(1L, "INSERTED"),
+                        new R2dbcMovieRatingRepository.BatchInsertResult(2L, "MOVIE_NOT_FOUND")));
+
+        // When & Then
+        StepVerifier.create(adapter.insertAllIfNoActiveRating(List.of(movieRating, movieRating, otherMovieRating)))
+                .expectNext(List.of(
+                        MovieRatingRepository.BatchInsertOutcome.INSERTED,
+                        MovieRatingRepository.BatchInsertOutcome.DUPLICATE,
+                        MovieRatingRepository.BatchInsertOutcome.MOVIE_NOT_FOUND))
+                .verifyComplete();
+
+        verify(r2dbcRepository).insertAllIfNoActiveRating(
+                eq(new UUID[]{movieId, otherMovieRating.getMovieId()}),
+                eq(new UUID[]{userId, userId}),
+                eq(new Integer[]{5, 7}),
+                eq(new String[]{"Great movie!", null}),
+                eq(new String[]{movieRating.getCreatedAt().toString(), otherMovieRating.getCreatedAt().toString()}));
+    }
+
+    @Test
+    @DisplayName("Should not query the database for an empty batch")
+    void shouldNotQueryForEmptyBatch() {
+        // When & Then
+        StepVerifier.create(adapter.insertAllIfNoActiveRating(List.of()))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        verifyNoInteractions(r2dbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should map movie foreign key violation to MovieNotFoundException")
+    void shouldMapMovieForeignKeyViolationToMovieNotFoundException() {
+        // Given
+        R2dbcDataIntegrityViolationException violation = new R2dbcDataIntegrityViolationException(
+                "insert or update on table \"movie_ratings\" violates foreign key constraint \"movie_ratings_movie_id_fkey\"",
+                "23503");
+        when(r2dbcRepository.insertIfNoActiveRating(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("insert failed", violation)));
+
+        // When
+        Mono<MovieRating> result = adapter.insertIfNoActiveRating(movieRating);
+
+        // Then
+        StepVerifier.create(result)
+                .expectErrorMatches(error -> error instanceof MovieNotFoundException notFound
+                        && movieId.equals(notFound.getMovieId()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should propagate other integrity violations unchanged")
+    void shouldPropagateOtherIntegrityViolationsUnchanged() {
+        // Given
+        R2dbcDataIntegrityViolationException violation = new R2dbcDataIntegrityViolationException(
+                "insert or update on table \"movie_ratings\" violates foreign key constraint \"movie_ratings_user_id_fkey\"",
+                "23503");
+        when(r2dbcRepository.insertIfNoActiveRating(any(), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("insert failed", violation)));
+
+        // When
+        Mono<MovieRating> result = adapter.insertIfNoActiveRating(movieRating);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
     @Test
     @DisplayName("Should find movie rating by ID")
     void shouldFindMovieRatingById() {
@@ -315,6 +441,39 @@ class R2dbcMovieRatingRepositoryAdapterTest {
         verify(r2dbcRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should deactivate rating owned by user in a single update")
+    void shouldDeactivateOwnedRatingInSingleUpdate() {
+        // Given
+        when(r2dbcRepository.deactivateByIdAndUserId(eq(ratingId), eq(userId), any(Instant.class))).thenReturn(Mono.just(1));
+
+        // When
+        Mono<Boolean> result = adapter.deactivateByIdAndUserId(ratingId, userId);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(r2dbcRepository, never()).findById(any(UUID.class));
+        verify(r2dbcRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report false when no active rating owned by user was updated")
+    void shouldReportFalseWhenNoOwnedRatingUpdated() {
+        // Given
+        when(r2dbcRepository.deactivateByIdAndUserId(eq(ratingId), eq(userId), any(Instant.class))).thenReturn(Mono.just(0));
+
+        // When
+        Mono<Boolean> result = adapter.deactivateByIdAndUserId(ratingId, userId);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(false)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should calculate average rating by movie ID")
     void shouldCalculateAverageRatingByMovieId() {
@@ -333,6 +492,32 @@ class R2dbcMovieRatingRepositoryAdapterTest {
         verify(r2dbcRepository).calculateAverageRatingByMovieId(movieId);
     }
 
+    @Test
+    @DisplayName("Should find rating aggregate by movie ID")
+    void shouldFindRatingAggregateByMovieId() {
+        // Given
+        MovieRatingAggregateEntity aggregateEntity = new MovieRatingAggregateEntity(
+                movieId, 2L, 13L, 1L, 5, 8,
+                0L, 0L, 0L, 0L, 1L, 0L, 0L, 1L, 0L, 0L, Instant.now());
+        MovieRatingAggregate aggregate = MovieRatingAggregate.builder()
+                .movieId(movieId)
+                .ratingCount(2L)
+                .ratingSum(13L)
+                .build();
+        when(aggregateRepository.findById(movieId)).thenReturn(Mono.just(aggregateEntity));
+        when(mapper.toAggregate(aggregateEntity)).thenReturn(aggregate);
+
+        // When
+        Mono<MovieRatingAggregate> result = adapter.findAggregateByMovieId(movieId);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(aggregate)
+                .verifyComplete();
+
+        verify(aggregateRepository).findById(movieId);
+    }
+
     @Test
     @DisplayName("Should count active ratings by movie ID")
     void shouldCountActiveRatingsByMovieId() {
@@ -376,17 +561,17 @@ class R2dbcMovieRatingRepositoryAdapterTest {
         int limit = 5;
         int minRatingCount = 10;
         R2dbcMovieRatingRepository.TopRatedMovieResult topRatedResult = 
-                new R2dbcMovieRatingRepository.TopRatedMovieResult(movieId, 4.5, 20L);
+                new R2dbcMovieRatingRepository.TopRatedMovieResult(movieId, "Test Movie", 4.5, 20L, 4.2);
         
         when(r2dbcRepository.findTopRatedMovies(limit, minRatingCount))
                 .thenReturn(Flux.just(topRatedResult));
 
         // When
-        Flux<UUID> result = adapter.findTopRatedMovies(limit, minRatingCount);
+        Flux<MovieRatingRepository.RankedMovie> result = adapter.findTopRatedMovies(limit, minRatingCount);
 
         // Then
         StepVerifier.create(result)
-                .expectNext(movieId)
+                .expectNext(new MovieRatingRepository.RankedMovie(movieId, "Test Movie", 4.5, 20L, 4.2))
                 .verifyComplete();
 
         verify(r2dbcRepository).findTopRatedMovies(limit, minRatingCount);
@@ -415,6 +600,27 @@ class R2dbcMovieRatingRepositoryAdapterTest {
         verify(mapper).toDomain(movieRatingEntity);
     }
 
+    @Test
+    @DisplayName("Should find ratings by user ID after cursor")
+    void shouldFindRatingsByUserIdAfterCursor() {
+        // Given
+        Instant createdAt = Instant.now();
+        UUID lastId = UUID.randomUUID();
+        when(r2dbcRepository.findActiveByUserIdAfter(userId, createdAt, lastId, 10))
+                .thenReturn(Flux.just(movieRatingEntity));
+        when(mapper.toDomain(movieRatingEntity)).thenReturn(movieRating);
+
+        // When
+        Flux<MovieRating> result = adapter.findActiveByUserIdAfter(userId, createdAt, lastId, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(movieRating)
+                .verifyComplete();
+
+        verify(r2dbcRepository).findActiveByUserIdAfter(userId, createdAt, lastId, 10);
+    }
+
     @Test
     @DisplayName("Should find ratings with pagination by user ID")
     void shouldFindRatingsWithPaginationByUserId() {
@@ -459,6 +665,47 @@ class R2dbcMovieRatingRepositoryAdapterTest {
         verify(mapper).toDomain(movieRatingEntity);
     }
 
+    @Test
+    @DisplayName("Should find rating summaries for movie without loading entities")
+    void shouldFindRatingSummariesForMovie() {
+        // Given
+        R2dbcMovieRatingRepository.RatingSummaryResult summaryResult =
+                new R2dbcMovieRatingRepository.RatingSummaryResult(ratingId, movieId, userId, 8, Instant.now());
+        MovieRatingRepository.RatingSummary summary =
+                new MovieRatingRepository.RatingSummary(ratingId, movieId, userId, 8, summaryResult.createdAt());
+        when(r2dbcRepository.findActiveSummariesByMovieIdWithPagination(movieId, 0, 20)).thenReturn(Flux.just(summaryResult));
+        when(mapper.toSummary(summaryResult)).thenReturn(summary);
+
+        // When
+        Flux<MovieRatingRepository.RatingSummary> result = adapter.findActiveSummariesByMovieIdWithPagination(movieId, 0, 20);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(summary)
+                .verifyComplete();
+
+        verify(mapper, never()).toDomain(any(MovieRatingEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should find recent rating summaries")
+    void shouldFindRecentRatingSummaries() {
+        // Given
+        R2dbcMovieRatingRepository.RatingSummaryResult summaryResult =
+                new R2dbcMovieRatingRepository.RatingSummaryResult(ratingId, movieId, userId, 8, Instant.now());
+        MovieRatingRepository.RatingSummary summary =
+                new MovieRatingRepository.RatingSummary(ratingId, movieId, userId, 8, summaryResult.createdAt());
+        when(r2dbcRepository.findRecentSummaries(10)).thenReturn(Flux.just(summaryResult));
+        when(mapper.toSummary(summaryResult)).thenReturn(summary);
+
+        // When & Then
+        StepVerifier.create(adapter.findRecentSummaries(10))
+                .expectNext(summary)
+                .verifyComplete();
+
+        verify(r2dbcRepository, never()).findRecentRatings(anyInt());
+    }
+
     @Test
     @DisplayName("Should find ratings by rating value")
     void shouldFindRatingsByRatingValue() {
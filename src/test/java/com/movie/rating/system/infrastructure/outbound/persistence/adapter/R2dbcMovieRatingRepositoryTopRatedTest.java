@@ -0,0 +1,101 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingRepository;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the top-rated movies query of R2dbcMovieRatingRepository,
+ * which reads the rating aggregates maintained by triggers.
+ */
+@Testcontainers
+@DisplayName("R2DBC Movie Rating Repository Top-Rated Query Tests")
+class R2dbcMovieRatingRepositoryTopRatedTest {
+
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String ACTIVE_MOVIE_ID = "00000000-0000-0000-0000-0000000000a1";
+    private static final String INACTIVE_MOVIE_ID = "00000000-0000-0000-0000-0000000000a2";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withDatabaseName("top_rated_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withStartupTimeout(Duration.ofMinutes(2));
+
+    private R2dbcMovieRatingRepository repository;
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        Flyway flyway = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(
+                PostgresqlConnectionConfiguration.builder()
+                        .host(postgres.getHost())
+                        .port(postgres.getFirstMappedPort())
+                        .database(postgres.getDatabaseName())
+                        .username(postgres.getUsername())
+                        .password(postgres.getPassword())
+                        .build()
+        );
+        databaseClient = DatabaseClient.create(connectionFactory);
+        repository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionFactory))
+                .getRepository(R2dbcMovieRatingRepository.class);
+    }
+
+    @Test
+    @DisplayName("Should leave deactivated movies out of the top-rated ranking")
+    void shouldExcludeInactiveMovies() {
+        // Given - the deactivated movie has the better ratings
+        execute("""
+                INSERT INTO users (id, username, email, password_hash, first_name, last_name)
+                VALUES ('%s', 'rater', 'rater@example.com', 'hash', 'Rater', 'One')
+                """.formatted(USER_ID));
+        execute("""
+                INSERT INTO movies (id, title, year_of_release, created_by, is_active)
+                VALUES ('%s', 'Still Showing', 2001, '%s', true),
+                       ('%s', 'Withdrawn', 2002, '%s', false)
+                """.formatted(ACTIVE_MOVIE_ID, USER_ID, INACTIVE_MOVIE_ID, USER_ID));
+        execute("""
+                INSERT INTO movie_ratings (movie_id, user_id, rating)
+                VALUES ('%s', '%s', 6), ('%s', '%s', 10)
+                """.formatted(ACTIVE_MOVIE_ID, USER_ID, INACTIVE_MOVIE_ID, USER_ID));
+
+        // When & Then
+        StepVerifier.create(repository.findTopRatedMovies(10, 1))
+                .assertNext(result -> {
+                    assertThat(result.movieId().toString()).isEqualTo(ACTIVE_MOVIE_ID);
+                    assertThat(result.title()).isEqualTo("Still Showing");
+                    assertThat(result.ratingCount()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).fetch().rowsUpdated().block(Duration.ofSeconds(10));
+    }
+}
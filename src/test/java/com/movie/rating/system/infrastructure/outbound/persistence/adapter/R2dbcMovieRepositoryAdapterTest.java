@@ -1,6 +1,7 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.port.outbound.MovieRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.MoviePersistenceMapper;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRepository;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -342,6 +344,39 @@ class R2dbcMovieRepositoryAdapterTest {
         verify(r2dbcRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should deactivate movie owned by user in a single update")
+    void shouldDeactivateOwnedMovieInSingleUpdate() {
+        // Given
+        when(r2dbcRepository.deactivateByIdAndCreatedBy(eq(movieId), eq(userId), any(Instant.class))).thenReturn(Mono.just(1));
+
+        // When
+        Mono<Boolean> result = adapter.deactivateByIdAndCreatedBy(movieId, userId);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(r2dbcRepository, never()).findById(any(UUID.class));
+        verify(r2dbcRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report false when no active movie owned by user was updated")
+    void shouldReportFalseWhenNoOwnedMovieUpdated() {
+        // Given
+        when(r2dbcRepository.deactivateByIdAndCreatedBy(eq(movieId), eq(userId), any(Instant.class))).thenReturn(Mono.just(0));
+
+        // When
+        Mono<Boolean> result = adapter.deactivateByIdAndCreatedBy(movieId, userId);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(false)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should count active movies")
     void shouldCountActiveMovies() {
@@ -418,6 +453,48 @@ class R2dbcMovieRepositoryAdapterTest {
         verify(mapper).toDomain(movieEntity);
     }
 
+    @Test
+    @DisplayName("Should find active movies after cursor")
+    void shouldFindActiveMoviesAfterCursor() {
+        // Given
+        Instant createdAt = Instant.now();
+        UUID lastId = UUID.randomUUID();
+        when(r2dbcRepository.findAllActiveAfter(createdAt, lastId, 10)).thenReturn(Flux.just(movieEntity));
+        when(mapper.toDomain(movieEntity)).thenReturn(movie);
+
+        // When
+        Flux<Movie> result = adapter.findAllActiveAfter(createdAt, lastId, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(movie)
+                .verifyComplete();
+
+        verify(r2dbcRepository).findAllActiveAfter(createdAt, lastId, 10);
+    }
+
+    @Test
+    @DisplayName("Should find active movie summaries with pagination")
+    void shouldFindActiveMovieSummariesWithPagination() {
+        // Given
+        R2dbcMovieRepository.MovieSummaryResult summaryResult = new R2dbcMovieRepository.MovieSummaryResult(
+                movieId, "The Shawshank Redemption", 1994, Instant.now(), 9.0, 2L);
+        MovieRepository.MovieSummary summary = new MovieRepository.MovieSummary(
+                movieId, "The Shawshank Redemption", 1994, summaryResult.createdAt(), 9.0, 2L);
+        when(r2dbcRepository.findActiveSummariesWithPagination(0, 10)).thenReturn(Flux.just(summaryResult));
+        when(mapper.toSummary(summaryResult)).thenReturn(summary);
+
+        // When
+        Flux<MovieRepository.MovieSummary> result = adapter.findActiveSummariesWithPagination(0, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(summary)
+                .verifyComplete();
+
+        verify(r2dbcRepository, never()).findAllActiveWithPagination(anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("Should search movies with criteria")
     void shouldSearchMoviesWithCriteria() {
@@ -442,6 +519,29 @@ class R2dbcMovieRepositoryAdapterTest {
         verify(mapper).toDomain(movieEntity);
     }
 
+    @Test
+    @DisplayName("Should search movies by text after cursor")
+    void shouldSearchMoviesByTextAfterCursor() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        R2dbcMovieRepository.MovieSearchResult searchResult = new R2dbcMovieRepository.MovieSearchResult(
+                movieId, "The Shawshank Redemption", "Plot", 1994, true, userId,
+                Instant.now(), Instant.now(), null, null, 0.5);
+        MovieRepository.MovieSearchHit hit = new MovieRepository.MovieSearchHit(movie, 0.5);
+        when(r2dbcRepository.searchByTextAfter("shawshank", 0.9, lastId, 10)).thenReturn(Flux.just(searchResult));
+        when(mapper.toSearchHit(searchResult)).thenReturn(hit);
+
+        // When
+        Flux<MovieRepository.MovieSearchHit> result = adapter.searchByTextAfter("shawshank", 0.9, lastId, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(hit)
+                .verifyComplete();
+
+        verify(r2dbcRepository).searchByTextAfter("shawshank", 0.9, lastId, 10);
+    }
+
     @Test
     @DisplayName("Should handle save error gracefully")
     void shouldHandleSaveErrorGracefully() {
@@ -1,9 +1,13 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.User;
+import com.movie.rating.system.domain.exception.EmailAlreadyExistsException;
+import com.movie.rating.system.domain.exception.UsernameAlreadyExistsException;
+import com.movie.rating.system.infrastructure.outbound.persistence.cache.UserAvailabilityFilter;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.UserEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.UserEntityMapper;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.spi.ConnectionFactory;
@@ -72,7 +76,8 @@ class R2dbcUserRepositoryAdapterTest {
         repository = factory.getRepository(R2dbcUserRepository.class);
 
         UserEntityMapper mapper = new UserEntityMapper();
-        adapter = new R2dbcUserRepositoryAdapter(repository, mapper);
+        adapter = new R2dbcUserRepositoryAdapter(repository, mapper,
+                new UserAvailabilityFilter(new SimpleMeterRegistry(), 0.01));
     }
 
     @AfterEach
@@ -381,6 +386,41 @@ class R2dbcUserRepositoryAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should map unique violations to username and email exceptions")
+    void shouldMapUniqueViolationsToDomainExceptions() {
+        // Given
+        adapter.save(createTestUser("unique_user", "unique@example.com")).block(Duration.ofSeconds(10));
+
+        // When & Then
+        StepVerifier.create(adapter.save(createTestUser("unique_user", "other@example.com")))
+                .expectError(UsernameAlreadyExistsException.class)
+                .verify();
+
+        StepVerifier.create(adapter.save(createTestUser("other_user", "unique@example.com")))
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should answer existence checks from the database even when the availability filter misses")
+    void shouldAnswerExistenceChecksFromDatabase() {
+        // Given - a loaded filter that has not seen a user saved by another node
+        UserAvailabilityFilter filter = new UserAvailabilityFilter(new SimpleMeterRegistry(), 0.01);
+        filter.beginRebuild(0);
+        filter.completeRebuild();
+        R2dbcUserRepositoryAdapter otherNode = new R2dbcUserRepositoryAdapter(repository, new UserEntityMapper(), filter);
+        adapter.save(createTestUser("remote_user", "remote@example.com")).block(Duration.ofSeconds(10));
+
+        // When & Then
+        StepVerifier.create(otherNode.existsByUsername("remote_user"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(otherNode.existsByEmail("remote@example.com"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     private User createTestUser(String username, String email) {
         return User.builder()
                 .username(username)
@@ -1,9 +1,11 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.adapter;
 
 import com.movie.rating.system.domain.entity.User;
+import com.movie.rating.system.infrastructure.outbound.persistence.cache.UserAvailabilityFilter;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.UserEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.mapper.UserEntityMapper;
 import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.spi.ConnectionFactory;
@@ -66,7 +68,8 @@ class R2dbcUserRepositoryAdapterTransactionTest {
         repository = factory.getRepository(R2dbcUserRepository.class);
 
         UserEntityMapper mapper = new UserEntityMapper();
-        adapter = new R2dbcUserRepositoryAdapter(repository, mapper);
+        adapter = new R2dbcUserRepositoryAdapter(repository, mapper,
+                new UserAvailabilityFilter(new SimpleMeterRegistry(), 0.01));
     }
 
     @AfterEach
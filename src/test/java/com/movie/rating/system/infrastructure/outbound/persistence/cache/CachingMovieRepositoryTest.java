@@ -0,0 +1,139 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.infrastructure.outbound.persistence.adapter.R2dbcMovieRepositoryAdapter;
+import com.movie.rating.system.infrastructure.outbound.persistence.coalescing.SingleFlightFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingMovieRepository.
+ */
+@DisplayName("Caching Movie Repository Tests")
+class CachingMovieRepositoryTest {
+
+    private R2dbcMovieRepositoryAdapter delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingMovieRepository repository;
+    private UUID movieId;
+    private UUID userId;
+    private Movie movie;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(R2dbcMovieRepositoryAdapter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingMovieRepository(delegate, new SingleFlightFactory(meterRegistry, true, Set.of()),
+                meterRegistry, 1_000_000, Duration.ofMinutes(10));
+
+        movieId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        movie = Movie.builder()
+                .id(movieId)
+                .title("The Shawshank Redemption")
+                .plot("Two imprisoned men bond over a number of years.")
+                .yearOfRelease(1994)
+                .isActive(true)
+                .createdBy(userId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(delegate.findById(movieId)).thenReturn(Mono.just(movie));
+
+        // When & Then
+        StepVerifier.create(repository.findById(movieId)).expectNext(movie).verifyComplete();
+        StepVerifier.create(repository.findById(movieId)).expectNext(movie).verifyComplete();
+        StepVerifier.create(repository.existsById(movieId)).expectNext(true).verifyComplete();
+
+        verify(delegate, times(1)).findById(movieId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "movies").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should share one query among concurrent misses")
+    void shouldShareOneQueryAmongConcurrentMisses() {
+        // Given
+        Sinks.One<Movie> pending = Sinks.one();
+        when(delegate.findById(movieId)).thenReturn(pending.asMono());
+
+        // When
+        Mono<Movie> first = repository.findById(movieId);
+        Mono<Movie> second = repository.findById(movieId);
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(movie))
+                .assertNext(movies -> {
+                    assertThat(movies.getT1()).isEqualTo(movie);
+                    assertThat(movies.getT2()).isEqualTo(movie);
+                })
+                .verifyComplete();
+
+        verify(delegate, times(1)).findById(movieId);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing movies")
+    void shouldNotCacheMissingMovies() {
+        // Given
+        when(delegate.findById(movieId)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(repository.findById(movieId)).verifyComplete();
+        StepVerifier.create(repository.existsById(movieId)).expectNext(false).verifyComplete();
+
+        verify(delegate, times(2)).findById(movieId);
+    }
+
+    @Test
+    @DisplayName("Should drop the cached movie after a local write")
+    void shouldDropCachedMovieAfterLocalWrite() {
+        // Given
+        when(delegate.findById(movieId)).thenReturn(Mono.just(movie));
+        when(delegate.deactivateByIdAndCreatedBy(movieId, userId)).thenReturn(Mono.just(true));
+        StepVerifier.create(repository.findById(movieId)).expectNext(movie).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.deactivateByIdAndCreatedBy(movieId, userId)).expectNext(true).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById(movieId)).expectNext(movie).verifyComplete();
+        verify(delegate, times(2)).findById(movieId);
+    }
+
+    @Test
+    @DisplayName("Should drop the cached movie when notified of a change")
+    void shouldDropCachedMovieWhenInvalidated() {
+        // Given
+        when(delegate.findById(movieId)).thenReturn(Mono.just(movie));
+        StepVerifier.create(repository.findById(movieId)).expectNext(movie).verifyComplete();
+
+        // When
+        repository.invalidate(movieId);
+
+        // Then
+        StepVerifier.create(repository.findById(movieId)).expectNext(movie).verifyComplete();
+        verify(delegate, times(2)).findById(movieId);
+    }
+}
@@ -0,0 +1,124 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenRevocationCache.
+ */
+@DisplayName("Token Revocation Cache Tests")
+class TokenRevocationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TokenRevocationCache(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should defer to database until warmed")
+    void shouldDeferToDatabaseUntilWarmed() {
+        // Given
+        cache.markRevoked("hash", Instant.now().plus(1, ChronoUnit.HOURS));
+
+        // When & Then
+        assertThat(cache.lookup("hash")).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should answer lookups locally once warmed")
+    void shouldAnswerLookupsLocallyOnceWarmed() {
+        // Given
+        cache.markRevoked("revoked-hash", Instant.now().plus(1, ChronoUnit.HOURS));
+        cache.markWarm();
+
+        // When & Then
+        assertThat(cache.lookup("revoked-hash")).contains(true);
+        assertThat(cache.lookup("other-hash")).contains(false);
+        assertThat(lookups("hit")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore already expired tokens")
+    void shouldIgnoreAlreadyExpiredTokens() {
+        // When
+        cache.markRevoked("expired-hash", Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict entries once tokens expire")
+    void shouldEvictEntriesOnceTokensExpire() {
+        // Given
+        cache.markRevoked("short-lived", Instant.now().plusMillis(50));
+        cache.markRevoked("long-lived", Instant.now().plus(1, ChronoUnit.HOURS));
+
+        // When
+        await(100);
+        int evicted = cache.evictExpired();
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.revocation.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should revoke access tokens issued before user watermark")
+    void shouldRevokeAccessTokensIssuedBeforeUserWatermark() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Instant watermark = Instant.now();
+        cache.markAccessTokensRevoked(userId, watermark);
+        cache.markAccessTokensRevoked(userId, watermark.minus(1, ChronoUnit.HOURS));
+        cache.markWarm();
+
+        // When & Then
+        assertThat(cache.lookupAccessToken(userId, watermark.minusSeconds(1))).contains(true);
+        assertThat(cache.lookupAccessToken(userId, watermark)).contains(false);
+        assertThat(cache.lookupAccessToken(UUID.randomUUID(), watermark.minusSeconds(1))).contains(false);
+    }
+
+    @Test
+    @DisplayName("Should evict watermarks older than access token lifetime")
+    void shouldEvictWatermarksOlderThanAccessTokenLifetime() {
+        // Given
+        UUID staleUser = UUID.randomUUID();
+        UUID recentUser = UUID.randomUUID();
+        cache.markAccessTokensRevoked(staleUser, Instant.now().minus(2, ChronoUnit.HOURS));
+        cache.markAccessTokensRevoked(recentUser, Instant.now());
+
+        // When
+        int evicted = cache.evictWatermarksBefore(Instant.now().minus(1, ChronoUnit.HOURS));
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.revocation.cache.watermarks").gauge().value()).isEqualTo(1.0);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("jwt.revocation.cache.lookups").tag("result", result).counter().count();
+    }
+
+    private void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.cache;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcUserRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcUserRepository.UserIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserAvailabilityFilter and UserAvailabilityFilterTask.
+ */
+@DisplayName("User Availability Filter Tests")
+class UserAvailabilityFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserAvailabilityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UserAvailabilityFilter(meterRegistry, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should defer to database until loaded")
+    void shouldDeferToDatabaseUntilLoaded() {
+        // When & Then
+        assertThat(filter.mightContainUsername("anyone")).isTrue();
+        assertThat(filter.mightContainEmail("anyone@example.com")).isTrue();
+        assertThat(lookups("cold")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should answer definite negatives once loaded")
+    void shouldAnswerDefiniteNegativesOnceLoaded() {
+        // Given
+        filter.beginRebuild(1);
+        filter.add("taken", "taken@example.com");
+        filter.completeRebuild();
+
+        // When & Then
+        assertThat(filter.mightContainUsername("taken")).isTrue();
+        assertThat(filter.mightContainEmail("Taken@Example.com")).isTrue();
+        assertThat(filter.mightContainUsername("free")).isFalse();
+        assertThat(filter.mightContainEmail("free@example.com")).isFalse();
+        assertThat(filter.mightContainUsername("taken@example.com")).isFalse();
+        assertThat(lookups("negative")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should keep users saved during a rebuild")
+    void shouldKeepUsersSavedDuringRebuild() {
+        // Given
+        filter.beginRebuild(0);
+        filter.completeRebuild();
+        filter.beginRebuild(0);
+
+        // When
+        filter.add("late", "late@example.com");
+        filter.completeRebuild();
+
+        // Then
+        assertThat(filter.mightContainUsername("late")).isTrue();
+        assertThat(filter.mightContainEmail("late@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stay close to the configured false positive rate")
+    void shouldStayCloseToConfiguredFalsePositiveRate() {
+        // Given
+        filter.beginRebuild(5_000);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("user" + i, "user" + i + "@example.com"));
+        filter.completeRebuild();
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContainUsername("other" + i))
+                .count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("Should load every user from the database")
+    void shouldLoadEveryUserFromDatabase() {
+        // Given
+        R2dbcUserRepository repository = mock(R2dbcUserRepository.class);
+        when(repository.count()).thenReturn(Mono.just(2L));
+        when(repository.findAllIdentities()).thenReturn(Flux.just(
+                new UserIdentity("alice", "alice@example.com"),
+                new UserIdentity("bob", "bob@example.com")));
+        UserAvailabilityFilterTask task = new UserAvailabilityFilterTask(repository, filter);
+
+        // When & Then
+        StepVerifier.create(task.rebuild())
+                .expectNext(2L)
+                .verifyComplete();
+
+        assertThat(filter.isLoaded()).isTrue();
+        assertThat(filter.mightContainUsername("bob")).isTrue();
+        assertThat(filter.mightContainUsername("carol")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the current filter when a rebuild fails")
+    void shouldKeepCurrentFilterWhenRebuildFails() {
+        // Given
+        R2dbcUserRepository repository = mock(R2dbcUserRepository.class);
+        when(repository.count()).thenReturn(Mono.just(1L));
+        when(repository.findAllIdentities()).thenReturn(Flux.error(new RuntimeException("Database error")));
+        UserAvailabilityFilterTask task = new UserAvailabilityFilterTask(repository, filter);
+
+        // When & Then
+        StepVerifier.create(task.rebuild())
+                .expectError(RuntimeException.class)
+                .verify();
+
+        assertThat(filter.isLoaded()).isFalse();
+        assertThat(filter.mightContainUsername("anyone")).isTrue();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("users.availability.filter.lookups").tag("result", result).counter().count();
+    }
+}
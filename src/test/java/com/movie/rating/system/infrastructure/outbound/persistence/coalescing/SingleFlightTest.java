@@ -0,0 +1,166 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionContext;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for SingleFlight.
+ */
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger queries;
+    private Sinks.One<Long> pending;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queries = new AtomicInteger();
+        pending = Sinks.one();
+    }
+
+    @Test
+    @DisplayName("Should share one call among identical concurrent calls")
+    void shouldShareOneCallAmongIdenticalConcurrentCalls() {
+        // Given
+        SingleFlight singleFlight = new SingleFlightFactory(meterRegistry, true, Set.of()).create("TestRepository");
+
+        // When
+        Mono<Long> first = singleFlight.execute("count", "key", this::query);
+        Mono<Long> second = singleFlight.execute("count", "key", this::query);
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(42L))
+                .assertNext(counts -> {
+                    assertThat(counts.getT1()).isEqualTo(42L);
+                    assertThat(counts.getT2()).isEqualTo(42L);
+                })
+                .verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(singleFlight.size()).isZero();
+        assertThat(calls("shared")).isEqualTo(1.0);
+        assertThat(calls("executed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should run calls with different keys separately")
+    void shouldRunCallsWithDifferentKeysSeparately() {
+        // Given
+        SingleFlight singleFlight = new SingleFlightFactory(meterRegistry, true, Set.of()).create("TestRepository");
+
+        // When
+        Mono<Long> first = singleFlight.execute("count", "a", this::query);
+        Mono<Long> second = singleFlight.execute("count", "b", this::query);
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(1L))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should start a new call once the previous one completed")
+    void shouldStartNewCallOncePreviousCompleted() {
+        // Given
+        SingleFlight singleFlight = new SingleFlightFactory(meterRegistry, true, Set.of()).create("TestRepository");
+        pending.tryEmitValue(7L);
+
+        // When & Then
+        StepVerifier.create(singleFlight.execute("count", "key", this::query)).expectNext(7L).verifyComplete();
+        StepVerifier.create(singleFlight.execute("count", "key", this::query)).expectNext(7L).verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not share calls of disabled methods")
+    void shouldNotShareCallsOfDisabledMethods() {
+        // Given
+        SingleFlight singleFlight = new SingleFlightFactory(meterRegistry, true, Set.of("TestRepository.count"))
+                .create("TestRepository");
+
+        // When
+        Mono<Long> first = singleFlight.execute("count", "key", this::query);
+        Mono<Long> second = singleFlight.execute("count", "key", this::query);
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(1L))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not share calls made inside a transaction")
+    void shouldNotShareCallsMadeInsideTransaction() {
+        // Given
+        SingleFlight singleFlight = new SingleFlightFactory(meterRegistry, true, Set.of()).create("TestRepository");
+        TransactionContext transaction = mock(TransactionContext.class);
+
+        // When
+        Mono<Long> first = singleFlight.execute("count", "key", this::query)
+                .contextWrite(context -> context.put(TransactionContext.class, transaction));
+        Mono<Long> second = singleFlight.execute("count", "key", this::query);
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(1L))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should detach calls in flight when forgotten")
+    void shouldDetachCallsInFlightWhenForgotten() {
+        // Given
+        SingleFlight singleFlight = new SingleFlightFactory(meterRegistry, true, Set.of()).create("TestRepository");
+        Mono<Long> first = singleFlight.execute("count", "key", this::query);
+
+        // When & Then
+        StepVerifier.create(first.zipWith(Mono.defer(() -> {
+                    singleFlight.forgetAll();
+                    return singleFlight.execute("count", "key", this::query);
+                })))
+                .then(() -> pending.tryEmitValue(1L))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    private Mono<Long> query() {
+        queries.incrementAndGet();
+        return pending.asMono();
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get("repository.single.flight.calls")
+                .tag("repository", "TestRepository")
+                .tag("method", "count")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
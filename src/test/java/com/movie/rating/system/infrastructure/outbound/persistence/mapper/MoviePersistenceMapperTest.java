@@ -1,7 +1,9 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.mapper;
 
 import com.movie.rating.system.domain.entity.Movie;
+import com.movie.rating.system.domain.port.outbound.MovieRepository;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -352,4 +354,67 @@ class MoviePersistenceMapperTest {
         assertThat(movie.getDeactivatedAt()).isNull();
         assertThat(movie.getDeactivatedBy()).isNull();
     }
+
+    @Test
+    @DisplayName("Should convert search result to search hit with relevance")
+    void shouldConvertSearchResultToSearchHit() {
+        // Given
+        R2dbcMovieRepository.MovieSearchResult result = new R2dbcMovieRepository.MovieSearchResult(
+                movieId,
+                "The Shawshank Redemption",
+                "Two imprisoned men bond over a number of years",
+                1994,
+                true,
+                createdBy,
+                createdAt,
+                updatedAt,
+                null,
+                null,
+                1.375
+        );
+
+        // When
+        MovieRepository.MovieSearchHit hit = mapper.toSearchHit(result);
+
+        // Then
+        assertThat(hit.relevance()).isEqualTo(1.375);
+        assertThat(hit.movie().getId()).isEqualTo(movieId);
+        assertThat(hit.movie().getTitle()).isEqualTo("The Shawshank Redemption");
+        assertThat(hit.movie().getYearOfRelease()).isEqualTo(1994);
+        assertThat(hit.movie().getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("Should convert summary result to movie summary")
+    void shouldConvertSummaryResultToMovieSummary() {
+        // Given
+        R2dbcMovieRepository.MovieSummaryResult result = new R2dbcMovieRepository.MovieSummaryResult(
+                movieId, "The Shawshank Redemption", 1994, createdAt, 8.5, 4L);
+
+        // When
+        MovieRepository.MovieSummary summary = mapper.toSummary(result);
+
+        // Then
+        assertThat(summary.id()).isEqualTo(movieId);
+        assertThat(summary.title()).isEqualTo("The Shawshank Redemption");
+        assertThat(summary.yearOfRelease()).isEqualTo(1994);
+        assertThat(summary.createdAt()).isEqualTo(createdAt);
+        assertThat(summary.averageRating()).isEqualTo(8.5);
+        assertThat(summary.ratingCount()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should default rating figures of unrated movie summary to zero")
+    void shouldDefaultRatingFiguresOfUnratedMovieSummaryToZero() {
+        // Given
+        R2dbcMovieRepository.MovieSummaryResult result = new R2dbcMovieRepository.MovieSummaryResult(
+                movieId, "The Shawshank Redemption", 1994, createdAt, null, null);
+
+        // When
+        MovieRepository.MovieSummary summary = mapper.toSummary(result);
+
+        // Then
+        assertThat(summary.averageRating()).isZero();
+        assertThat(summary.ratingCount()).isZero();
+    }
 }
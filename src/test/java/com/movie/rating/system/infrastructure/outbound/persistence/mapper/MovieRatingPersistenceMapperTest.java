@@ -1,7 +1,11 @@
 package com.movie.rating.system.infrastructure.outbound.persistence.mapper;
 
 import com.movie.rating.system.domain.entity.MovieRating;
+import com.movie.rating.system.domain.entity.MovieRatingAggregate;
+import com.movie.rating.system.domain.port.outbound.MovieRatingRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingAggregateEntity;
 import com.movie.rating.system.infrastructure.outbound.persistence.entity.MovieRatingEntity;
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRatingRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -448,4 +452,52 @@ class MovieRatingPersistenceMapperTest {
         assertThat(convertedRating.getReview()).isEqualTo(longReview);
         assertThat(convertedRating.getReview()).hasSize(longReview.length());
     }
+
+    @Test
+    @DisplayName("Should convert aggregate entity to domain aggregate")
+    void shouldConvertAggregateEntityToDomainAggregate() {
+        // Given
+        MovieRatingAggregateEntity entity = new MovieRatingAggregateEntity(
+                movieId, 3L, 21L, 2L, 5, 9,
+                0L, 0L, 0L, 0L, 1L, 0L, 1L, 0L, 1L, 0L, updatedAt);
+
+        // When
+        MovieRatingAggregate aggregate = mapper.toAggregate(entity);
+
+        // Then
+        assertThat(aggregate.getMovieId()).isEqualTo(movieId);
+        assertThat(aggregate.getRatingCount()).isEqualTo(3L);
+        assertThat(aggregate.getAverageRating()).isEqualTo(7.0);
+        assertThat(aggregate.getMinRating()).isEqualTo(5);
+        assertThat(aggregate.getMaxRating()).isEqualTo(9);
+        assertThat(aggregate.getRatingsWithReviews()).isEqualTo(2L);
+        assertThat(aggregate.getCountForRating(7)).isEqualTo(1L);
+        assertThat(aggregate.getCountForRating(10)).isZero();
+        assertThat(aggregate.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    @DisplayName("Should return null when aggregate entity is null")
+    void shouldReturnNullWhenAggregateEntityIsNull() {
+        // When & Then
+        assertThat(mapper.toAggregate(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should convert summary result to rating summary")
+    void shouldConvertSummaryResultToRatingSummary() {
+        // Given
+        R2dbcMovieRatingRepository.RatingSummaryResult result =
+                new R2dbcMovieRatingRepository.RatingSummaryResult(ratingId, movieId, userId, 8, createdAt);
+
+        // When
+        MovieRatingRepository.RatingSummary summary = mapper.toSummary(result);
+
+        // Then
+        assertThat(summary.id()).isEqualTo(ratingId);
+        assertThat(summary.movieId()).isEqualTo(movieId);
+        assertThat(summary.userId()).isEqualTo(userId);
+        assertThat(summary.rating()).isEqualTo(8);
+        assertThat(summary.createdAt()).isEqualTo(createdAt);
+    }
 }
@@ -0,0 +1,109 @@
+package com.movie.rating.system.infrastructure.outbound.persistence.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RepositoryMetricsInterceptor.
+ */
+@DisplayName("Repository Metrics Interceptor Tests")
+class RepositoryMetricsInterceptorTest {
+
+    interface SampleRepository {
+        Mono<String> findName();
+
+        Flux<Integer> findNumbers();
+
+        Mono<String> failing();
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        SampleRepository target = new SampleRepository() {
+            @Override
+            public Mono<String> findName() {
+                return Mono.just("name");
+            }
+
+            @Override
+            public Flux<Integer> findNumbers() {
+                return Flux.just(1, 2, 3);
+            }
+
+            @Override
+            public Mono<String> failing() {
+                return Mono.error(new IllegalStateException("boom"));
+            }
+        };
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(() -> meterRegistry, "SampleRepository"));
+        repository = (SampleRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time Mono queries only once subscribed")
+    void shouldTimeMonoQueriesOnceSubscribed() {
+        // When
+        Mono<String> result = repository.findName();
+
+        // Then
+        assertThat(meterRegistry.find("repository.query").timers()).isEmpty();
+        StepVerifier.create(result).expectNext("name").verifyComplete();
+        assertThat(count("findName", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time Flux queries")
+    void shouldTimeFluxQueries() {
+        // When & Then
+        StepVerifier.create(repository.findNumbers()).expectNext(1, 2, 3).verifyComplete();
+        assertThat(count("findNumbers", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag failed and cancelled queries")
+    void shouldTagFailedAndCancelledQueries() {
+        // When & Then
+        StepVerifier.create(repository.failing()).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(repository.findNumbers().take(1)).expectNext(1).verifyComplete();
+
+        assertThat(count("failing", "error")).isEqualTo(1);
+        assertThat(count("findNumbers", "cancelled")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reuse one timer per method and outcome")
+    void shouldReuseTimerPerMethodAndOutcome() {
+        // When
+        StepVerifier.create(repository.findName()).expectNext("name").verifyComplete();
+        StepVerifier.create(repository.findName()).expectNext("name").verifyComplete();
+
+        // Then
+        assertThat(meterRegistry.find("repository.query").timers()).hasSize(1);
+        assertThat(count("findName", "success")).isEqualTo(2);
+    }
+
+    private long count(String method, String outcome) {
+        return meterRegistry.get("repository.query")
+                .tag("repository", "SampleRepository")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -249,6 +249,21 @@ class BCryptPasswordHashingServiceTest {
         assertThat(service2.verifyPassword(password, hash2)).isTrue();
     }
 
+    @Test
+    @DisplayName("Should verify hashes produced with a different cost factor")
+    void shouldVerifyHashesProducedWithDifferentCostFactor() {
+        // Given
+        String password = "costFactorTest123!";
+        PasswordHashingService lowCostService = new BCryptPasswordHashingService(4);
+
+        // When
+        String hashedPassword = lowCostService.hashPassword(password);
+
+        // Then
+        assertThat(hashedPassword).startsWith("$2a$04$");
+        assertThat(passwordHashingService.verifyPassword(password, hashedPassword)).isTrue();
+    }
+
     @Test
     @DisplayName("Should handle concurrent password operations")
     void shouldHandleConcurrentPasswordOperations() {
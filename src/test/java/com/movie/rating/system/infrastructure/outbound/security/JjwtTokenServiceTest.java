@@ -6,6 +6,7 @@ import com.movie.rating.system.domain.port.outbound.JwtTokenRepository;
 import com.movie.rating.system.domain.port.outbound.JwtTokenService.TokenClaims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -47,6 +48,7 @@ class JjwtTokenServiceTest {
     private JwtTokenRepository jwtTokenRepository;
 
     private JjwtTokenService jwtTokenService;
+    private TokenClaimsCache claimsCache;
     private final String testSecret = "mySecretKey123456789012345678901234567890";
     private final String testIssuer = "test-movie-rating-system";
     private final UUID testUserId = UUID.randomUUID();
@@ -55,7 +57,9 @@ class JjwtTokenServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtTokenService = new JjwtTokenService(jwtTokenRepository, testSecret, testIssuer);
+        claimsCache = new TokenClaimsCache(new SimpleMeterRegistry(), 100);
+        jwtTokenService = new JjwtTokenService(jwtTokenRepository, claimsCache, testSecret, testIssuer, false,
+                Duration.ofDays(7));
         
         // Default mock behavior - using lenient to avoid unnecessary stubbing errors
         lenient().when(jwtTokenRepository.save(any(JwtToken.class)))
@@ -144,6 +148,17 @@ class JjwtTokenServiceTest {
                     .verify();
         }
 
+        @Test
+        @DisplayName("Should reject tokens that outlive the refresh token lifetime")
+        void shouldRejectTokensOutlivingRefreshTokenLifetime() {
+            // When & Then
+            StepVerifier.create(jwtTokenService.generateToken(testUserId, testUsername, testEmail, Duration.ofDays(8)))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+
+            verify(jwtTokenRepository, never()).save(any(JwtToken.class));
+        }
+
         @ParameterizedTest
         @NullAndEmptySource
         @ValueSource(strings = {" ", "\t", "\n"})
@@ -228,6 +243,59 @@ class JjwtTokenServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Token Claims Cache Tests")
+    class TokenClaimsCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated validations from claims cache")
+        void shouldServeRepeatedValidationsFromClaimsCache() {
+            // Given
+            String token = createValidToken(Duration.ofHours(1));
+
+            // When
+            TokenClaims first = jwtTokenService.validateToken(token).block();
+            TokenClaims second = jwtTokenService.validateToken(token).block();
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(claimsCache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache invalid or expired tokens")
+        void shouldNotCacheInvalidOrExpiredTokens() {
+            // Given
+            String expiredToken = createValidToken(Duration.ofHours(-1));
+
+            // When
+            StepVerifier.create(jwtTokenService.validateToken(expiredToken))
+                    .expectError(InvalidTokenException.class)
+                    .verify();
+            StepVerifier.create(jwtTokenService.validateToken("invalid.token"))
+                    .expectError(InvalidTokenException.class)
+                    .verify();
+
+            // Then
+            assertThat(claimsCache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drop cached claims when token is blacklisted")
+        void shouldDropCachedClaimsWhenTokenIsBlacklisted() {
+            // Given
+            String token = createValidToken(Duration.ofHours(1));
+            jwtTokenService.validateToken(token).block();
+
+            // When
+            StepVerifier.create(jwtTokenService.blacklistToken(token, "Logout"))
+                    .verifyComplete();
+
+            // Then
+            assertThat(claimsCache.size()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("Token Validation with Blacklist Tests")
     class TokenValidationWithBlacklistTests {
@@ -497,6 +565,127 @@ class JjwtTokenServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Stateless Access Token Tests")
+    class StatelessAccessTokenTests {
+
+        private JjwtTokenService statelessTokenService;
+
+        @BeforeEach
+        void setUp() {
+            statelessTokenService = new JjwtTokenService(jwtTokenRepository,
+                    new TokenClaimsCache(new SimpleMeterRegistry(), 100), testSecret, testIssuer, true, Duration.ofDays(7));
+        }
+
+        @Test
+        @DisplayName("Should not persist access tokens")
+        void shouldNotPersistAccessTokens() {
+            // When & Then
+            StepVerifier.create(statelessTokenService.generateToken(testUserId, testUsername, testEmail, Duration.ofHours(1)))
+                    .assertNext(token -> assertThat(parseTokenClaims(token).userId()).isEqualTo(testUserId))
+                    .verifyComplete();
+
+            verify(jwtTokenRepository, never()).save(any(JwtToken.class));
+        }
+
+        @Test
+        @DisplayName("Should still persist refresh tokens")
+        void shouldStillPersistRefreshTokens() {
+            // When & Then
+            StepVerifier.create(statelessTokenService.generateToken(testUserId, testUsername, testEmail,
+                            Duration.ofDays(7), Map.of("token_type", "refresh")))
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            verify(jwtTokenRepository).save(any(JwtToken.class));
+        }
+
+        @Test
+        @DisplayName("Should check access tokens against user watermark")
+        void shouldCheckAccessTokensAgainstUserWatermark() {
+            // Given
+            String token = createValidToken(Duration.ofHours(1));
+            when(jwtTokenRepository.isAccessTokenRevoked(eq(testUserId), any(Instant.class)))
+                    .thenReturn(Mono.just(true));
+
+            // When & Then
+            StepVerifier.create(statelessTokenService.validateTokenWithBlacklist(token))
+                    .expectErrorMatches(error ->
+                        error instanceof InvalidTokenException &&
+                        error.getMessage().contains("revoked"))
+                    .verify();
+
+            verify(jwtTokenRepository, never()).isTokenRevoked(anyString());
+        }
+
+        @Test
+        @DisplayName("Should revoke access token by advancing user watermark past its issue time")
+        void shouldRevokeAccessTokenByAdvancingWatermark() {
+            // Given
+            String token = createValidToken(Duration.ofHours(1));
+            Instant issuedAt = parseTokenClaims(token).issuedAt();
+            when(jwtTokenRepository.revokeAccessTokensIssuedBefore(eq(testUserId), any(Instant.class)))
+                    .thenReturn(Mono.empty());
+
+            // When & Then
+            StepVerifier.create(statelessTokenService.blacklistToken(token, "User logout"))
+                    .verifyComplete();
+
+            ArgumentCaptor<Instant> watermarkCaptor = ArgumentCaptor.forClass(Instant.class);
+            verify(jwtTokenRepository).revokeAccessTokensIssuedBefore(eq(testUserId), watermarkCaptor.capture());
+            assertThat(watermarkCaptor.getValue()).isEqualTo(issuedAt.plusMillis(1));
+            verify(jwtTokenRepository, never()).revokeByTokenHash(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should keep access token from a new login right after logout valid")
+        void shouldKeepAccessTokenIssuedAfterLogoutValid() throws InterruptedException {
+            // Given
+            String loggedOut = statelessTokenService.generateToken(testUserId, testUsername, testEmail, Duration.ofHours(1)).block();
+            when(jwtTokenRepository.revokeAccessTokensIssuedBefore(eq(testUserId), any(Instant.class)))
+                    .thenReturn(Mono.empty());
+            StepVerifier.create(statelessTokenService.blacklistToken(loggedOut, "User logout"))
+                    .verifyComplete();
+            ArgumentCaptor<Instant> watermarkCaptor = ArgumentCaptor.forClass(Instant.class);
+            verify(jwtTokenRepository).revokeAccessTokensIssuedBefore(eq(testUserId), watermarkCaptor.capture());
+            Thread.sleep(2);
+
+            // When
+            String relogin = statelessTokenService.generateToken(testUserId, testUsername, testEmail, Duration.ofHours(1)).block();
+
+            // Then - compared with millisecond precision, not the second of the iat claim
+            StepVerifier.create(statelessTokenService.validateToken(relogin))
+                    .assertNext(claims -> {
+                        assertThat(claims.issuedAt()).isAfterOrEqualTo(watermarkCaptor.getValue());
+                        assertThat(claims.customClaims()).doesNotContainKey("iat_ms");
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should revoke refresh tokens by hash")
+        void shouldRevokeRefreshTokensByHash() {
+            // Given
+            String refreshToken = Jwts.builder()
+                    .subject(testUserId.toString())
+                    .issuedAt(new Date())
+                    .expiration(Date.from(Instant.now().plus(7, ChronoUnit.DAYS)))
+                    .claim("user_id", testUserId.toString())
+                    .claim("username", testUsername)
+                    .claim("email", testEmail)
+                    .claim("token_type", "refresh")
+                    .signWith(Keys.hmacShaKeyFor(testSecret.getBytes()))
+                    .compact();
+
+            // When & Then
+            StepVerifier.create(statelessTokenService.blacklistToken(refreshToken, "Token refreshed"))
+                    .verifyComplete();
+
+            verify(jwtTokenRepository).revokeByTokenHash(anyString(), eq("Token refreshed"));
+            verify(jwtTokenRepository, never()).revokeAccessTokensIssuedBefore(any(UUID.class), any(Instant.class));
+        }
+    }
+
     @Nested
     @DisplayName("Integration Tests")
     class IntegrationTests {
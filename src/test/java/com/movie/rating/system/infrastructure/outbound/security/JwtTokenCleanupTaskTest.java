@@ -0,0 +1,111 @@
+package com.movie.rating.system.infrastructure.outbound.security;
+
+import com.movie.rating.system.domain.port.outbound.JwtTokenRepository;
+import com.movie.rating.system.infrastructure.outbound.persistence.lock.AdvisoryLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JwtTokenCleanupTask.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT Token Cleanup Task Tests")
+class JwtTokenCleanupTaskTest {
+
+    @Mock
+    private JwtTokenRepository jwtTokenRepository;
+
+    @Mock
+    private AdvisoryLock advisoryLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenCleanupTask task;
+    private final Instant now = Instant.parse("2024-03-15T22:30:00Z");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        task = new JwtTokenCleanupTask(jwtTokenRepository, advisoryLock, meterRegistry,
+                Duration.ofDays(30), Duration.ofDays(7), Duration.ofHours(1), Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Should create upcoming partitions and drop partitions past retention")
+    void shouldCreateUpcomingPartitionsAndDropExpiredOnes() {
+        // Given
+        holdLock();
+        when(jwtTokenRepository.createPartitions(LocalDate.parse("2024-03-15"), LocalDate.parse("2024-03-29")))
+                .thenReturn(Mono.just(1));
+        when(jwtTokenRepository.dropPartitionsBefore(LocalDate.parse("2024-02-14")))
+                .thenReturn(Mono.just(2));
+        when(jwtTokenRepository.deleteAccessTokenWatermarksBefore(Instant.parse("2024-03-15T21:30:00Z")))
+                .thenReturn(Mono.just(3));
+
+        // When & Then
+        StepVerifier.create(task.cleanup(now))
+                .expectNext(2)
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("jwt.tokens.partitions.created").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jwt.tokens.partitions.dropped").counter().count()).isEqualTo(2.0);
+        assertThat(runs("completed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record a failed run when partitions cannot be dropped")
+    void shouldRecordFailedRunWhenDropFails() {
+        // Given
+        holdLock();
+        when(jwtTokenRepository.createPartitions(any(), any())).thenReturn(Mono.just(0));
+        when(jwtTokenRepository.dropPartitionsBefore(any()))
+                .thenReturn(Mono.error(new RuntimeException("canceling statement due to lock timeout")));
+
+        // When & Then
+        StepVerifier.create(task.cleanup(now))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        assertThat(runs("failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should skip the run while another node holds the lock")
+    void shouldSkipRunWhileAnotherNodeHoldsLock() {
+        // Given
+        when(advisoryLock.runExclusively(eq(JwtTokenCleanupTask.LOCK_NAME), any())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(task.cleanup(now))
+                .verifyComplete();
+
+        verify(jwtTokenRepository, never()).dropPartitionsBefore(any());
+        assertThat(runs("skipped")).isEqualTo(1.0);
+    }
+
+    private void holdLock() {
+        when(advisoryLock.runExclusively(eq(JwtTokenCleanupTask.LOCK_NAME), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    private double runs(String outcome) {
+        return meterRegistry.get("jwt.tokens.cleanup.runs").tag("outcome", outcome).counter().count();
+    }
+}
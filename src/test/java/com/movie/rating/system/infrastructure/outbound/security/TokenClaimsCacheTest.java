@@ -0,0 +1,101 @@
+package com.movie.rating.system.infrastructure.outbound.security;
+
+import com.movie.rating.system.domain.port.outbound.JwtTokenService.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenClaimsCache.
+ */
+@DisplayName("Token Claims Cache Tests")
+class TokenClaimsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TokenClaimsCache(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Should return cached claims until the token expires")
+    void shouldReturnCachedClaimsUntilTokenExpires() {
+        // Given
+        TokenClaims valid = claimsExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        TokenClaims expired = claimsExpiringAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+        cache.put("valid-hash", valid);
+        cache.put("expired-hash", expired);
+
+        // When & Then
+        assertThat(cache.get("valid-hash")).contains(valid);
+        assertThat(cache.get("expired-hash")).isEmpty();
+        assertThat(cache.get("unknown-hash")).isEmpty();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not grow beyond its maximum size")
+    void shouldNotGrowBeyondMaximumSize() {
+        // Given
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+        cache.put("first", claimsExpiringAt(expiresAt));
+        cache.put("second", claimsExpiringAt(expiresAt));
+
+        // When
+        cache.put("third", claimsExpiringAt(expiresAt));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should make room by evicting expired entries when full")
+    void shouldEvictExpiredEntriesWhenFull() {
+        // Given
+        cache.put("expired", claimsExpiringAt(Instant.now().minus(1, ChronoUnit.MINUTES)));
+        cache.put("valid", claimsExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // When
+        cache.put("new", claimsExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("new")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should drop invalidated claims")
+    void shouldDropInvalidatedClaims() {
+        // Given
+        cache.put("revoked", claimsExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // When
+        cache.invalidate("revoked");
+
+        // Then
+        assertThat(cache.get("revoked")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private TokenClaims claimsExpiringAt(Instant expiresAt) {
+        return new TokenClaims(UUID.randomUUID(), "testuser", "test@example.com",
+                Instant.now().minus(1, ChronoUnit.HOURS), expiresAt, Map.of());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("jwt.claims.cache.lookups").tag("result", result).counter().count();
+    }
+}
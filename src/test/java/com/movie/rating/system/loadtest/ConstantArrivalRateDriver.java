@@ -0,0 +1,66 @@
+package com.movie.rating.system.loadtest;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the workload at a constant arrival rate (open model).
+ * Requests start on a fixed schedule whether or not earlier ones have finished, so a slow
+ * system builds up a queue instead of quietly receiving less load. Latency is measured from
+ * the scheduled start of each request. Arrivals beyond the in-flight limit are dropped and
+ * counted rather than delayed.
+ */
+public class ConstantArrivalRateDriver {
+
+    private final MixedWorkload workload;
+    private final LoadTestSettings settings;
+    private final long intervalNanos;
+
+    public ConstantArrivalRateDriver(MixedWorkload workload, LoadTestSettings settings) {
+        this.workload = workload;
+        this.settings = settings;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+    }
+
+    /**
+     * Runs the workload for the given duration and waits for requests still in flight.
+     *
+     * @return the time from the first arrival until the last response
+     */
+    public Duration run(Duration duration, LatencyRecorder recorder) {
+        long arrivals = duration.toNanos() / intervalNanos;
+        if (arrivals == 0) {
+            return Duration.ZERO;
+        }
+
+        long startedAt = System.nanoTime();
+        Flux.interval(Duration.ofNanos(intervalNanos))
+                .take(arrivals)
+                .onBackpressureDrop(arrival -> recorder.recordDropped())
+                .flatMap(arrival -> send(arrival, startedAt + (arrival + 1) * intervalNanos, recorder),
+                        settings.maxInFlight())
+                .blockLast();
+
+        return Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+    private Mono<Void> send(long arrival, long scheduledAt, LatencyRecorder recorder) {
+        LoadOperation operation = workload.nextOperation();
+
+        return workload.execute(operation, (int) (arrival % settings.clients()))
+                .timeout(settings.requestTimeout())
+                .onErrorReturn(false)
+                .doOnNext(successful -> {
+                    if (successful) {
+                        recorder.recordSuccess(operation, System.nanoTime() - scheduledAt);
+                    } else {
+                        recorder.recordError(operation);
+                    }
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> recorder.recordSkipped(operation)))
+                .then();
+    }
+}
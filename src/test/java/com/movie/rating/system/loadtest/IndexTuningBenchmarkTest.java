@@ -0,0 +1,190 @@
+package com.movie.rating.system.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares rating write throughput and hot read latencies with the indexes as of V12 and
+ * after the partial index tuning of V13, on the same generated data set. The keyset listings
+ * by movie and by user use the partial indexes from V8 in both schemas, so they act as a control.
+ * Excluded from the regular build; run with {@code mvn -P load-test test -Dtest=IndexTuningBenchmarkTest}.
+ * The data set size can be set with {@code index-benchmark.users}, {@code index-benchmark.movies},
+ * {@code index-benchmark.ratings} and {@code index-benchmark.queries}; the report is written to
+ * {@code target/load-test/index-tuning.txt}.
+ */
+@Slf4j
+@Tag("load")
+@Testcontainers
+@DisplayName("Index Tuning Benchmark")
+class IndexTuningBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("index-benchmark.users", 2_000);
+    private static final int MOVIES = Integer.getInteger("index-benchmark.movies", 1_000);
+    private static final int RATINGS = (int) Math.min(Integer.getInteger("index-benchmark.ratings", 500_000), (long) USERS * MOVIES);
+    private static final int QUERIES = Integer.getInteger("index-benchmark.queries", 2_000);
+
+    private static final List<Read> READS = List.of(
+            new Read("ratings by movie", "SELECT * FROM movie_ratings WHERE movie_id = ? AND is_active = true ORDER BY created_at DESC, id DESC LIMIT 20",
+                    "SELECT id FROM movies"),
+            new Read("ratings by user", "SELECT * FROM movie_ratings WHERE user_id = ? AND is_active = true ORDER BY created_at DESC, id DESC LIMIT 20",
+                    "SELECT id FROM users"),
+            new Read("recent ratings", "SELECT * FROM movie_ratings WHERE is_active = true ORDER BY created_at DESC LIMIT 20", null),
+            new Read("movies by creator", "SELECT * FROM movies WHERE created_by = ? AND is_active = true ORDER BY created_at DESC LIMIT 20",
+                    "SELECT DISTINCT created_by FROM movies"),
+            new Read("movies by year", "SELECT * FROM movies WHERE year_of_release = ? AND is_active = true ORDER BY title LIMIT 20",
+                    "SELECT DISTINCT year_of_release FROM movies"),
+            new Read("movies by title", "SELECT * FROM movies WHERE is_active = true ORDER BY title LIMIT 20", null));
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withDatabaseName("index_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Test
+    @DisplayName("Should compare write throughput and read latency before and after index tuning")
+    void shouldCompareIndexesBeforeAndAfterTuning() throws SQLException, IOException {
+        // Given & When
+        Result before = run("12");
+        Result after = run("13");
+
+        // Then
+        String report = before.describe() + System.lineSeparator() + after.describe();
+        Path reportFile = Path.of(System.getProperty("load.report-dir", "target/load-test"), "index-tuning.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+        log.info("Index tuning benchmark with {} ratings, report in {}{}{}",
+                RATINGS, reportFile.toAbsolutePath(), System.lineSeparator(), report);
+
+        assertThat(after.ratingIndexBytes() + after.movieIndexBytes())
+                .isLessThan(before.ratingIndexBytes() + before.movieIndexBytes());
+    }
+
+    private Result run(String targetVersion) throws SQLException {
+        Flyway flyway = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .target(targetVersion)
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (username, email, password_hash)
+                    SELECT 'user' || g, 'user' || g || '@example.com', 'hash' FROM generate_series(1, %d) g
+                    """.formatted(USERS));
+            statement.execute("""
+                    WITH u AS (SELECT array_agg(id ORDER BY id) AS ids FROM users)
+                    INSERT INTO movies (title, year_of_release, created_by, is_active)
+                    SELECT 'Movie ' || g, 1950 + g %% 70, u.ids[g %% %d + 1], random() >= 0.1
+                    FROM u, generate_series(1, %d) g
+                    """.formatted(USERS, MOVIES));
+
+            long insertStarted = System.nanoTime();
+            statement.execute("""
+                    WITH m AS (SELECT array_agg(id ORDER BY id) AS ids FROM movies),
+                         u AS (SELECT array_agg(id ORDER BY id) AS ids FROM users)
+                    INSERT INTO movie_ratings (movie_id, user_id, rating, is_active, created_at, updated_at)
+                    SELECT m.ids[g %% %1$d + 1], u.ids[g / %1$d + 1], 1 + (random() * 9)::int, true,
+                           now() - random() * interval '365 days', now()
+                    FROM m, u, generate_series(0, %2$d - 1) g
+                    """.formatted(MOVIES, RATINGS));
+            long insertNanos = System.nanoTime() - insertStarted;
+
+            long deactivateStarted = System.nanoTime();
+            int deactivated = statement.executeUpdate("UPDATE movie_ratings SET is_active = false WHERE random() < 0.1");
+            long deactivateNanos = System.nanoTime() - deactivateStarted;
+
+            statement.execute("ANALYZE");
+
+            Map<String, Histogram> latencies = new LinkedHashMap<>();
+            for (Read read : READS) {
+                List<Object> parameters = read.parameterQuery() == null ? null : values(statement, read.parameterQuery());
+                latencies.put(read.name(), measure(connection, read.sql(), parameters));
+            }
+
+            long ratingIndexBytes;
+            long movieIndexBytes;
+            try (ResultSet resultSet = statement.executeQuery("SELECT pg_indexes_size('movie_ratings'), pg_indexes_size('movies')")) {
+                resultSet.next();
+                ratingIndexBytes = resultSet.getLong(1);
+                movieIndexBytes = resultSet.getLong(2);
+            }
+
+            return new Result("V" + targetVersion, RATINGS * 1e9 / insertNanos,
+                    deactivated * 1e9 / deactivateNanos, ratingIndexBytes, movieIndexBytes, latencies);
+        }
+    }
+
+    private Histogram measure(Connection connection, String sql, List<Object> parameters) throws SQLException {
+        Histogram histogram = new Histogram(TimeUnit.SECONDS.toMicros(10), 3);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < QUERIES; i++) {
+                if (parameters != null) {
+                    statement.setObject(1, parameters.get(ThreadLocalRandom.current().nextInt(parameters.size())));
+                }
+                long started = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        // Read every row so decoding is included
+                    }
+                }
+                histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started)));
+            }
+        }
+        return histogram;
+    }
+
+    private static List<Object> values(Statement statement, String sql) throws SQLException {
+        List<Object> values = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getObject(1));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * A measured read, with the query that yields the values to bind to its single parameter, if any
+     */
+    private record Read(String name, String sql, String parameterQuery) {}
+
+    private record Result(String schema, double insertRowsPerSecond, double deactivateRowsPerSecond,
+                          long ratingIndexBytes, long movieIndexBytes, Map<String, Histogram> latencies) {
+
+        String describe() {
+            StringBuilder text = new StringBuilder()
+                    .append(String.format("%s: inserts %.0f rows/s, deactivations %.0f rows/s, indexes movie_ratings %d MB, movies %d kB%n",
+                            schema, insertRowsPerSecond, deactivateRowsPerSecond,
+                            ratingIndexBytes / (1024 * 1024), movieIndexBytes / 1024));
+            latencies.forEach((name, histogram) -> text.append(String.format("  %-18s p50 %6d us  p99 %6d us%n",
+                    name, histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99))));
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.movie.rating.system.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records response times per operation in HdrHistograms, in microseconds.
+ * Latency is measured from when a request was scheduled to start rather than when it was sent,
+ * so time spent queued behind a slow system is included instead of hidden.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LoadOperation, Histogram> successes = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> skipped = new EnumMap<>(LoadOperation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    public LatencyRecorder() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            successes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+            skipped.put(operation, new LongAdder());
+        }
+    }
+
+    public void recordSuccess(LoadOperation operation, long latencyNanos) {
+        successes.get(operation).recordValue(Math.min(toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordError(LoadOperation operation) {
+        errors.get(operation).increment();
+    }
+
+    /**
+     * Records an operation that was due but had nothing left to do, e.g. a user who rated every movie.
+     */
+    public void recordSkipped(LoadOperation operation) {
+        skipped.get(operation).increment();
+    }
+
+    /**
+     * Records an arrival that was not sent because too many requests were already in flight.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public Histogram histogram(LoadOperation operation) {
+        return successes.get(operation);
+    }
+
+    public long errors(LoadOperation operation) {
+        return errors.get(operation).sum();
+    }
+
+    public long skipped(LoadOperation operation) {
+        return skipped.get(operation).sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
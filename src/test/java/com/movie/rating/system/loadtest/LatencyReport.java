@@ -0,0 +1,134 @@
+package com.movie.rating.system.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Latency percentiles per operation of a load-test run, checked against the latency objectives.
+ * Written as a summary table plus one HdrHistogram percentile distribution ({@code .hgrm}) per
+ * operation, in milliseconds, which can be plotted with the HdrHistogram plotter.
+ */
+public class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final List<OperationSummary> operations;
+    private final LatencyRecorder recorder;
+    private final Duration elapsed;
+    private final long dropped;
+
+    private LatencyReport(List<OperationSummary> operations, LatencyRecorder recorder, Duration elapsed) {
+        this.operations = operations;
+        this.recorder = recorder;
+        this.elapsed = elapsed;
+        this.dropped = recorder.dropped();
+    }
+
+    public static LatencyReport of(LatencyRecorder recorder, LoadTestSettings settings, Duration elapsed) {
+        List<OperationSummary> operations = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = recorder.histogram(operation);
+            long errors = recorder.errors(operation);
+            long total = histogram.getTotalCount() + errors;
+            if (total == 0 && recorder.skipped(operation) == 0) {
+                continue;
+            }
+
+            operations.add(new OperationSummary(
+                    operation,
+                    histogram.getTotalCount(),
+                    errors,
+                    recorder.skipped(operation),
+                    total / Math.max(elapsed.toMillis() / 1_000.0, 0.001),
+                    millis(histogram, 50.0),
+                    millis(histogram, 90.0),
+                    millis(histogram, 99.0),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / MICROS_PER_MILLI,
+                    settings.p99Objectives().get(operation).toMillis(),
+                    total == 0 ? 0.0 : (double) errors / total,
+                    settings.maxErrorRate()
+            ));
+        }
+        return new LatencyReport(List.copyOf(operations), recorder, elapsed);
+    }
+
+    public List<OperationSummary> operations() {
+        return operations;
+    }
+
+    /**
+     * Operations that missed their latency objective or failed too often.
+     */
+    public List<OperationSummary> violations() {
+        return operations.stream()
+                .filter(summary -> !summary.meetsObjectives())
+                .toList();
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Load test ran for %d s, %d arrivals dropped%n".formatted(elapsed.toSeconds(), dropped));
+        summary.append("%-8s %9s %7s %7s %9s %9s %9s %9s %9s %9s %9s %6s%n".formatted(
+                "endpoint", "ok", "errors", "skipped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms", "SLO ms", "SLO"));
+        for (OperationSummary operation : operations) {
+            summary.append(String.format(Locale.ROOT, "%-8s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9d %6s%n",
+                    operation.operation().key(), operation.succeeded(), operation.errors(), operation.skipped(),
+                    operation.throughput(), operation.p50(), operation.p90(), operation.p99(), operation.p999(),
+                    operation.max(), operation.p99Objective(), operation.meetsObjectives() ? "pass" : "FAIL"));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes {@code summary.txt} and one {@code <operation>.hgrm} per operation to the given directory.
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.txt"), summary());
+
+        for (OperationSummary operation : operations) {
+            Path file = directory.resolve(operation.operation().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                recorder.histogram(operation.operation()).outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    /**
+     * Latency percentiles of one operation, in milliseconds.
+     */
+    public record OperationSummary(
+            LoadOperation operation,
+            long succeeded,
+            long errors,
+            long skipped,
+            double throughput,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            long p99Objective,
+            double errorRate,
+            double maxErrorRate
+    ) {
+
+        public boolean meetsObjectives() {
+            return p99 <= p99Objective && errorRate <= maxErrorRate;
+        }
+    }
+}
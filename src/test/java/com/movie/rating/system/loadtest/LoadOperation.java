@@ -0,0 +1,41 @@
+package com.movie.rating.system.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Operations of the mixed load-test workload.
+ * Each operation has a default share of the traffic and a default p99 latency objective,
+ * both of which can be overridden through {@link LoadTestSettings}.
+ */
+public enum LoadOperation {
+
+    // Login runs BCrypt at strength 12, so it gets a much looser objective than the rest
+    LOGIN("login", 5, Duration.ofMillis(1500)),
+    REFRESH("refresh", 10, Duration.ofMillis(200)),
+    BROWSE("browse", 30, Duration.ofMillis(250)),
+    RATE("rate", 15, Duration.ofMillis(300)),
+    STATS("stats", 25, Duration.ofMillis(150)),
+    SEARCH("search", 15, Duration.ofMillis(300));
+
+    private final String key;
+    private final int defaultWeight;
+    private final Duration defaultP99;
+
+    LoadOperation(String key, int defaultWeight, Duration defaultP99) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+        this.defaultP99 = defaultP99;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+
+    public Duration defaultP99() {
+        return defaultP99;
+    }
+}
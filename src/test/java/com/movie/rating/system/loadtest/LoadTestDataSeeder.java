@@ -0,0 +1,123 @@
+package com.movie.rating.system.loadtest;
+
+import com.movie.rating.system.infrastructure.outbound.security.BCryptPasswordHashingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds the load-test data set directly in the database.
+ * Going through the API would hash every password with BCrypt and take minutes for a realistic
+ * data set, so users, movies and ratings are generated with set-based inserts instead. All users
+ * share {@link #PASSWORD}, hashed once.
+ *
+ * <p>Rows are generated from an index {@code i}: users are named {@code load_user_<i>} and movies
+ * titled {@code Load Movie <i> <word>}, zero-padded so ordering by name matches the index. Rating
+ * {@code r} belongs to user {@code r % users} and movie {@code r / users}, which keeps every
+ * (user, movie) pair unique and tells the workload which movies a user has not rated yet.
+ */
+@Slf4j
+public class LoadTestDataSeeder {
+
+    public static final String PASSWORD = "LoadTest123!";
+
+    /**
+     * Words used in movie titles and plots; the search operation queries for them.
+     */
+    public static final List<String> TITLE_WORDS = List.of(
+            "Galaxy", "Shadow", "River", "Empire", "Midnight", "Storm", "Garden", "Echo", "Harbor", "Frontier");
+
+    private static final String WORDS_ARRAY = "ARRAY['" + String.join("', '", TITLE_WORDS) + "']";
+
+    private static final String INSERT_USERS = """
+            INSERT INTO users (id, username, email, password_hash, first_name, last_name)
+            SELECT md5('load-user-' || i)::uuid,
+                   'load_user_' || lpad(i::text, 7, '0'),
+                   'load_user_' || lpad(i::text, 7, '0') || '@example.com',
+                   :passwordHash,
+                   'Load',
+                   'User ' || i
+            FROM generate_series(0, :users - 1) AS i
+            """;
+
+    private static final String INSERT_MOVIES = """
+            INSERT INTO movies (id, title, plot, year_of_release, created_by)
+            SELECT md5('load-movie-' || i)::uuid,
+                   'Load Movie ' || lpad(i::text, 7, '0') || ' ' || (%1$s)[i %% %2$d + 1],
+                   repeat('A story about the ' || (%1$s)[(i / %2$d) %% %2$d + 1] || ' and everything around it. ', 8),
+                   1950 + i %% 70,
+                   md5('load-user-' || (i %% :users))::uuid
+            FROM generate_series(0, :movies - 1) AS i
+            """.formatted(WORDS_ARRAY, TITLE_WORDS.size());
+
+    private static final String INSERT_RATINGS = """
+            INSERT INTO movie_ratings (movie_id, user_id, rating, review)
+            SELECT md5('load-movie-' || (i / :users))::uuid,
+                   md5('load-user-' || (i % :users))::uuid,
+                   1 + i % 5,
+                   CASE WHEN i % 3 = 0 THEN 'Seeded review number ' || i END
+            FROM generate_series(0, :ratings - 1) AS i
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public LoadTestDataSeeder(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Inserts the data set and returns what the workload needs to address it.
+     */
+    public Mono<SeededData> seed(LoadTestSettings settings) {
+        String passwordHash = new BCryptPasswordHashingService().hashPassword(PASSWORD);
+
+        Mono<Long> users = databaseClient.sql(INSERT_USERS)
+                .bind("passwordHash", passwordHash)
+                .bind("users", settings.users())
+                .fetch()
+                .rowsUpdated();
+        Mono<Long> movies = databaseClient.sql(INSERT_MOVIES)
+                .bind("users", settings.users())
+                .bind("movies", settings.movies())
+                .fetch()
+                .rowsUpdated();
+        Mono<Long> ratings = databaseClient.sql(INSERT_RATINGS)
+                .bind("users", settings.users())
+                .bind("ratings", settings.ratings())
+                .fetch()
+                .rowsUpdated();
+
+        return users.doOnNext(count -> log.info("Seeded {} users", count))
+                .then(movies.doOnNext(count -> log.info("Seeded {} movies", count)))
+                .then(ratings.doOnNext(count -> log.info("Seeded {} ratings", count)))
+                .then(databaseClient.sql("SELECT id FROM movies ORDER BY title")
+                        .map(row -> row.get("id", UUID.class))
+                        .all()
+                        .collectList())
+                .map(movieIds -> new SeededData(settings.users(), settings.ratings(), movieIds));
+    }
+
+    /**
+     * The seeded data set.
+     *
+     * @param users    number of seeded users
+     * @param ratings  number of seeded ratings
+     * @param movieIds movie IDs ordered by their seed index
+     */
+    public record SeededData(int users, int ratings, List<UUID> movieIds) {
+
+        public static String username(int userIndex) {
+            return "load_user_%07d".formatted(userIndex);
+        }
+
+        /**
+         * Index of the first movie the given user has not rated in the seeded data.
+         */
+        public int firstUnratedMovie(int userIndex) {
+            return userIndex >= ratings ? 0 : (ratings - userIndex + users - 1) / users;
+        }
+    }
+}
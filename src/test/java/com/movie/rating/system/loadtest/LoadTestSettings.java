@@ -0,0 +1,90 @@
+package com.movie.rating.system.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load-test run, read from system properties so they can be passed on the
+ * Maven command line, e.g. {@code mvn -P load-test test -Dload.rate=200 -Dload.duration=PT2M}.
+ *
+ * <ul>
+ *   <li>{@code load.users}, {@code load.movies}, {@code load.ratings}: size of the seeded data set</li>
+ *   <li>{@code load.sessions}: number of seeded users logged in up front to drive authenticated requests</li>
+ *   <li>{@code load.clients}: number of WebClient instances, each with its own connection pool</li>
+ *   <li>{@code load.rate}: requests started per second, independent of how fast responses arrive</li>
+ *   <li>{@code load.warmup}, {@code load.duration}: ISO-8601 durations of the discarded warmup and the measured run</li>
+ *   <li>{@code load.max-in-flight}: requests allowed in flight before new arrivals are dropped and counted</li>
+ *   <li>{@code load.request-timeout}: requests slower than this are recorded as errors</li>
+ *   <li>{@code load.weight.<operation>}: share of the traffic per operation</li>
+ *   <li>{@code load.slo.<operation>.p99}: p99 latency objective per operation, ISO-8601</li>
+ *   <li>{@code load.max-error-rate}: tolerated share of failed requests per operation</li>
+ *   <li>{@code load.report-dir}: where the reports are written</li>
+ * </ul>
+ */
+public record LoadTestSettings(
+        int users,
+        int movies,
+        int ratings,
+        int sessions,
+        int clients,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        Duration requestTimeout,
+        Map<LoadOperation, Integer> weights,
+        Map<LoadOperation, Duration> p99Objectives,
+        double maxErrorRate,
+        Path reportDirectory
+) {
+
+    public LoadTestSettings {
+        if (users <= 0 || movies <= 0 || sessions <= 0 || clients <= 0 || rate <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("Users, movies, sessions, clients, rate and max in flight must be positive");
+        }
+        if (sessions > users) {
+            throw new IllegalArgumentException("Sessions cannot exceed the number of users");
+        }
+        // Every seeded rating needs its own (user, movie) pair
+        ratings = (int) Math.min(ratings, (long) users * movies);
+        weights = Map.copyOf(weights);
+        p99Objectives = Map.copyOf(p99Objectives);
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Duration> p99Objectives = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            weights.put(operation, intProperty("load.weight." + operation.key(), operation.defaultWeight()));
+            p99Objectives.put(operation, durationProperty("load.slo." + operation.key() + ".p99", operation.defaultP99()));
+        }
+
+        return new LoadTestSettings(
+                intProperty("load.users", 1_000),
+                intProperty("load.movies", 5_000),
+                intProperty("load.ratings", 50_000),
+                intProperty("load.sessions", 50),
+                intProperty("load.clients", 4),
+                intProperty("load.rate", 100),
+                durationProperty("load.warmup", Duration.ofSeconds(10)),
+                durationProperty("load.duration", Duration.ofSeconds(60)),
+                intProperty("load.max-in-flight", 512),
+                durationProperty("load.request-timeout", Duration.ofSeconds(10)),
+                weights,
+                p99Objectives,
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")),
+                Path.of(System.getProperty("load.report-dir", "target/load-test"))
+        );
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static Duration durationProperty(String name, Duration defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Duration.parse(value);
+    }
+}
@@ -0,0 +1,180 @@
+package com.movie.rating.system.loadtest;
+
+import com.movie.rating.system.infrastructure.inbound.web.dto.request.CreateMovieRatingRequest;
+import com.movie.rating.system.infrastructure.inbound.web.dto.request.LoginRequestDto;
+import com.movie.rating.system.infrastructure.inbound.web.dto.request.RefreshTokenRequestDto;
+import com.movie.rating.system.infrastructure.inbound.web.dto.response.AuthenticationResponseDto;
+import com.movie.rating.system.loadtest.LoadTestDataSeeder.SeededData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The mixed workload: login, token refresh, movie browse, rating create, stats read and search,
+ * picked at random according to the configured weights.
+ * Authenticated operations run as one of the sessions logged in by {@link #connect}.
+ */
+@Slf4j
+public class MixedWorkload implements AutoCloseable {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int SESSION_LOGIN_CONCURRENCY = 8;
+
+    private final List<WebClient> clients;
+    private final List<ConnectionProvider> connectionProviders;
+    private final List<Session> sessions;
+    private final SeededData data;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    private MixedWorkload(List<WebClient> clients, List<ConnectionProvider> connectionProviders,
+                          List<Session> sessions, SeededData data, LoadTestSettings settings) {
+        this.clients = clients;
+        this.connectionProviders = connectionProviders;
+        this.sessions = sessions;
+        this.data = data;
+        this.operations = LoadOperation.values();
+        this.cumulativeWeights = new int[operations.length];
+
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.weights().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one operation needs a positive weight");
+        }
+    }
+
+    /**
+     * Creates the WebClients, each with its own connection pool, and logs in the sessions.
+     */
+    public static MixedWorkload connect(WebClient.Builder webClientBuilder, String baseUrl,
+                                        LoadTestSettings settings, SeededData data) {
+        List<WebClient> clients = new ArrayList<>();
+        List<ConnectionProvider> connectionProviders = new ArrayList<>();
+        for (int i = 0; i < settings.clients(); i++) {
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test-" + i)
+                    .maxConnections(Math.max(1, settings.maxInFlight() / settings.clients()))
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            connectionProviders.add(connectionProvider);
+            clients.add(webClientBuilder.clone()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                    .build());
+        }
+
+        WebClient loginClient = clients.getFirst();
+        List<Session> sessions = Flux.range(0, settings.sessions())
+                .flatMap(userIndex -> loginClient.post()
+                        .uri("/api/v1/auth/login")
+                        .bodyValue(new LoginRequestDto(SeededData.username(userIndex), LoadTestDataSeeder.PASSWORD))
+                        .retrieve()
+                        .bodyToMono(AuthenticationResponseDto.class)
+                        .map(response -> new Session(response.accessToken(), response.refreshToken(),
+                                new AtomicInteger(data.firstUnratedMovie(userIndex)))),
+                        SESSION_LOGIN_CONCURRENCY)
+                .collectList()
+                .block();
+        log.info("Logged in {} load-test sessions", sessions.size());
+
+        return new MixedWorkload(clients, connectionProviders, sessions, data, settings);
+    }
+
+    /**
+     * Picks the next operation according to the weights.
+     */
+    public LoadOperation nextOperation() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights do not cover " + value);
+    }
+
+    /**
+     * Executes the operation with the given client.
+     *
+     * @return whether the response was successful, or empty if there was nothing to do
+     */
+    public Mono<Boolean> execute(LoadOperation operation, int client) {
+        WebClient webClient = clients.get(client % clients.size());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Session session = sessions.get(random.nextInt(sessions.size()));
+
+        return switch (operation) {
+            case LOGIN -> webClient.post()
+                    .uri("/api/v1/auth/login")
+                    .bodyValue(new LoginRequestDto(SeededData.username(random.nextInt(data.users())),
+                            LoadTestDataSeeder.PASSWORD))
+                    .exchangeToMono(MixedWorkload::isSuccessful);
+            case REFRESH -> webClient.post()
+                    .uri("/api/v1/auth/refresh")
+                    .bodyValue(new RefreshTokenRequestDto(session.refreshToken()))
+                    .exchangeToMono(MixedWorkload::isSuccessful);
+            case BROWSE -> webClient.get()
+                    .uri("/api/v1/movies?after=&size={size}", PAGE_SIZE)
+                    .headers(headers -> headers.setBearerAuth(session.accessToken()))
+                    .exchangeToMono(MixedWorkload::isSuccessful);
+            case RATE -> rate(webClient, session, random);
+            case STATS -> webClient.get()
+                    .uri("/api/v1/movies/{movieId}/ratings/stats", randomMovie(random))
+                    .headers(headers -> headers.setBearerAuth(session.accessToken()))
+                    .exchangeToMono(MixedWorkload::isSuccessful);
+            case SEARCH -> webClient.get()
+                    .uri("/api/v1/movies/search?q={query}&size={size}",
+                            LoadTestDataSeeder.TITLE_WORDS.get(random.nextInt(LoadTestDataSeeder.TITLE_WORDS.size())),
+                            PAGE_SIZE)
+                    .headers(headers -> headers.setBearerAuth(session.accessToken()))
+                    .exchangeToMono(MixedWorkload::isSuccessful);
+        };
+    }
+
+    private Mono<Boolean> rate(WebClient webClient, Session session, ThreadLocalRandom random) {
+        int movieIndex = session.nextUnratedMovie().getAndIncrement();
+        if (movieIndex >= data.movieIds().size()) {
+            return Mono.empty();
+        }
+
+        CreateMovieRatingRequest request = new CreateMovieRatingRequest(
+                data.movieIds().get(movieIndex),
+                1 + random.nextInt(5),
+                random.nextBoolean() ? "Rated during the load test" : null);
+
+        return webClient.post()
+                .uri("/api/v1/ratings")
+                .headers(headers -> headers.setBearerAuth(session.accessToken()))
+                .bodyValue(request)
+                .exchangeToMono(MixedWorkload::isSuccessful);
+    }
+
+    private UUID randomMovie(ThreadLocalRandom random) {
+        return data.movieIds().get(random.nextInt(data.movieIds().size()));
+    }
+
+    private static Mono<Boolean> isSuccessful(ClientResponse response) {
+        return response.releaseBody().thenReturn(response.statusCode().is2xxSuccessful());
+    }
+
+    @Override
+    public void close() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private record Session(String accessToken, String refreshToken, AtomicInteger nextUnratedMovie) {
+    }
+}
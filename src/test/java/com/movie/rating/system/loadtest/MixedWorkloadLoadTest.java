@@ -0,0 +1,69 @@
+package com.movie.rating.system.loadtest;
+
+import com.movie.rating.system.TestcontainersConfiguration;
+import com.movie.rating.system.loadtest.LoadTestDataSeeder.SeededData;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test against the application backed by a Testcontainers Postgres.
+ * Excluded from the regular build; run with {@code mvn -P load-test test}. See
+ * {@link LoadTestSettings} for the data set size, arrival rate and latency objectives.
+ */
+@Slf4j
+@Tag("load")
+@Import(TestcontainersConfiguration.class)
+// All load comes from one address and a few sessions, so per-client rate limits would reject most of it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.rate-limit.enabled=false")
+@DisplayName("Mixed Workload Load Test")
+class MixedWorkloadLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Test
+    @DisplayName("Should meet latency objectives at a constant arrival rate")
+    void shouldMeetLatencyObjectivesAtConstantArrivalRate() throws IOException {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        SeededData data = new LoadTestDataSeeder(databaseClient).seed(settings).block();
+
+        try (MixedWorkload workload = MixedWorkload.connect(webClientBuilder, "http://localhost:" + port, settings, data)) {
+            ConstantArrivalRateDriver driver = new ConstantArrivalRateDriver(workload, settings);
+
+            // When
+            driver.run(settings.warmup(), new LatencyRecorder());
+            LatencyRecorder recorder = new LatencyRecorder();
+            Duration elapsed = driver.run(settings.duration(), recorder);
+
+            // Then
+            LatencyReport report = LatencyReport.of(recorder, settings, elapsed);
+            report.write(settings.reportDirectory());
+            log.info("Load test results at {} requests/s, reports in {}{}{}", settings.rate(),
+                    settings.reportDirectory().toAbsolutePath(), System.lineSeparator(), report.summary());
+
+            assertThat(report.violations())
+                    .as("Operations missing their latency objective or error budget")
+                    .isEmpty();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.movie.rating.system.migration;
+
+import com.movie.rating.system.infrastructure.outbound.persistence.repository.R2dbcMovieRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks with EXPLAIN that the case-insensitive user and movie lookups can use the
+ * expression indexes from V12. Sequential scans are disabled so that the planner picks
+ * an index whenever one applies, regardless of the table size.
+ */
+@Testcontainers
+class CaseInsensitiveLookupIndexTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withDatabaseName("movie_rating_system_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Flyway flyway = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, email, password_hash, first_name, last_name)
+                    VALUES ('00000000-0000-0000-0000-000000000001', 'JohnDoe', 'john@example.com', 'hash', 'John', 'Doe')
+                    """);
+            statement.execute("""
+                    INSERT INTO movies (title, year_of_release, created_by)
+                    VALUES ('The Matrix', 1999, '00000000-0000-0000-0000-000000000001')
+                    """);
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE movies");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testMovieDuplicateCheckUsesLowerTitleIndex() throws SQLException {
+        String query = R2dbcMovieRepository.EXISTS_ACTIVE_BY_TITLE_AND_YEAR_QUERY
+                .replace(":title", "?")
+                .replace(":yearOfRelease", "?");
+
+        String plan = explain(query, "THE MATRIX", 1999);
+
+        assertTrue(plan.contains("idx_movies_active_lower_title_year"), plan);
+    }
+
+    @Test
+    void testFirstAndLastNameLookupsUseLowerIndexes() throws SQLException {
+        String firstNamePlan = explain("SELECT * FROM users WHERE LOWER(first_name) = LOWER('JOHN')");
+        String lastNamePlan = explain("SELECT * FROM users WHERE LOWER(last_name) = LOWER('doe')");
+
+        assertTrue(firstNamePlan.contains("idx_users_lower_first_name"), firstNamePlan);
+        assertTrue(lastNamePlan.contains("idx_users_lower_last_name"), lastNamePlan);
+    }
+
+    @Test
+    void testUsernameSearchUsesTrigramIndex() throws SQLException {
+        String plan = explain("SELECT * FROM users WHERE LOWER(username) LIKE LOWER(CONCAT('%', 'ohnd', '%'))");
+
+        assertTrue(plan.contains("idx_users_lower_username_trgm"), plan);
+    }
+
+    private String explain(String query, Object... parameters) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.movie.rating.system.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a populated V10 schema through V11 and checks that the existing tokens are moved
+ * into the daily partitions of the rebuilt jwt_tokens table, with revoked_at backfilled, and
+ * that the partition maintenance functions work on the result.
+ */
+@Testcontainers
+class JwtTokenPartitionMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+            .withDatabaseName("movie_rating_system_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private Connection connection;
+    private Flyway flyway;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        flyway = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .target("10")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, email, password_hash, first_name, last_name)
+                    VALUES ('00000000-0000-0000-0000-000000000001', 'JohnDoe', 'john@example.com', 'hash', 'John', 'Doe')
+                    """);
+            statement.execute("""
+                    INSERT INTO jwt_tokens (user_id, token_hash, token_type, issued_at, expires_at,
+                                            is_revoked, revoked_reason, updated_at)
+                    VALUES ('00000000-0000-0000-0000-000000000001', 'revoked-hash', 'REFRESH',
+                            now() - interval '1 hour', now() + interval '1 day',
+                            true, 'User logout', now() - interval '10 minutes'),
+                           ('00000000-0000-0000-0000-000000000001', 'active-hash', 'REFRESH',
+                            now() - interval '1 hour', now() + interval '3 days',
+                            false, NULL, now() - interval '1 hour')
+                    """);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void testExistingTokensAreMovedIntoDailyPartitions() throws SQLException {
+        flyway.migrate();
+
+        assertEquals(2, queryLong("SELECT count(*) FROM jwt_tokens"));
+        assertEquals(0, queryLong("""
+                SELECT count(*) FROM jwt_tokens
+                WHERE tableoid::regclass::text <> 'jwt_tokens_p' || to_char((expires_at AT TIME ZONE 'UTC')::date, 'YYYYMMDD')
+                """));
+        assertNull(queryString("SELECT to_regclass('jwt_tokens_unpartitioned')::text"));
+    }
+
+    @Test
+    void testRevokedAtIsBackfilledForRevokedTokens() throws SQLException {
+        flyway.migrate();
+
+        assertEquals(1, queryLong("SELECT count(*) FROM jwt_tokens WHERE token_hash = 'revoked-hash' AND revoked_at = updated_at"));
+        assertEquals(1, queryLong("SELECT count(*) FROM jwt_tokens WHERE token_hash = 'active-hash' AND revoked_at IS NULL"));
+    }
+
+    @Test
+    void testPartitionsAreCreatedAheadAndDroppedBehind() throws SQLException {
+        flyway.migrate();
+
+        assertEquals(31, queryLong("""
+                SELECT count(*) FROM generate_series(0, 30) AS day
+                WHERE to_regclass('jwt_tokens_p' || to_char((now() AT TIME ZONE 'UTC')::date + day, 'YYYYMMDD')) IS NOT NULL
+                """));
+        assertEquals(0, queryLong("""
+                SELECT create_jwt_token_partitions((now() AT TIME ZONE 'UTC')::date, (now() AT TIME ZONE 'UTC')::date + 30)
+                """));
+        assertEquals(1, queryLong("""
+                SELECT create_jwt_token_partitions((now() AT TIME ZONE 'UTC')::date + 31, (now() AT TIME ZONE 'UTC')::date + 31)
+                """));
+
+        // Dropping the partitions before the active token's expiry day removes the revoked token only
+        long dropped = queryLong("""
+                SELECT drop_jwt_token_partitions((SELECT (expires_at AT TIME ZONE 'UTC')::date FROM jwt_tokens WHERE token_hash = 'active-hash'))
+                """);
+        assertTrue(dropped >= 2, "Expected the partitions up to the revoked token's expiry day to be dropped");
+        assertEquals(1, queryLong("SELECT count(*) FROM jwt_tokens"));
+        assertEquals(1, queryLong("SELECT count(*) FROM jwt_tokens WHERE token_hash = 'active-hash'"));
+    }
+
+    private long queryLong(String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            assertTrue(resultSet.next(), query);
+            return resultSet.getLong(1);
+        }
+    }
+
+    private String queryString(String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            assertTrue(resultSet.next(), query);
+            return resultSet.getString(1);
+        }
+    }
+}